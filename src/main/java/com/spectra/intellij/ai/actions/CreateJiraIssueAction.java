@@ -6,6 +6,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.dialog.CreateIssueDialog;
 import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.service.JiraClientService;
 import com.spectra.intellij.ai.service.JiraService;
 import com.spectra.intellij.ai.settings.JiraSettings;
 import org.jetbrains.annotations.NotNull;
@@ -29,11 +30,7 @@ public class CreateJiraIssueAction extends AnAction {
             return;
         }
         
-        JiraService jiraService = new JiraService();
-        jiraService.configure(settings.getJiraUrl(), settings.getUsername(), settings.getApiToken());
-        if (settings.getDefaultProjectKey() != null && !settings.getDefaultProjectKey().trim().isEmpty()) {
-            jiraService.setProjectKey(settings.getDefaultProjectKey());
-        }
+        JiraService jiraService = JiraClientService.getInstance().getJiraService();
         
         CreateIssueDialog dialog = new CreateIssueDialog(project, jiraService);
         if (dialog.showAndGet()) {
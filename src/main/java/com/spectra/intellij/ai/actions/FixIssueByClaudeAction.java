@@ -4,8 +4,7 @@ import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
-import com.spectra.intellij.ai.service.AccessLogService;
-import com.spectra.intellij.ai.service.JiraService;
+import com.spectra.intellij.ai.service.JiraClientService;
 import com.spectra.intellij.ai.settings.JiraSettings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.plugins.terminal.TerminalToolWindowManager;
@@ -16,26 +15,9 @@ public class FixIssueByClaudeAction extends AnAction {
 
     private String issueKey;
     private Project project;
-    private AccessLogService accessLogService;
 
     public FixIssueByClaudeAction() {
         super("Fix issue (by claude)");
-        initializeAccessLogService();
-    }
-
-    private void initializeAccessLogService() {
-        try {
-            JiraSettings settings = JiraSettings.getInstance();
-            JiraService jiraService = new JiraService();
-            jiraService.configure(settings.getJiraUrl(), settings.getUsername(), settings.getApiToken());
-            this.accessLogService = new AccessLogService(
-                new okhttp3.OkHttpClient(),
-                new com.google.gson.Gson(),
-                jiraService
-            );
-        } catch (Exception e) {
-            System.err.println("Failed to initialize AccessLogService: " + e.getMessage());
-        }
     }
 
     public void setIssueKey(String issueKey) {
@@ -67,9 +49,7 @@ public class FixIssueByClaudeAction extends AnAction {
             System.out.println("Executing command: " + command);
 
             // Send access log
-            if (accessLogService != null) {
-                accessLogService.sendAccessLog("Fix issue (by Claude)", command);
-            }
+            JiraClientService.getInstance().getAccessLogService().sendAccessLog("Fix issue (by Claude)", command);
 
             // Open terminal and execute command
             ApplicationManager.getApplication().invokeLater(() -> {
@@ -7,6 +7,7 @@ import com.spectra.intellij.ai.model.JiraIssue;
 import com.spectra.intellij.ai.model.JiraSprint;
 import com.spectra.intellij.ai.model.JiraEpic;
 import com.spectra.intellij.ai.model.AIRecommendationResponse;
+import com.spectra.intellij.ai.service.AiUnavailableException;
 import com.spectra.intellij.ai.service.JiraService;
 import com.spectra.intellij.ai.settings.JiraSettings;
 import com.spectra.intellij.ai.settings.RecentJiraSettings;
@@ -18,6 +19,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CreateIssueDialog extends DialogWrapper {
     
@@ -297,57 +299,45 @@ public class CreateIssueDialog extends DialogWrapper {
         // Save current selections
         JiraSprint currentSprint = (JiraSprint) sprintComboBox.getSelectedItem();
         String currentIssueType = (String) issueTypeComboBox.getSelectedItem();
-        
+
+        // Render from the HTTP cache first; the network loads below revalidate and replace the cached lists
+        AtomicBoolean sprintsShown = new AtomicBoolean();
+        AtomicBoolean issueTypesShown = new AtomicBoolean();
+
+        jiraService.getCachedSprintsAsync()
+            .thenAccept(sprints -> SwingUtilities.invokeLater(() -> {
+                if (sprintsShown.compareAndSet(false, true)) {
+                    showSprints(sprints, currentSprint);
+                }
+            }));
+        jiraService.getCachedIssueTypesAsync()
+            .thenAccept(issueTypes -> SwingUtilities.invokeLater(() -> {
+                if (issueTypesShown.compareAndSet(false, true)) {
+                    showIssueTypes(issueTypes, currentIssueType);
+                }
+            }));
+
         // Load sprints
         jiraService.getSprintsAsync()
                 .thenAccept(sprints -> {
                     SwingUtilities.invokeLater(() -> {
-                        sprintComboBox.removeAllItems();
-                        
-                        // Filter to show only non-closed sprints
-                        for (JiraSprint sprint : sprints) {
-                            if (!"closed".equalsIgnoreCase(sprint.getState())) {
-                                sprintComboBox.addItem(sprint);
-                            }
-                        }
-                        
-                        // Prioritize preselected sprint, then recent sprint selection
-                        if (preselectedSprint != null) {
-                            // First priority: preselected sprint from tool window
-                            for (int i = 0; i < sprintComboBox.getItemCount(); i++) {
-                                JiraSprint item = sprintComboBox.getItemAt(i);
-                                if (item.getId().equals(preselectedSprint.getId())) {
-                                    sprintComboBox.setSelectedItem(item);
-                                    break;
-                                }
-                            }
-                        } else {
-                            // Second priority: recent sprint selection
-                            RecentJiraSettings recentSettings = RecentJiraSettings.getInstance();
-                            String lastSprintId = recentSettings.getLastUsedSprintId();
-                            if (!lastSprintId.isEmpty()) {
-                                for (int i = 0; i < sprintComboBox.getItemCount(); i++) {
-                                    JiraSprint item = sprintComboBox.getItemAt(i);
-                                    if (item.getId().equals(lastSprintId)) {
-                                        sprintComboBox.setSelectedItem(item);
-                                        break;
-                                    }
-                                }
-                            } else if (currentSprint != null) {
-                                // Try to restore current selection if it exists
-                                for (int i = 0; i < sprintComboBox.getItemCount(); i++) {
-                                    JiraSprint item = sprintComboBox.getItemAt(i);
-                                    if (item.getId().equals(currentSprint.getId())) {
-                                        sprintComboBox.setSelectedItem(item);
-                                        break;
-                                    }
-                                }
-                            }
+                        // Keep whatever is selected in the cached list (possibly by the user) if it still exists
+                        JiraSprint selectedSprint = sprintsShown.getAndSet(true)
+                            ? (JiraSprint) sprintComboBox.getSelectedItem()
+                            : null;
+                        showSprints(sprints, currentSprint);
+                        if (selectedSprint != null) {
+                            selectSprint(selectedSprint.getId());
                         }
                     });
                 })
                 .exceptionally(throwable -> {
                     SwingUtilities.invokeLater(() -> {
+                        if (sprintsShown.get()) {
+                            // Cached sprints are on screen; keep them
+                            System.err.println("Failed to revalidate sprints: " + throwable.getMessage());
+                            return;
+                        }
                         Messages.showErrorDialog(project, "Failed to load sprints: " + throwable.getMessage(), "Error");
                     });
                     return null;
@@ -359,26 +349,22 @@ public class CreateIssueDialog extends DialogWrapper {
         jiraService.getIssueTypesAsync()
             .thenAccept(issueTypes -> {
                 SwingUtilities.invokeLater(() -> {
-                    this.issueTypesMap = issueTypes; // Store the map
-                    issueTypeComboBox.removeAllItems();
-                    for (String issueTypeName : issueTypes.keySet()) {
-                        issueTypeComboBox.addItem(issueTypeName);
-                    }
-                    
-                    // Restore recent issue type selection
-                    RecentJiraSettings recentSettings = RecentJiraSettings.getInstance();
-                    String lastIssueType = recentSettings.getLastUsedIssueTypeName();
-                    if (!lastIssueType.isEmpty() && issueTypes.containsKey(lastIssueType)) {
-                        issueTypeComboBox.setSelectedItem(lastIssueType);
-                    } else if (currentIssueType != null && issueTypes.containsKey(currentIssueType)) {
-                        issueTypeComboBox.setSelectedItem(currentIssueType);
-                    } else if (issueTypes.containsKey("Task")) {
-                        issueTypeComboBox.setSelectedItem("Task");
+                    String selectedIssueType = issueTypesShown.getAndSet(true)
+                        ? (String) issueTypeComboBox.getSelectedItem()
+                        : null;
+                    showIssueTypes(issueTypes, currentIssueType);
+                    if (selectedIssueType != null && issueTypes.containsKey(selectedIssueType)) {
+                        issueTypeComboBox.setSelectedItem(selectedIssueType);
                     }
                 });
             })
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
+                    if (issueTypesShown.get()) {
+                        // Cached issue types are on screen; keep them
+                        System.err.println("Failed to revalidate issue types: " + throwable.getMessage());
+                        return;
+                    }
                     Messages.showErrorDialog(project, "Failed to load issue types: " + throwable.getMessage(), "Error");
                     // Add default issue types as fallback
                     issueTypeComboBox.addItem("Task");
@@ -405,6 +391,62 @@ public class CreateIssueDialog extends DialogWrapper {
             });
     }
 
+    private void showSprints(List<JiraSprint> sprints, JiraSprint currentSprint) {
+        sprintComboBox.removeAllItems();
+
+        // Filter to show only non-closed sprints
+        for (JiraSprint sprint : sprints) {
+            if (!"closed".equalsIgnoreCase(sprint.getState())) {
+                sprintComboBox.addItem(sprint);
+            }
+        }
+
+        // Prioritize preselected sprint, then recent sprint selection
+        if (preselectedSprint != null) {
+            // First priority: preselected sprint from tool window
+            selectSprint(preselectedSprint.getId());
+        } else {
+            // Second priority: recent sprint selection
+            RecentJiraSettings recentSettings = RecentJiraSettings.getInstance();
+            String lastSprintId = recentSettings.getLastUsedSprintId();
+            if (!lastSprintId.isEmpty()) {
+                selectSprint(lastSprintId);
+            } else if (currentSprint != null) {
+                // Try to restore current selection if it exists
+                selectSprint(currentSprint.getId());
+            }
+        }
+    }
+
+    private void selectSprint(String sprintId) {
+        for (int i = 0; i < sprintComboBox.getItemCount(); i++) {
+            JiraSprint item = sprintComboBox.getItemAt(i);
+            if (item.getId().equals(sprintId)) {
+                sprintComboBox.setSelectedItem(item);
+                break;
+            }
+        }
+    }
+
+    private void showIssueTypes(Map<String, String> issueTypes, String currentIssueType) {
+        this.issueTypesMap = issueTypes; // Store the map
+        issueTypeComboBox.removeAllItems();
+        for (String issueTypeName : issueTypes.keySet()) {
+            issueTypeComboBox.addItem(issueTypeName);
+        }
+
+        // Restore recent issue type selection
+        RecentJiraSettings recentSettings = RecentJiraSettings.getInstance();
+        String lastIssueType = recentSettings.getLastUsedIssueTypeName();
+        if (!lastIssueType.isEmpty() && issueTypes.containsKey(lastIssueType)) {
+            issueTypeComboBox.setSelectedItem(lastIssueType);
+        } else if (currentIssueType != null && issueTypes.containsKey(currentIssueType)) {
+            issueTypeComboBox.setSelectedItem(currentIssueType);
+        } else if (issueTypes.containsKey("Task")) {
+            issueTypeComboBox.setSelectedItem("Task");
+        }
+    }
+
     private void showAssigneeSearchDialog() {
         jiraService.getProjectUsersAsync(jiraService.getProjectKey())
             .thenAccept(users -> SwingUtilities.invokeLater(() -> {
@@ -739,6 +781,11 @@ public class CreateIssueDialog extends DialogWrapper {
                     aiRecommendEpicButton.setEnabled(true);
                     aiRecommendEpicButton.setText("AI 추천");
                     
+                    AiUnavailableException unavailable = AiUnavailableException.find(throwable);
+                    if (unavailable != null) {
+                        Messages.showWarningDialog(project, unavailable.getMessage(), "AI 사용 불가");
+                        return;
+                    }
                     String errorMessage = "AI 추천 중 오류가 발생했습니다: " + throwable.getMessage();
                     Messages.showErrorDialog(project, errorMessage, "AI 추천 오류");
                 });
@@ -840,6 +887,11 @@ public class CreateIssueDialog extends DialogWrapper {
                     aiGenerateButton.setEnabled(true);
                     aiGenerateButton.setText("(AI) 내용 자동 생성");
                     
+                    AiUnavailableException unavailable = AiUnavailableException.find(throwable);
+                    if (unavailable != null) {
+                        Messages.showWarningDialog(project, unavailable.getMessage(), "AI 사용 불가");
+                        return;
+                    }
                     String errorMessage = "AI 작업 생성 중 오류가 발생했습니다: " + throwable.getMessage();
                     Messages.showErrorDialog(project, errorMessage, "AI 작업 생성 오류");
                 });
@@ -230,14 +230,11 @@ public class JiraIssueDetailDialog extends DialogWrapper {
     }
     
     private void findAccountIdForSelectedUser(String displayName) {
-        jiraService.searchUsersAsync(displayName)
-            .thenAccept(users -> {
+        jiraService.findAccountIdAsync(displayName)
+            .thenAccept(accountId -> {
                 SwingUtilities.invokeLater(() -> {
-                    for (JsonObject user : users) {
-                        if (user.has("displayName") && displayName.equals(user.get("displayName").getAsString())) {
-                            selectedAssigneeAccountId = user.get("accountId").getAsString();
-                            break;
-                        }
+                    if (accountId != null) {
+                        selectedAssigneeAccountId = accountId;
                     }
                 });
             })
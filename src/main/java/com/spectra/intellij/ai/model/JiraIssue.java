@@ -20,6 +20,7 @@ public class JiraIssue {
     private String epicColor;
     private String priorityIconUrl;
     private String assigneeAvatarUrl;
+    private String updated;
 
     public JiraIssue() {}
 
@@ -181,6 +182,17 @@ public class JiraIssue {
         this.assigneeAvatarUrl = assigneeAvatarUrl;
     }
 
+    /**
+     * Time of the last change as Jira reports it, e.g. {@code 2024-05-02T14:03:11.402+0900}.
+     */
+    public String getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(String updated) {
+        this.updated = updated;
+    }
+
     @Override
     public String toString() {
         return key + " - " + summary;
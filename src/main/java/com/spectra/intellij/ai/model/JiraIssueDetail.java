@@ -0,0 +1,44 @@
+package com.spectra.intellij.ai.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything the issue detail view needs, read with a single request: the issue, the statuses it can be moved to
+ * (its current status first) and its parent Epic.
+ */
+public final class JiraIssueDetail {
+    private final JiraIssue issue;
+    private final List<String> availableStatuses;
+    private final JiraEpic parentEpic;
+
+    public JiraIssueDetail(JiraIssue issue, List<String> availableStatuses, JiraEpic parentEpic) {
+        this.issue = issue;
+        this.availableStatuses = Collections.unmodifiableList(new ArrayList<>(availableStatuses));
+        this.parentEpic = parentEpic;
+    }
+
+    public JiraIssue getIssue() {
+        return issue;
+    }
+
+    public List<String> getAvailableStatuses() {
+        return availableStatuses;
+    }
+
+    /**
+     * The parent Epic with summary and color, or null when the issue has no parent or the Epic was not known when
+     * the detail was read.
+     */
+    public JiraEpic getParentEpic() {
+        return parentEpic;
+    }
+
+    /**
+     * True when the issue has a parent whose summary and color still have to be looked up.
+     */
+    public boolean isParentEpicPending() {
+        return issue.getParentKey() != null && parentEpic == null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.spectra.intellij.ai.model;
+
+public class JiraUser {
+    private String accountId;
+    private String displayName;
+    private String emailAddress;
+    private String avatarUrl;
+
+    public JiraUser() {}
+
+    public JiraUser(String accountId, String displayName) {
+        this.accountId = accountId;
+        this.displayName = displayName;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public void setEmailAddress(String emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public void setAvatarUrl(String avatarUrl) {
+        this.avatarUrl = avatarUrl;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
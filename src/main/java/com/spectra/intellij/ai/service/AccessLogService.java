@@ -1,71 +1,71 @@
 package com.spectra.intellij.ai.service;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.spectra.intellij.ai.model.AccessLogRequest;
 import com.spectra.intellij.ai.model.SimpleUserInfo;
-import okhttp3.*;
 
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Records access-log events for one Jira account. Events are handed to the shared {@link AccessLogShipper}, which
+ * batches and sends them in the background; the account's user info is looked up once per session.
+ */
 public class AccessLogService {
-    private static final String ACCESS_LOG_URL = "http://172.16.120.182:8001/accesslog";
 
-    private final OkHttpClient client;
     private final Gson gson;
     private final JiraService jiraService;
 
-    public AccessLogService(OkHttpClient client, Gson gson, JiraService jiraService) {
-        this.client = client;
+    private volatile AccessLogShipper shipper;
+    // Encoded user info of this session; a failed lookup is retried with the next event
+    private volatile CompletableFuture<String> userInfo;
+
+    AccessLogService(Gson gson, JiraService jiraService) {
         this.gson = gson;
         this.jiraService = jiraService;
     }
 
-    public CompletableFuture<Void> sendAccessLog(String title, String content) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // Get current user information
-                JsonObject currentUser = jiraService.getCurrentUser();
-                String emailAddress = currentUser.has("emailAddress") ? currentUser.get("emailAddress").getAsString() : "";
-                String displayName = currentUser.has("displayName") ? currentUser.get("displayName").getAsString() : "";
-
-                SimpleUserInfo userInfo = new SimpleUserInfo(emailAddress, displayName);
-                String encodedUserInfo = encodeUserInfo(userInfo);
-
-                AccessLogRequest accessLog = new AccessLogRequest("intellij", title, content, encodedUserInfo);
-
-                RequestBody body = RequestBody.create(
-                    gson.toJson(accessLog),
-                    MediaType.parse("application/json")
-                );
+    void setShipper(AccessLogShipper shipper) {
+        this.shipper = shipper;
+    }
 
-                Request request = new Request.Builder()
-                    .url(ACCESS_LOG_URL)
-                    .post(body)
-                    .addHeader("Content-Type", "application/json")
-                    .build();
+    /**
+     * Records an event. Returns at once: the event is sent later, and dropped if it cannot be delivered.
+     */
+    public void sendAccessLog(String title, String content) {
+        AccessLogShipper target = shipper;
+        if (target != null) {
+            target.offer(this, title, content);
+        }
+    }
 
-                logRequest("POST", ACCESS_LOG_URL, gson.toJson(accessLog));
+    /**
+     * Forgets the session's user info, e.g. after the credentials changed.
+     */
+    void resetUserInfo() {
+        userInfo = null;
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        System.err.println("Failed to send access log: " + response.code());
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("Error sending access log: " + e.getMessage());
-            }
-        });
+    CompletableFuture<String> getUserInfo() {
+        CompletableFuture<String> current = userInfo;
+        if (current == null || current.isCompletedExceptionally()) {
+            current = jiraService.getCurrentUserAsync().thenApply(currentUser -> {
+                String emailAddress = currentUser.has("emailAddress") ? currentUser.get("emailAddress").getAsString() : "";
+                String displayName = currentUser.has("displayName") ? currentUser.get("displayName").getAsString() : "";
+                return encodeUserInfo(new SimpleUserInfo(emailAddress, displayName));
+            });
+            userInfo = current;
+        }
+        return current;
     }
 
-    private void logRequest(String method, String url, String body) {
-        System.out.println("##### [HTTP Request] #####");
-        System.out.println("[url] " + method + " " + url);
-        System.out.println("[body] " + body);
+    /**
+     * The user info if it has been looked up already, otherwise null.
+     */
+    String getUserInfoNow() {
+        CompletableFuture<String> current = userInfo;
+        return current != null && current.isDone() && !current.isCompletedExceptionally() ? current.join() : null;
     }
 
     private String encodeUserInfo(SimpleUserInfo userInfo) {
@@ -0,0 +1,371 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import com.intellij.openapi.diagnostic.Logger;
+import com.spectra.intellij.ai.model.AccessLogRequest;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Ships access-log events to the AI server in the background, shared by every {@link AccessLogService}.
+ * <p>
+ * Recording an event only appends it to a bounded in-memory ring (the oldest event is dropped when it is full); all
+ * other work happens on the I/O executor. The ring is flushed when it holds {@link #BATCH_SIZE} events and every
+ * {@link #FLUSH_INTERVAL_SECONDS} seconds. The access-log endpoint takes one document per request, so a flush posts
+ * its events one after the other: there is never more than one access-log request in flight, whatever the number of
+ * events.
+ * <p>
+ * When the server cannot be reached (network failure, 5xx, 429, open circuit breaker), the unsent events are
+ * appended to a spool file and the server is left alone for a growing backoff. The next successful flush sends the
+ * spooled events first. The spool is capped at {@link #SPOOL_LIMIT} events, keeping the newest.
+ */
+final class AccessLogShipper {
+
+    private static final Logger LOG = Logger.getInstance(AccessLogShipper.class);
+
+    static final int BUFFER_CAPACITY = 500;
+    static final int BATCH_SIZE = 20;
+    static final long FLUSH_INTERVAL_SECONDS = 10;
+    static final int SPOOL_LIMIT = 2000;
+    private static final long MIN_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final AsyncCallExecutor calls;
+    private final Gson gson;
+    private final Executor ioExecutor;
+    private final Function<RequestBody, Request> requestFactory;
+    private final Path spoolFile;
+
+    // Guarded by itself
+    private final Deque<Event> buffer = new ArrayDeque<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    // Touched by the flush only, which never runs concurrently with itself
+    private long backoffMillis;
+    private long retryAt;
+    // Written under this (the flush and close() both write the spool)
+    private volatile int spooledEvents = -1; // -1: spool file not counted yet
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    AccessLogShipper(AsyncCallExecutor calls, Gson gson, ScheduledExecutorService scheduler, Executor ioExecutor,
+                     Function<RequestBody, Request> requestFactory, File spoolFile) {
+        this.calls = calls;
+        this.gson = gson;
+        this.ioExecutor = ioExecutor;
+        this.requestFactory = requestFactory;
+        this.spoolFile = spoolFile != null ? spoolFile.toPath() : null;
+        scheduler.scheduleWithFixedDelay(this::requestFlush, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records an event. Never blocks and never does I/O on the calling thread.
+     */
+    void offer(AccessLogService source, String title, String content) {
+        int size;
+        synchronized (buffer) {
+            if (buffer.size() >= BUFFER_CAPACITY) {
+                buffer.pollFirst();
+                dropped.incrementAndGet();
+            }
+            buffer.addLast(new Event(source, title, content));
+            size = buffer.size();
+        }
+        if (size >= BATCH_SIZE) {
+            requestFlush();
+        }
+    }
+
+    /** Events delivered to the server. */
+    long getSentCount() {
+        return sent.get();
+    }
+
+    /** Events lost because the ring or the spool was full, or the user could not be resolved. */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes the events still in memory to the spool; called when the IDE shuts down. Events whose user is not
+     * resolved yet are dropped.
+     */
+    void close() {
+        List<AccessLogRequest> documents = new ArrayList<>();
+        for (Event event : drain(Integer.MAX_VALUE)) {
+            String userInfo = event.source.getUserInfoNow();
+            if (userInfo != null) {
+                documents.add(event.toDocument(userInfo));
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+        spool(documents);
+    }
+
+    private void requestFlush() {
+        flushRequested.set(true);
+        if (flushing.compareAndSet(false, true)) {
+            ioExecutor.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        List<Event> batch = drain(BUFFER_CAPACITY);
+        if (batch.isEmpty() && spooledEvents == 0) {
+            finishFlush();
+            return;
+        }
+        resolve(batch).thenComposeAsync(documents -> {
+            if (System.currentTimeMillis() < retryAt) {
+                // Server known to be down: keep the events without contacting it
+                spool(documents);
+                return CompletableFuture.completedFuture(null);
+            }
+            List<AccessLogRequest> pending = new ArrayList<>(readSpool());
+            pending.addAll(documents);
+            if (pending.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return send(pending, 0).thenAcceptAsync(delivered -> {
+                List<AccessLogRequest> unsent = pending.subList(delivered, pending.size());
+                if (unsent.isEmpty()) {
+                    backoffMillis = 0;
+                    retryAt = 0;
+                    clearSpool();
+                } else {
+                    backoffMillis = backoffMillis == 0 ? MIN_BACKOFF_MILLIS : Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+                    retryAt = System.currentTimeMillis() + backoffMillis;
+                    replaceSpool(unsent);
+                }
+            }, ioExecutor);
+        }, ioExecutor).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                LOG.warn("Error sending access log: " + AsyncCallExecutor.unwrap(failure).getMessage());
+            }
+            finishFlush();
+        });
+    }
+
+    private void finishFlush() {
+        flushing.set(false);
+        boolean more;
+        synchronized (buffer) {
+            more = buffer.size() >= BATCH_SIZE;
+        }
+        if (more || flushRequested.get()) {
+            requestFlush();
+        }
+    }
+
+    private List<Event> drain(int max) {
+        List<Event> batch = new ArrayList<>();
+        synchronized (buffer) {
+            while (!buffer.isEmpty() && batch.size() < max) {
+                batch.add(buffer.pollFirst());
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Turns events into documents with the user info of their service, looked up once per session. Events whose
+     * user cannot be resolved are dropped, as they were when every event looked the user up itself.
+     */
+    private CompletableFuture<List<AccessLogRequest>> resolve(List<Event> batch) {
+        List<CompletableFuture<AccessLogRequest>> documents = new ArrayList<>();
+        for (Event event : batch) {
+            documents.add(event.source.getUserInfo().handle((userInfo, failure) -> {
+                if (failure != null) {
+                    dropped.incrementAndGet();
+                    LOG.warn("Error sending access log: " + AsyncCallExecutor.unwrap(failure).getMessage());
+                    return null;
+                }
+                return event.toDocument(userInfo);
+            }));
+        }
+        return CompletableFuture.allOf(documents.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<AccessLogRequest> resolved = new ArrayList<>();
+            for (CompletableFuture<AccessLogRequest> document : documents) {
+                if (document.join() != null) {
+                    resolved.add(document.join());
+                }
+            }
+            return resolved;
+        });
+    }
+
+    /**
+     * Posts {@code documents} from {@code index} on, one at a time, and completes with the index of the first
+     * document that could not be delivered (the size when all were).
+     */
+    private CompletableFuture<Integer> send(List<AccessLogRequest> documents, int index) {
+        if (index >= documents.size()) {
+            return CompletableFuture.completedFuture(index);
+        }
+        String json = gson.toJson(documents.get(index));
+        Request request = requestFactory.apply(RequestBody.create(json, JSON));
+        logRequest("POST", request.url().toString(), json);
+
+        CompletableFuture<Boolean> posted = calls.execute(request, response -> {
+            if (response.isSuccessful()) {
+                return true;
+            }
+            if (response.code() >= 500 || response.code() == 429) {
+                throw new IOException("Failed to send access log: " + response.code());
+            }
+            // Rejected document: resending it would not help
+            LOG.warn("Failed to send access log: " + response.code());
+            return false;
+        });
+        return posted.handle((delivered, failure) -> {
+            if (failure != null) {
+                LOG.warn("Access log server unavailable, spooling: " + AsyncCallExecutor.unwrap(failure).getMessage());
+                return CompletableFuture.completedFuture(index);
+            }
+            if (delivered) {
+                sent.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+            return send(documents, index + 1);
+        }).thenCompose(next -> next);
+    }
+
+    private synchronized List<AccessLogRequest> readSpool() {
+        if (spoolFile == null || spooledEvents == 0 || !Files.isRegularFile(spoolFile)) {
+            spooledEvents = 0;
+            return new ArrayList<>();
+        }
+        List<AccessLogRequest> documents = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(spoolFile, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    documents.add(gson.fromJson(line, AccessLogRequest.class));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to read access log spool: " + e.getMessage());
+        }
+        spooledEvents = documents.size();
+        return documents;
+    }
+
+    private synchronized void spool(List<AccessLogRequest> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        if (spoolFile == null) {
+            dropped.addAndGet(documents.size());
+            return;
+        }
+        if (spooledEvents < 0) {
+            spooledEvents = readSpool().size();
+        }
+        if (spooledEvents + documents.size() > SPOOL_LIMIT) {
+            List<AccessLogRequest> all = readSpool();
+            all.addAll(documents);
+            replaceSpool(all);
+            return;
+        }
+        try {
+            Files.createDirectories(spoolFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AccessLogRequest document : documents) {
+                    writer.write(gson.toJson(document));
+                    writer.newLine();
+                }
+            }
+            spooledEvents += documents.size();
+        } catch (IOException e) {
+            dropped.addAndGet(documents.size());
+            LOG.warn("Failed to spool access log: " + e.getMessage());
+        }
+    }
+
+    private synchronized void replaceSpool(List<AccessLogRequest> documents) {
+        if (spoolFile == null) {
+            dropped.addAndGet(documents.size());
+            return;
+        }
+        List<AccessLogRequest> kept = documents;
+        if (kept.size() > SPOOL_LIMIT) {
+            dropped.addAndGet(kept.size() - SPOOL_LIMIT);
+            kept = kept.subList(kept.size() - SPOOL_LIMIT, kept.size());
+        }
+        try {
+            Files.createDirectories(spoolFile.getParent());
+            Path temp = spoolFile.resolveSibling(spoolFile.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (AccessLogRequest document : kept) {
+                    writer.write(gson.toJson(document));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, spoolFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            spooledEvents = kept.size();
+        } catch (IOException e) {
+            LOG.warn("Failed to spool access log: " + e.getMessage());
+        }
+    }
+
+    private synchronized void clearSpool() {
+        if (spoolFile == null || spooledEvents == 0) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+            spooledEvents = 0;
+        } catch (IOException e) {
+            LOG.warn("Failed to clear access log spool: " + e.getMessage());
+        }
+    }
+
+    private void logRequest(String method, String url, String body) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(method + " " + url + " " + body);
+        }
+    }
+
+    private static final class Event {
+        final AccessLogService source;
+        final String title;
+        final String content;
+
+        Event(AccessLogService source, String title, String content) {
+            this.source = source;
+            this.title = title;
+            this.content = content;
+        }
+
+        AccessLogRequest toDocument(String userInfo) {
+            return new AccessLogRequest("intellij", title, content, userInfo);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Endpoints of the internal AI server. Requests tagged with one of these go through the AI server's
+ * {@link CircuitBreaker} and get the endpoint's timeouts instead of OkHttp's defaults.
+ */
+enum AiEndpoint {
+    EPIC_RECOMMENDATION("/jira/epic/suggest", false),
+    DESCRIPTION("/jira/description/generate", false),
+    WORK_DESCRIPTION("/jira/issues/generate_description", false),
+    // Fire-and-forget; must never hold up the action it records
+    ACCESS_LOG("/accesslog", true);
+
+    private static final long ACCESS_LOG_READ_MILLIS = 3_000;
+    // Slack on top of connect + read for DNS and writing the request body
+    private static final long CALL_SLACK_MILLIS = 5_000;
+
+    private final String path;
+    private final boolean background;
+
+    AiEndpoint(String path, boolean background) {
+        this.path = path;
+        this.background = background;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Timeouts for this endpoint from the configured AI connect and response timeouts (seconds).
+     */
+    CallTimeouts timeouts(int connectTimeoutSeconds, int responseTimeoutSeconds) {
+        long connect = TimeUnit.SECONDS.toMillis(connectTimeoutSeconds);
+        long read = background
+            ? Math.min(ACCESS_LOG_READ_MILLIS, TimeUnit.SECONDS.toMillis(responseTimeoutSeconds))
+            : TimeUnit.SECONDS.toMillis(responseTimeoutSeconds);
+        return new CallTimeouts(connect, read, connect + read + CALL_SLACK_MILLIS);
+    }
+}
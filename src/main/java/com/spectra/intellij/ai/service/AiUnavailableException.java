@@ -0,0 +1,25 @@
+package com.spectra.intellij.ai.service;
+
+import java.io.IOException;
+
+/**
+ * Raised without touching the network while the AI server's circuit is open.
+ */
+public class AiUnavailableException extends IOException {
+
+    AiUnavailableException(String host, long retryInMillis) {
+        super("AI 서버(" + host + ")를 사용할 수 없습니다. " + Math.max(1, retryInMillis / 1000) + "초 후 다시 시도하세요.");
+    }
+
+    /**
+     * Finds an AiUnavailableException in the cause chain of a failed future, or returns null.
+     */
+    public static AiUnavailableException find(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof AiUnavailableException) {
+                return (AiUnavailableException) current;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,319 @@
+package com.spectra.intellij.ai.service;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking HTTP execution on top of {@link Call#enqueue}.
+ * <p>
+ * Network I/O happens on OkHttp's dispatcher; response bodies are read and parsed on a bounded plugin-owned executor.
+ * No thread waits on a socket, so callers can chain requests with {@code thenCompose} freely.
+ */
+class AsyncCallExecutor {
+
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final OkHttpClient client;
+    private final Executor parseExecutor;
+    private final RateLimiter rateLimiter;
+    private final ScheduledExecutorService scheduler;
+    private final CircuitBreakerRegistry circuitBreakers;
+    // Derived clients for requests with their own timeouts; they share the pool, dispatcher and cache
+    private final Map<CallTimeouts, OkHttpClient> clientsByTimeouts = new ConcurrentHashMap<>();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong throttledResponses = new AtomicLong();
+
+    AsyncCallExecutor(OkHttpClient client, Executor parseExecutor, RateLimiter rateLimiter,
+                      ScheduledExecutorService scheduler, CircuitBreakerRegistry circuitBreakers) {
+        this.client = client;
+        this.parseExecutor = parseExecutor;
+        this.rateLimiter = rateLimiter;
+        this.scheduler = scheduler;
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    /**
+     * Enqueues the request and completes the returned future with the parser's result, or exceptionally with the
+     * {@link IOException} raised by the network or the parser.
+     * <p>
+     * Every attempt first takes a permit from the shared {@link RateLimiter}. Throttled and failed attempts are
+     * retried with jittered exponential backoff (or after the server's {@code Retry-After}) as the request's
+     * {@link RetryPolicy} allows; the parser only ever sees the final response.
+     * <p>
+     * Requests tagged with an {@link AiEndpoint} go through their host's {@link CircuitBreaker} and fail immediately
+     * with {@link AiUnavailableException} while it is open. A {@link CallTimeouts} tag overrides the client's
+     * timeouts for that request.
+     * <p>
+     * Cancelling the returned future cancels the OkHttp call that is on the wire, or the pending attempt.
+     */
+    <T> CompletableFuture<T> execute(Request request, ResponseParser<T> parser) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicReference<Call> currentCall = new AtomicReference<>();
+        future.whenComplete((value, throwable) -> {
+            Call call = currentCall.get();
+            if (future.isCancelled() && call != null) {
+                call.cancel();
+            }
+        });
+        attempt(request, parser, future, currentCall, 1);
+        return future;
+    }
+
+    private <T> void attempt(Request request, ResponseParser<T> parser, CompletableFuture<T> future,
+                             AtomicReference<Call> currentCall, int attempt) {
+        // Cache-only reads never reach the server, so they neither need a permit nor benefit from a retry
+        boolean cacheOnly = request.cacheControl().onlyIfCached();
+        CircuitBreaker breaker = request.tag(AiEndpoint.class) != null ? circuitBreakers.get(request.url().host()) : null;
+        if (breaker != null && !breaker.tryAcquire()) {
+            future.completeExceptionally(new AiUnavailableException(request.url().host(), breaker.getRemainingOpenMillis()));
+            return;
+        }
+        CompletableFuture<Void> permit = cacheOnly
+            ? CompletableFuture.completedFuture(null)
+            : rateLimiter.acquire(request.url().host());
+        cancelWith(future, permit);
+        permit.thenRun(() -> {
+            if (future.isDone()) {
+                if (breaker != null) {
+                    breaker.onAbandoned();
+                }
+                return;
+            }
+            Call newCall = clientFor(request).newCall(request);
+            currentCall.set(newCall);
+            if (future.isCancelled()) {
+                // Cancelled between the check above and publishing the call
+                newCall.cancel();
+            }
+            newCall.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    if (breaker != null) {
+                        if (call.isCanceled()) {
+                            breaker.onAbandoned();
+                        } else {
+                            breaker.onFailure(e.toString());
+                        }
+                    }
+                    RetryPolicy policy = RetryPolicy.of(request);
+                    if (!call.isCanceled() && !cacheOnly && attempt < MAX_ATTEMPTS && policy.retriesNetworkFailure()) {
+                        retryLater(request, parser, future, currentCall, attempt, backoffMillis(attempt));
+                    } else {
+                        future.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    if (breaker != null) {
+                        // A 4xx means the server is up and answering; only 5xx counts against it
+                        if (response.code() >= 500) {
+                            breaker.onFailure("HTTP " + response.code());
+                        } else {
+                            breaker.onSuccess();
+                        }
+                    }
+                    if (!cacheOnly) {
+                        rateLimiter.onResponse(request.url().host(), response);
+                        if (response.code() == 429) {
+                            throttledResponses.incrementAndGet();
+                        }
+                        if (attempt < MAX_ATTEMPTS && RetryPolicy.of(request).retriesStatus(response.code())) {
+                            long retryAfter = RateLimiter.retryAfterMillis(response, System.currentTimeMillis());
+                            response.close();
+                            long delay = retryAfter > 0
+                                ? retryAfter + ThreadLocalRandom.current().nextLong(250)
+                                : backoffMillis(attempt);
+                            retryLater(request, parser, future, currentCall, attempt, delay);
+                            return;
+                        }
+                    }
+                    try {
+                        parseExecutor.execute(() -> parse(response, parser, future));
+                    } catch (RejectedExecutionException e) {
+                        response.close();
+                        future.completeExceptionally(new IOException("Response parser is shut down", e));
+                    }
+                }
+            });
+        });
+    }
+
+    private OkHttpClient clientFor(Request request) {
+        CallTimeouts timeouts = request.tag(CallTimeouts.class);
+        if (timeouts == null) {
+            return client;
+        }
+        return clientsByTimeouts.computeIfAbsent(timeouts, t -> client.newBuilder()
+            .connectTimeout(t.getConnectMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(t.getReadMillis(), TimeUnit.MILLISECONDS)
+            .writeTimeout(t.getReadMillis(), TimeUnit.MILLISECONDS)
+            .callTimeout(t.getCallMillis(), TimeUnit.MILLISECONDS)
+            .build());
+    }
+
+    private <T> void retryLater(Request request, ResponseParser<T> parser, CompletableFuture<T> future,
+                                AtomicReference<Call> currentCall, int attempt, long delayMillis) {
+        retries.incrementAndGet();
+        try {
+            scheduler.schedule(() -> attempt(request, parser, future, currentCall, attempt + 1), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IOException("Request scheduler is shut down", e));
+        }
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of {@code base * 2^(attempt-1)}, capped.
+     */
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    /** The scheduler used for backoff delays, shared with components that need timers. */
+    ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /** Attempts that were sent again after throttling or a transient failure. */
+    long getRetries() {
+        return retries.get();
+    }
+
+    /** 429 responses received from the server. */
+    long getThrottledResponses() {
+        return throttledResponses.get();
+    }
+
+    private static <T> void parse(Response response, ResponseParser<T> parser, CompletableFuture<T> future) {
+        try (response) {
+            future.complete(parser.parse(response));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Blocks until the future completes; used by the synchronous JiraService API. Failures are rethrown as the
+     * original {@link IOException} where there is one.
+     */
+    static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new InterruptedIOException("Interrupted while waiting for Jira response");
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Converts failures to the {@code RuntimeException(message, cause)} shape the public async API has always
+     * produced, so UI error messages stay the same.
+     */
+    static <T> CompletableFuture<T> withFailureMessage(CompletableFuture<T> future, String message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                Throwable cause = unwrap(throwable);
+                result.completeExceptionally(message != null ? new RuntimeException(message, cause) : new RuntimeException(cause));
+            }
+        });
+        cancelWith(result, future);
+        return result;
+    }
+
+    /**
+     * Like {@code first.thenCompose(next)}, but cancelling the result also cancels whichever of the two stages is
+     * still running, so the cancellation reaches the underlying call.
+     */
+    static <T, U> CompletableFuture<U> compose(CompletableFuture<T> first, Function<? super T, CompletableFuture<U>> next) {
+        AtomicReference<CompletableFuture<U>> second = new AtomicReference<>();
+        CompletableFuture<U> result = first.thenCompose(value -> {
+            CompletableFuture<U> started = next.apply(value);
+            second.set(started);
+            return started;
+        });
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                first.cancel(true);
+                CompletableFuture<U> started = second.get();
+                if (started != null) {
+                    started.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Cancels the upstream futures when {@code downstream} is cancelled. CompletableFuture does not do this by
+     * itself, so derived futures would otherwise leave their calls running.
+     */
+    static void cancelWith(CompletableFuture<?> downstream, Future<?>... upstream) {
+        downstream.whenComplete((value, throwable) -> {
+            if (downstream.isCancelled()) {
+                for (Future<?> future : upstream) {
+                    future.cancel(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs the supplier and turns anything it throws while building the request into a failed future.
+     */
+    static <T> CompletableFuture<T> defer(Supplier<CompletableFuture<T>> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,166 @@
+package com.spectra.intellij.ai.service;
+
+import com.spectra.intellij.ai.model.JiraEpic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * All Epics of the selected board (key, summary, color, done flag), loaded once with the agile
+ * {@code /board/{id}/epic} endpoint and kept in memory.
+ * <p>
+ * Lookups read an immutable snapshot and never touch the network, so the issue table, the detail panel and the Epic
+ * pickers can ask for any Epic on the EDT. {@link JiraClientService} calls {@link #refresh()} on a schedule; a
+ * refresh swaps in a new snapshot when it completes and keeps the old one if it fails.
+ * <p>
+ * When a board is selected, the Epics stored for it last time are published while it loads (and kept if the load
+ * fails), so colors and pickers work right after a restart and offline.
+ */
+public final class BoardEpicRegistry {
+
+    static final long REFRESH_INTERVAL_MINUTES = 5;
+
+    private final Function<String, CompletableFuture<List<JiraEpic>>> loader;
+    // Completes with null when nothing is stored for the board
+    private final Function<String, CompletableFuture<List<JiraEpic>>> storedLoader;
+    private final EpicMetadataStore epicStore;
+
+    private volatile Snapshot snapshot = new Snapshot(null, Collections.emptyList());
+    // Guarded by this
+    private String selectedBoardId;
+    private CompletableFuture<List<JiraEpic>> loading;
+
+    BoardEpicRegistry(Function<String, CompletableFuture<List<JiraEpic>>> loader,
+                      Function<String, CompletableFuture<List<JiraEpic>>> storedLoader, EpicMetadataStore epicStore) {
+        this.loader = loader;
+        this.storedLoader = storedLoader;
+        this.epicStore = epicStore;
+    }
+
+    /**
+     * Makes {@code boardId} the selected board. Its Epics are loaded unless they already are (or are loading).
+     */
+    public synchronized CompletableFuture<List<JiraEpic>> select(String boardId) {
+        if (boardId == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (boardId.equals(selectedBoardId)) {
+            if (loading != null) {
+                return loading;
+            }
+            if (boardId.equals(snapshot.boardId)) {
+                return CompletableFuture.completedFuture(snapshot.epics);
+            }
+        }
+        selectedBoardId = boardId;
+        return load(boardId);
+    }
+
+    /**
+     * Reloads the selected board's Epics in the background; does nothing when no board is selected or a load is
+     * already running.
+     */
+    public synchronized void refresh() {
+        if (selectedBoardId != null && loading == null) {
+            load(selectedBoardId);
+        }
+    }
+
+    /**
+     * Returns the Epic from the current snapshot, or null when it is not on the loaded board.
+     */
+    public JiraEpic get(String epicKey) {
+        return epicKey != null ? snapshot.byKey.get(epicKey) : null;
+    }
+
+    /**
+     * Epics of the loaded board in board order; empty until the first load completes.
+     */
+    public List<JiraEpic> getEpics() {
+        return snapshot.epics;
+    }
+
+    /**
+     * Board the current snapshot belongs to, or null before the first load.
+     */
+    public String getLoadedBoardId() {
+        return snapshot.boardId;
+    }
+
+    synchronized void clear() {
+        if (loading != null) {
+            loading.cancel(true);
+        }
+        loading = null;
+        selectedBoardId = null;
+        snapshot = new Snapshot(null, Collections.emptyList());
+    }
+
+    private CompletableFuture<List<JiraEpic>> load(String boardId) {
+        if (loading != null) {
+            loading.cancel(true);
+        }
+        if (!boardId.equals(snapshot.boardId)) {
+            publishStored(boardId);
+        }
+        CompletableFuture<List<JiraEpic>> request = AsyncCallExecutor.defer(() -> loader.apply(boardId));
+        // Completes once the snapshot is published, so callers of select() can read it right away
+        CompletableFuture<List<JiraEpic>> published = request.whenComplete((epics, failure) -> {
+            synchronized (this) {
+                if (failure != null || !Objects.equals(boardId, selectedBoardId)) {
+                    return;
+                }
+                snapshot = new Snapshot(boardId, epics);
+            }
+            epics.forEach(epicStore::put);
+        });
+        AsyncCallExecutor.cancelWith(published, request);
+        loading = published;
+        published.whenComplete((epics, failure) -> {
+            synchronized (this) {
+                if (loading == published) {
+                    loading = null;
+                }
+            }
+        });
+        return published;
+    }
+
+    /**
+     * Publishes the board's stored Epics unless the board was deselected or its loaded Epics were published first.
+     */
+    private void publishStored(String boardId) {
+        AsyncCallExecutor.defer(() -> storedLoader.apply(boardId)).whenComplete((epics, failure) -> {
+            if (failure != null || epics == null) {
+                return;
+            }
+            synchronized (this) {
+                if (boardId.equals(selectedBoardId) && !boardId.equals(snapshot.boardId)) {
+                    snapshot = new Snapshot(boardId, epics);
+                }
+            }
+        });
+    }
+
+    private static final class Snapshot {
+        final String boardId;
+        final List<JiraEpic> epics;
+        final Map<String, JiraEpic> byKey;
+
+        Snapshot(String boardId, List<JiraEpic> epics) {
+            this.boardId = boardId;
+            this.epics = Collections.unmodifiableList(new ArrayList<>(epics));
+            Map<String, JiraEpic> index = new LinkedHashMap<>();
+            for (JiraEpic epic : epics) {
+                index.put(epic.getKey(), epic);
+            }
+            this.byKey = Collections.unmodifiableMap(index);
+        }
+    }
+}
@@ -0,0 +1,581 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * An in-memory cache bounded by the estimated weight (bytes) of its entries, created through
+ * {@link CacheRegistry#create}, which sizes it from the memory budget in the settings.
+ * <p>
+ * Eviction follows W-TinyLFU: new entries enter a small LRU window; an entry pushed out of the window only replaces
+ * the least recently used entry of the main area when its key was asked for more often, as estimated by a
+ * {@link FrequencySketch} of recent lookups. A burst of keys read once (e.g. the Epics of one large search) thus
+ * passes through the window without flushing the entries every list needs.
+ * <p>
+ * Entries expire {@code expireAfterMillis} after they were written. Once older than {@code refreshAfterMillis}, a hit
+ * is still answered from memory and the entry is reloaded in the background (refresh-ahead). Callers of the same key
+ * share one load, which is cancelled once all of them have cancelled; a load that completes after its key was
+ * invalidated is not stored. Null values are not cached.
+ */
+public final class BoundedCache<K, V> {
+
+    // Rough size of an entry's nodes, map slots and key, added to the weight of each value
+    static final long ENTRY_OVERHEAD = 96;
+    // Share of the maximum weight given to the admission window
+    private static final double WINDOW_SHARE = 0.01;
+
+    private final String name;
+    private final long expireAfterMillis;
+    private final long refreshAfterMillis;
+    private final ToLongFunction<? super V> weigher;
+    private final Function<? super K, CompletableFuture<V>> loader;
+
+    // All guarded by this; both in access order, so the eldest entry is the least recently used
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, Load<V>> loading = new HashMap<>();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private long maximumWeight;
+    private long windowWeight;
+    private long mainWeight;
+
+    private long hits;
+    private long misses;
+    private long loads;
+    private long loadFailures;
+    private long refreshes;
+    private long evictions;
+    private long rejections;
+    private long expirations;
+
+    /**
+     * @param loader loads a missing or stale key for {@link #get(Object)} and refresh-ahead; null when values are only
+     *               {@link #put} or loaded through {@link #get(Object, Function)}
+     */
+    BoundedCache(String name, long maximumWeight, long expireAfterMillis, long refreshAfterMillis,
+                 ToLongFunction<? super V> weigher, Function<? super K, CompletableFuture<V>> loader) {
+        this.name = name;
+        this.maximumWeight = maximumWeight;
+        this.expireAfterMillis = expireAfterMillis;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.weigher = weigher;
+        this.loader = loader;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cached value, or null when the key is missing or expired. A stale value is returned and reloaded
+     * in the background if the cache has a loader.
+     */
+    public V getIfPresent(K key) {
+        Node<V> node;
+        Load<V> refresh = null;
+        synchronized (this) {
+            sketch.increment(key);
+            node = find(key);
+            if (node == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            if (loader != null && isStale(node) && !loading.containsKey(key)) {
+                refreshes++;
+                refresh = startLoad(key, true);
+            }
+        }
+        if (refresh != null) {
+            runLoad(key, refresh, loader);
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the cached value without counting a lookup or refreshing it.
+     */
+    synchronized V peek(K key) {
+        Node<V> node = find(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Returns the cached value or loads it with the cache's loader.
+     */
+    public CompletableFuture<V> get(K key) {
+        return get(key, loader);
+    }
+
+    /**
+     * Returns the cached value or loads it with {@code loader}, joining a load of the same key already running. A
+     * stale value is answered at once and reloaded with {@code loader} in the background. Cancelling the returned
+     * future detaches only that caller; the load is cancelled once every caller waiting for it has cancelled.
+     */
+    public CompletableFuture<V> get(K key, Function<? super K, CompletableFuture<V>> loader) {
+        if (loader == null) {
+            throw new IllegalStateException("No loader for cache " + name);
+        }
+        Node<V> node;
+        Load<V> load = null;
+        CompletableFuture<V> caller = null;
+        synchronized (this) {
+            sketch.increment(key);
+            node = find(key);
+            if (node == null) {
+                misses++;
+                Load<V> pending = loading.get(key);
+                if (pending != null) {
+                    return attach(key, pending);
+                }
+                load = startLoad(key, false);
+                caller = attach(key, load);
+            } else if (isStale(node) && !loading.containsKey(key)) {
+                hits++;
+                refreshes++;
+                load = startLoad(key, true);
+            } else {
+                hits++;
+            }
+        }
+        if (load != null) {
+            // Started outside the lock: the loader and the callers' callbacks may run on this thread
+            runLoad(key, load, loader);
+        }
+        return node != null ? CompletableFuture.completedFuture(node.value) : caller;
+    }
+
+    /**
+     * Reloads the key in the background with the cache's loader, unless a load of it is already running. The current
+     * value, if any, is answered until the reload replaces it.
+     */
+    public void refresh(K key) {
+        if (loader == null) {
+            throw new IllegalStateException("No loader for cache " + name);
+        }
+        Load<V> load;
+        synchronized (this) {
+            if (loading.containsKey(key)) {
+                return;
+            }
+            refreshes++;
+            load = startLoad(key, true);
+        }
+        runLoad(key, load, loader);
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis());
+    }
+
+    /**
+     * Stores a value that was read at {@code writtenAt} (epoch milliseconds), e.g. one restored from disk, so it
+     * expires and refreshes by its real age.
+     */
+    public synchronized void put(K key, V value, long writtenAt) {
+        if (value == null) {
+            return;
+        }
+        sketch.increment(key);
+        Node<V> node = new Node<>(value, ENTRY_OVERHEAD + Math.max(0, weigher.applyAsLong(value)), writtenAt);
+        Node<V> previous = main.get(key);
+        if (previous != null) {
+            main.put(key, node);
+            mainWeight += node.weight - previous.weight;
+        } else {
+            previous = window.remove(key);
+            if (previous != null) {
+                windowWeight -= previous.weight;
+            }
+            window.put(key, node);
+            windowWeight += node.weight;
+        }
+        evict();
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+        // A load still running for the key must not store the value it read before
+        loading.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        window.clear();
+        main.clear();
+        loading.clear();
+        windowWeight = 0;
+        mainWeight = 0;
+    }
+
+    /**
+     * Changes the weight bound, evicting the least valuable entries at once when it shrinks.
+     */
+    synchronized void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        evict();
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(name, window.size() + main.size(), windowWeight + mainWeight, maximumWeight, hits, misses,
+            loads, loadFailures, refreshes, evictions, rejections, expirations);
+    }
+
+    // Caller holds the lock
+    private Node<V> find(K key) {
+        Node<V> node = window.get(key);
+        if (node == null) {
+            node = main.get(key);
+        }
+        if (node != null && isExpired(node)) {
+            remove(key);
+            expirations++;
+            return null;
+        }
+        return node;
+    }
+
+    // Caller holds the lock
+    private Load<V> startLoad(K key, boolean background) {
+        Load<V> load = new Load<>(background);
+        loading.put(key, load);
+        loads++;
+        return load;
+    }
+
+    /**
+     * Adds a caller to the load and returns its own future: one caller cancelling (e.g. through cancelWith) must not
+     * fail the others. Caller holds the lock.
+     */
+    private CompletableFuture<V> attach(K key, Load<V> load) {
+        load.callers++;
+        CompletableFuture<V> caller = load.result.thenApply(value -> value);
+        caller.whenComplete((value, failure) -> {
+            if (caller.isCancelled()) {
+                detach(key, load);
+            }
+        });
+        return caller;
+    }
+
+    /**
+     * Drops a caller that cancelled, and cancels the load when nobody waits for it any more, as {@link SingleFlight}
+     * does for requests. Refreshes run to completion: their value is wanted even when no caller waits.
+     */
+    private void detach(K key, Load<V> load) {
+        CompletableFuture<V> source;
+        synchronized (this) {
+            if (--load.callers > 0 || load.background || load.result.isDone()) {
+                return;
+            }
+            load.abandoned = true;
+            loading.remove(key, load);
+            source = load.source;
+        }
+        load.result.cancel(true);
+        if (source != null) {
+            source.cancel(true);
+        }
+    }
+
+    private void runLoad(K key, Load<V> load, Function<? super K, CompletableFuture<V>> loader) {
+        CompletableFuture<V> source = AsyncCallExecutor.defer(() -> loader.apply(key));
+        boolean abandoned;
+        synchronized (this) {
+            load.source = source;
+            abandoned = load.abandoned;
+        }
+        if (abandoned) {
+            // Every caller cancelled while the loader was starting
+            source.cancel(true);
+            return;
+        }
+        source.whenComplete((value, failure) -> {
+            synchronized (this) {
+                if (loading.remove(key, load)) {
+                    if (failure != null) {
+                        loadFailures++;
+                    } else {
+                        put(key, value);
+                    }
+                }
+            }
+            if (failure != null) {
+                load.result.completeExceptionally(failure);
+            } else {
+                load.result.complete(value);
+            }
+        });
+    }
+
+    // Caller holds the lock
+    private void remove(K key) {
+        Node<V> node = window.remove(key);
+        if (node != null) {
+            windowWeight -= node.weight;
+            return;
+        }
+        node = main.remove(key);
+        if (node != null) {
+            mainWeight -= node.weight;
+        }
+    }
+
+    /**
+     * Moves entries that overflow the window into the main area when there is room or when they are used more often
+     * than the main area's least recently used entry, and evicts until both fit their bounds. Caller holds the lock.
+     */
+    private void evict() {
+        sketch.ensureCapacity(window.size() + main.size());
+        long windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_SHARE));
+        long mainMaximum = maximumWeight - windowMaximum;
+        Iterator<Map.Entry<K, Node<V>>> windowEntries = window.entrySet().iterator();
+        while (windowWeight > windowMaximum && windowEntries.hasNext()) {
+            Map.Entry<K, Node<V>> candidate = windowEntries.next();
+            windowEntries.remove();
+            windowWeight -= candidate.getValue().weight;
+            if (admit(candidate.getKey(), candidate.getValue().weight, mainMaximum)) {
+                main.put(candidate.getKey(), candidate.getValue());
+                mainWeight += candidate.getValue().weight;
+            } else {
+                rejections++;
+                evictions++;
+            }
+        }
+        Iterator<Node<V>> mainEntries = main.values().iterator();
+        while (mainWeight > mainMaximum && mainEntries.hasNext()) {
+            mainWeight -= mainEntries.next().weight;
+            mainEntries.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Makes room in the main area for the candidate by evicting entries used less often, or returns false when the
+     * candidate is the less valuable one. Caller holds the lock.
+     */
+    private boolean admit(K candidate, long weight, long mainMaximum) {
+        if (weight > mainMaximum) {
+            return false;
+        }
+        int candidateFrequency = sketch.frequency(candidate);
+        Iterator<Map.Entry<K, Node<V>>> victims = main.entrySet().iterator();
+        while (mainWeight + weight > mainMaximum) {
+            Map.Entry<K, Node<V>> victim = victims.next();
+            if (candidateFrequency <= sketch.frequency(victim.getKey())) {
+                return false;
+            }
+            victims.remove();
+            mainWeight -= victim.getValue().weight;
+            evictions++;
+        }
+        return true;
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return expireAfterMillis > 0 && System.currentTimeMillis() - node.writtenAt > expireAfterMillis;
+    }
+
+    private boolean isStale(Node<V> node) {
+        return refreshAfterMillis > 0 && System.currentTimeMillis() - node.writtenAt > refreshAfterMillis;
+    }
+
+    /**
+     * Estimated weight of a string: two bytes a character plus the object headers.
+     */
+    static long weigh(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    /**
+     * A running load of one key. Callers waiting on a miss are counted; a background refresh has none to count.
+     */
+    private static final class Load<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        final boolean background;
+        // Guarded by the cache
+        CompletableFuture<V> source;
+        int callers;
+        boolean abandoned;
+
+        Load(boolean background) {
+            this.background = background;
+        }
+    }
+
+    private static final class Node<V> {
+        final V value;
+        final long weight;
+        final long writtenAt;
+
+        Node(V value, long weight, long writtenAt) {
+            this.value = value;
+            this.weight = weight;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * Approximate access counts of recently used keys: a count-min sketch of 4-bit counters, four per key. Once the
+     * number of increments reaches ten times the width, every counter is halved, so the counts follow recent use.
+     */
+    static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private byte[] table = new byte[DEPTH * 64];
+        private int width = 64;
+        private int additions;
+
+        /**
+         * Widens the sketch for about {@code size} distinct keys; widening forgets all counts.
+         */
+        void ensureCapacity(int size) {
+            int wanted = Integer.highestOneBit(Math.max(64, size) - 1) << 1;
+            if (wanted > width && wanted <= (1 << 24)) {
+                width = wanted;
+                table = new byte[DEPTH * width];
+                additions = 0;
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, table[index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= 10 * width) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+            return row * width + ((h ^ (h >>> 16)) & (width - 1));
+        }
+
+        private static int spread(int hash) {
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    public static final class Stats {
+        private final String name;
+        private final int size;
+        private final long weight;
+        private final long maximumWeight;
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long loadFailures;
+        private final long refreshes;
+        private final long evictions;
+        private final long rejections;
+        private final long expirations;
+
+        Stats(String name, int size, long weight, long maximumWeight, long hits, long misses, long loads,
+              long loadFailures, long refreshes, long evictions, long rejections, long expirations) {
+            this.name = name;
+            this.size = size;
+            this.weight = weight;
+            this.maximumWeight = maximumWeight;
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.loadFailures = loadFailures;
+            this.refreshes = refreshes;
+            this.evictions = evictions;
+            this.rejections = rejections;
+            this.expirations = expirations;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /** Estimated bytes held. */
+        public long getWeight() {
+            return weight;
+        }
+
+        public long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /** Share of lookups answered from memory, 0 before the first lookup. */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0;
+        }
+
+        /** Loads started, including refreshes. */
+        public long getLoads() {
+            return loads;
+        }
+
+        public long getLoadFailures() {
+            return loadFailures;
+        }
+
+        /** Loads started for a stale entry that was still answered from memory. */
+        public long getRefreshes() {
+            return refreshes;
+        }
+
+        /** Entries dropped for room, including rejected ones. */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /** New entries the admission policy turned away because the entries they would replace were used more. */
+        public long getRejections() {
+            return rejections;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": size=" + size + ", weight=" + weight + "/" + maximumWeight + ", hits=" + hits
+                + ", misses=" + misses + ", loads=" + loads + " (failed " + loadFailures + ", refreshes " + refreshes
+                + "), evictions=" + evictions + " (rejected " + rejections + "), expirations=" + expirations;
+        }
+    }
+}
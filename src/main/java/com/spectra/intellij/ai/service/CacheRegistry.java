@@ -0,0 +1,105 @@
+package com.spectra.intellij.ai.service;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The in-memory caches of the plugin and the memory budget they share.
+ * <p>
+ * Each cache is created with a share of the budget and bounded by that many estimated bytes; changing the budget in
+ * the settings resizes all of them. Caches are held weakly, so those of a short-lived client (e.g. one validating a
+ * token) drop out once the client is gone.
+ */
+public final class CacheRegistry {
+
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    // Guarded by this
+    private final List<Share> caches = new ArrayList<>();
+    private long budgetBytes;
+
+    CacheRegistry(int budgetMb) {
+        this.budgetBytes = budgetMb * BYTES_PER_MB;
+    }
+
+    /**
+     * Creates a cache bounded by {@code share} of the budget.
+     *
+     * @param expireAfterMillis  age at which an entry is dropped; 0 keeps entries until they are evicted
+     * @param refreshAfterMillis age at which a hit reloads the entry in the background; 0 never refreshes
+     * @param weigher            estimated bytes held by a value
+     * @param loader             loads missing and stale keys; may be null, see {@link BoundedCache}
+     */
+    public synchronized <K, V> BoundedCache<K, V> create(String name, double share, long expireAfterMillis,
+                                                         long refreshAfterMillis, ToLongFunction<? super V> weigher,
+                                                         Function<? super K, CompletableFuture<V>> loader) {
+        BoundedCache<K, V> cache = new BoundedCache<>(name, (long) (budgetBytes * share), expireAfterMillis,
+            refreshAfterMillis, weigher, loader);
+        caches.add(new Share(cache, share));
+        return cache;
+    }
+
+    /**
+     * Resizes every cache to its share of the new budget.
+     */
+    public synchronized void setMemoryBudgetMb(int budgetMb) {
+        long bytes = Math.max(1, budgetMb) * BYTES_PER_MB;
+        if (bytes == budgetBytes) {
+            return;
+        }
+        budgetBytes = bytes;
+        for (Share share : caches) {
+            BoundedCache<?, ?> cache = share.cache.get();
+            if (cache != null) {
+                cache.setMaximumWeight((long) (bytes * share.share));
+            }
+        }
+    }
+
+    public synchronized long getMemoryBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /** Counters of the caches still in use, in the order they were created. */
+    public List<BoundedCache.Stats> getStats() {
+        List<BoundedCache<?, ?>> caches;
+        synchronized (this) {
+            caches = live();
+        }
+        List<BoundedCache.Stats> stats = new ArrayList<>();
+        for (BoundedCache<?, ?> cache : caches) {
+            stats.add(cache.getStats());
+        }
+        return stats;
+    }
+
+    // Caller holds the lock; drops the caches that were collected
+    private List<BoundedCache<?, ?>> live() {
+        List<BoundedCache<?, ?>> live = new ArrayList<>();
+        Iterator<Share> shares = caches.iterator();
+        while (shares.hasNext()) {
+            BoundedCache<?, ?> cache = shares.next().cache.get();
+            if (cache == null) {
+                shares.remove();
+            } else {
+                live.add(cache);
+            }
+        }
+        return live;
+    }
+
+    private static final class Share {
+        final WeakReference<BoundedCache<?, ?>> cache;
+        final double share;
+
+        Share(BoundedCache<?, ?> cache, double share) {
+            this.cache = new WeakReference<>(cache);
+            this.share = share;
+        }
+    }
+}
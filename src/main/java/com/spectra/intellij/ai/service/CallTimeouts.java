@@ -0,0 +1,50 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.Objects;
+
+/**
+ * Per-request timeouts, attached with {@code Request.Builder.tag(CallTimeouts.class, ...)}. Requests without the tag
+ * use the shared client's defaults.
+ */
+final class CallTimeouts {
+
+    private final long connectMillis;
+    private final long readMillis;
+    private final long callMillis;
+
+    CallTimeouts(long connectMillis, long readMillis, long callMillis) {
+        this.connectMillis = connectMillis;
+        this.readMillis = readMillis;
+        this.callMillis = callMillis;
+    }
+
+    long getConnectMillis() {
+        return connectMillis;
+    }
+
+    long getReadMillis() {
+        return readMillis;
+    }
+
+    /** Upper bound for the whole call, including DNS, connect, writing the body and reading the response. */
+    long getCallMillis() {
+        return callMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CallTimeouts)) {
+            return false;
+        }
+        CallTimeouts that = (CallTimeouts) o;
+        return connectMillis == that.connectMillis && readMillis == that.readMillis && callMillis == that.callMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(connectMillis, readMillis, callMillis);
+    }
+}
@@ -0,0 +1,152 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Per-host circuit breaker for the internal AI server.
+ * <p>
+ * After {@link #FAILURE_THRESHOLD} consecutive failures the circuit opens and calls fail immediately instead of
+ * waiting for connect/read timeouts. Once the open period has passed a single probe request is let through
+ * (half-open): success closes the circuit, failure opens it again for twice as long, up to {@link #MAX_OPEN_MILLIS}.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long INITIAL_OPEN_MILLIS = 30_000;
+    private static final long MAX_OPEN_MILLIS = 5 * 60_000;
+    private static final int MAX_TRANSITIONS = 20;
+
+    private final String host;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openMillis = INITIAL_OPEN_MILLIS;
+    private long openUntil;
+    private boolean probeInFlight;
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+
+    CircuitBreaker(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Returns whether a call may be sent now. In the half-open state only the first caller gets through.
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() < openUntil) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN, "open period elapsed, probing");
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            openMillis = INITIAL_OPEN_MILLIS;
+            transitionTo(State.CLOSED, "probe succeeded");
+        }
+    }
+
+    synchronized void onFailure(String reason) {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN) {
+            openMillis = Math.min(MAX_OPEN_MILLIS, openMillis * 2);
+            open("probe failed: " + reason);
+        } else if (state == State.CLOSED && consecutiveFailures >= FAILURE_THRESHOLD) {
+            open(consecutiveFailures + " consecutive failures, last: " + reason);
+        }
+    }
+
+    /**
+     * A call that was let through ended without an outcome (e.g. it was cancelled); frees the half-open probe slot.
+     */
+    synchronized void onAbandoned() {
+        probeInFlight = false;
+    }
+
+    private void open(String reason) {
+        openUntil = System.currentTimeMillis() + openMillis;
+        transitionTo(State.OPEN, reason);
+    }
+
+    private void transitionTo(State newState, String reason) {
+        transitions.addFirst(new Transition(System.currentTimeMillis(), state, newState, reason));
+        while (transitions.size() > MAX_TRANSITIONS) {
+            transitions.removeLast();
+        }
+        state = newState;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Milliseconds until the next probe is allowed, or 0 when the circuit is not open.
+     */
+    public synchronized long getRemainingOpenMillis() {
+        return state == State.OPEN ? Math.max(0, openUntil - System.currentTimeMillis()) : 0;
+    }
+
+    /** Most recent transitions, newest first. */
+    public synchronized List<Transition> getTransitions() {
+        return new ArrayList<>(transitions);
+    }
+
+    public static final class Transition {
+        private final long timestamp;
+        private final State from;
+        private final State to;
+        private final String reason;
+
+        Transition(long timestamp, State from, State to, String reason) {
+            this.timestamp = timestamp;
+            this.from = from;
+            this.to = to;
+            this.reason = reason;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public State getFrom() {
+            return from;
+        }
+
+        public State getTo() {
+            return to;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers by host, shared by every client of the plugin.
+ */
+public final class CircuitBreakerRegistry {
+
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry() {
+    }
+
+    CircuitBreaker get(String host) {
+        return breakers.computeIfAbsent(host, CircuitBreaker::new);
+    }
+
+    /** Breakers of all hosts contacted so far, sorted by host. */
+    public List<CircuitBreaker> getAll() {
+        List<CircuitBreaker> all = new ArrayList<>(breakers.values());
+        all.sort(Comparator.comparing(CircuitBreaker::getHost));
+        return all;
+    }
+}
@@ -0,0 +1,123 @@
+package com.spectra.intellij.ai.service;
+
+import com.spectra.intellij.ai.model.JiraEpic;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Summary and color of the Epics referenced by issues, shared by list and detail reads.
+ * <p>
+ * Lookups go through {@link #resolve}: keys already known are answered from memory, keys another lookup is loading
+ * join that load, and all remaining keys are loaded together with a single call of the loader (a {@code key in (...)}
+ * search). Keys the loader does not return are remembered as unknown for the same TTL, so they are not asked for
+ * again on every issue. Entries are held in a {@link BoundedCache}, so a long session browsing many boards keeps the
+ * Epics referenced most often.
+ */
+final class EpicMetadataStore {
+
+    private static final long TTL_MS = 5 * 60 * 1000; // 5 minutes TTL
+    private static final double BUDGET_SHARE = 0.15;
+
+    // Empty when the key could not be resolved
+    private final BoundedCache<String, Optional<JiraEpic>> entries;
+    private final Map<String, CompletableFuture<JiraEpic>> loading = new ConcurrentHashMap<>();
+
+    EpicMetadataStore(CacheRegistry caches) {
+        this.entries = caches.create("Epic", BUDGET_SHARE, TTL_MS, 0, EpicMetadataStore::weigh, null);
+    }
+
+    /**
+     * Returns the known Epic, or null when it is unknown, unresolved or expired.
+     */
+    JiraEpic get(String epicKey) {
+        Optional<JiraEpic> entry = entries.getIfPresent(epicKey);
+        return entry != null ? entry.orElse(null) : null;
+    }
+
+    void put(JiraEpic epic) {
+        store(epic.getKey(), epic);
+    }
+
+    void clear() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * Resolves {@code epicKeys}, loading all missing ones with one call of {@code loader}. The map holds an entry for
+     * every key that could be resolved. A failed load fails the returned future and leaves the keys unresolved.
+     */
+    CompletableFuture<Map<String, JiraEpic>> resolve(Collection<String> epicKeys,
+                                                     Function<Set<String>, CompletableFuture<Map<String, JiraEpic>>> loader) {
+        Map<String, JiraEpic> known = new HashMap<>();
+        Map<String, CompletableFuture<JiraEpic>> pending = new HashMap<>();
+        Set<String> toLoad = new LinkedHashSet<>();
+        CompletableFuture<Map<String, JiraEpic>> batch = new CompletableFuture<>();
+
+        for (String key : new LinkedHashSet<>(epicKeys)) {
+            Optional<JiraEpic> entry = entries.getIfPresent(key);
+            if (entry != null) {
+                entry.ifPresent(epic -> known.put(key, epic));
+                continue;
+            }
+            CompletableFuture<JiraEpic> claim = new CompletableFuture<>();
+            CompletableFuture<JiraEpic> existing = loading.putIfAbsent(key, claim);
+            if (existing != null) {
+                pending.put(key, existing);
+            } else {
+                pending.put(key, claim);
+                toLoad.add(key);
+                batch.whenComplete((epics, failure) -> {
+                    loading.remove(key, claim);
+                    if (failure != null) {
+                        claim.completeExceptionally(failure);
+                        return;
+                    }
+                    JiraEpic epic = epics.get(key);
+                    store(key, epic);
+                    claim.complete(epic);
+                });
+            }
+        }
+
+        if (!toLoad.isEmpty()) {
+            AsyncCallExecutor.defer(() -> loader.apply(toLoad)).whenComplete((epics, failure) -> {
+                if (failure != null) {
+                    batch.completeExceptionally(failure);
+                } else {
+                    batch.complete(epics);
+                }
+            });
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(known);
+        }
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<String, JiraEpic> result = new HashMap<>(known);
+            pending.forEach((key, future) -> {
+                JiraEpic epic = future.join();
+                if (epic != null) {
+                    result.put(key, epic);
+                }
+            });
+            return result;
+        });
+    }
+
+    private void store(String epicKey, JiraEpic epic) {
+        entries.put(epicKey, Optional.ofNullable(epic));
+    }
+
+    private static long weigh(Optional<JiraEpic> entry) {
+        return entry.map(epic -> 64 + BoundedCache.weigh(epic.getKey()) + BoundedCache.weigh(epic.getSummary())
+            + BoundedCache.weigh(epic.getName()) + BoundedCache.weigh(epic.getColor())).orElse(0L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.JsonArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code fields} and {@code expand} parameters of a Jira issue read.
+ * <p>
+ * Without {@code fields=} Jira returns every field of the issue, including all custom fields configured on the
+ * instance, and {@code expand=renderedFields} doubles that again. Each call site therefore names exactly the fields
+ * its parser reads; expansions are only sent when a projection asks for them.
+ */
+final class FieldProjection {
+
+    private final List<String> fields;
+    private final List<String> expansions;
+
+    private FieldProjection(Set<String> fields, Set<String> expansions) {
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.expansions = Collections.unmodifiableList(new ArrayList<>(expansions));
+    }
+
+    static FieldProjection of(String... fields) {
+        return new FieldProjection(new LinkedHashSet<>(Arrays.asList(fields)), Collections.emptySet());
+    }
+
+    /**
+     * Returns a projection that also requests {@code more}, e.g. the project-specific story points field.
+     */
+    FieldProjection with(String... more) {
+        Set<String> combined = new LinkedHashSet<>(fields);
+        combined.addAll(Arrays.asList(more));
+        return new FieldProjection(combined, new LinkedHashSet<>(expansions));
+    }
+
+    /**
+     * Returns a projection that also sends {@code expand=} with the given expansions.
+     */
+    FieldProjection expand(String... more) {
+        Set<String> combined = new LinkedHashSet<>(expansions);
+        combined.addAll(Arrays.asList(more));
+        return new FieldProjection(new LinkedHashSet<>(fields), combined);
+    }
+
+    List<String> getFields() {
+        return fields;
+    }
+
+    List<String> getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Appends the {@code fields} (and {@code expand}, if any) query parameters to a GET url. Field ids and
+     * expansion names are plain identifiers and need no encoding.
+     */
+    String appendTo(String url) {
+        StringBuilder result = new StringBuilder(url)
+            .append(url.indexOf('?') >= 0 ? '&' : '?')
+            .append("fields=").append(String.join(",", fields));
+        if (!expansions.isEmpty()) {
+            result.append("&expand=").append(String.join(",", expansions));
+        }
+        return result.toString();
+    }
+
+    /**
+     * The field list for the {@code fields} member of a search request body.
+     */
+    JsonArray toJsonArray() {
+        JsonArray array = new JsonArray();
+        fields.forEach(array::add);
+        return array;
+    }
+}
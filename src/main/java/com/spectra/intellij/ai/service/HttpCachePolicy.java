@@ -0,0 +1,92 @@
+package com.spectra.intellij.ai.service;
+
+import okhttp3.CacheControl;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Makes rarely-changing Jira read endpoints cacheable by OkHttp's disk cache.
+ * <p>
+ * Jira Cloud answers with {@code Cache-Control: no-cache, no-store}, so as a network interceptor this rewrites the
+ * headers of whitelisted GET responses to {@code private, max-age=0}. OkHttp then stores them and revalidates on
+ * every normal request with {@code If-None-Match}/{@code If-Modified-Since}, serving the body from disk on 304.
+ * Callers that prefer an instant answer can ask for {@link #cacheOnly(HttpUrl)}, which accepts a stored response up
+ * to the endpoint's max-stale without touching the network.
+ */
+final class HttpCachePolicy implements Interceptor {
+
+    enum Endpoint {
+        MYSELF("/rest/api/3/myself", Duration.ofDays(1)),
+        PROJECT_BOARDS("/rest/agile/1\\.0/board", Duration.ofDays(1)),
+        BOARD_SPRINTS("/rest/agile/1\\.0/board/[^/]+/sprint", Duration.ofHours(1)),
+        PROJECT("/rest/api/3/project/[^/]+", Duration.ofDays(7)),
+        ISSUE_TYPES("/rest/api/3/issuetype(/project)?", Duration.ofDays(7)),
+        ASSIGNABLE_USERS("/rest/api/3/user/assignable/search", Duration.ofDays(1)),
+        ISSUE("/rest/api/3/issue/[^/]+", Duration.ofMinutes(10));
+
+        private final Pattern pathPattern;
+        private final Duration maxStale;
+
+        Endpoint(String pathRegex, Duration maxStale) {
+            // Jira may be hosted below a context path (e.g. https://host/jira/rest/...)
+            this.pathPattern = Pattern.compile("(/.*)?" + pathRegex);
+            this.maxStale = maxStale;
+        }
+
+        Duration getMaxStale() {
+            return maxStale;
+        }
+    }
+
+    private static final String CACHEABLE = "private, max-age=0";
+
+    static Endpoint endpointOf(HttpUrl url) {
+        String path = url.encodedPath();
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.pathPattern.matcher(path).matches()) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cache control for a read that must be answered from disk only; fails with 504 when nothing usable is stored.
+     */
+    static CacheControl cacheOnly(HttpUrl url) {
+        Endpoint endpoint = endpointOf(url);
+        long maxStaleSeconds = endpoint != null ? endpoint.getMaxStale().getSeconds() : 0;
+        return new CacheControl.Builder()
+            .onlyIfCached()
+            .maxStale((int) maxStaleSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (!"GET".equals(request.method()) || endpointOf(request.url()) == null) {
+            return response;
+        }
+        // 304 headers are merged into the stored entry, so they need the same rewrite as 200s
+        if (response.code() != 200 && response.code() != 304) {
+            return response;
+        }
+        return response.newBuilder()
+            .header("Cache-Control", CACHEABLE)
+            .removeHeader("Pragma")
+            .removeHeader("Expires")
+            .build();
+    }
+}
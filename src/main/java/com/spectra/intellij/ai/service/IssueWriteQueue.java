@@ -0,0 +1,490 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.diagnostic.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Inline edits written behind the UI, merged per issue.
+ * <p>
+ * Edits of one issue made within {@link #COALESCE_MILLIS} of each other are sent as a single {@code PUT /issue/{key}}
+ * carrying every changed field; a later value of a field replaces an earlier one. A status change is applied with a
+ * transition once the fields of the same batch are written. Each issue has at most one batch in flight, and edits
+ * made meanwhile form the next one.
+ * <p>
+ * A batch that fails transiently (network error, 5xx, 429) is merged back under newer edits and retried with backoff.
+ * One that Jira refuses ({@link RequestRejectedException}) or that keeps failing fails its callers. With a journal
+ * file set, unsent edits are also kept on disk and replayed when the queue is next bound to the same Jira instance, so
+ * edits made just before the IDE closed are not lost.
+ */
+public final class IssueWriteQueue {
+
+    private static final Logger LOG = Logger.getInstance(IssueWriteQueue.class);
+
+    static final long COALESCE_MILLIS = 750;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_RETRY_MILLIS = 2_000;
+
+    private final BiFunction<String, JsonObject, CompletableFuture<Void>> fieldWriter;
+    private final BiFunction<String, String, CompletableFuture<Void>> transitionWriter;
+    private final ScheduledExecutorService scheduler;
+    private final Executor ioExecutor;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private final Map<String, IssueWrites> issues = new LinkedHashMap<>();
+    private String instanceUrl = "";
+
+    private volatile File journalFile;
+    // Set while the journal of the bound instance has not been read yet; it must not be overwritten before that
+    private volatile boolean replayPending;
+    private final AtomicBoolean journalScheduled = new AtomicBoolean();
+    private final Object journalLock = new Object();
+
+    IssueWriteQueue(BiFunction<String, JsonObject, CompletableFuture<Void>> fieldWriter,
+                    BiFunction<String, String, CompletableFuture<Void>> transitionWriter,
+                    ScheduledExecutorService scheduler, Executor ioExecutor) {
+        this.fieldWriter = fieldWriter;
+        this.transitionWriter = transitionWriter;
+        this.scheduler = scheduler;
+        this.ioExecutor = ioExecutor;
+    }
+
+    /**
+     * Enables the on-disk journal; null keeps unsent edits in memory only.
+     */
+    void setJournalFile(File journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Binds the queue to a Jira instance and replays the edits journaled for it. Edits still queued for a previous
+     * instance fail.
+     */
+    void bind(String baseUrl) {
+        synchronized (this) {
+            if (baseUrl.equals(instanceUrl)) {
+                return;
+            }
+            clear();
+            instanceUrl = baseUrl;
+            replayPending = journalFile != null;
+        }
+        if (replayPending) {
+            ioExecutor.execute(() -> replay(baseUrl));
+        }
+    }
+
+    /**
+     * Queues a new value of one field; null clears the field. The returned future completes once the value is
+     * written to Jira.
+     */
+    CompletableFuture<Void> updateField(String issueKey, String fieldId, JsonElement value) {
+        return enqueue(issueKey, writes -> writes.fields.add(fieldId, value != null ? value : JsonNull.INSTANCE));
+    }
+
+    /**
+     * Queues a move to {@code status}, applied after the issue's queued field updates.
+     */
+    CompletableFuture<Void> transition(String issueKey, String status) {
+        return enqueue(issueKey, writes -> writes.status = status);
+    }
+
+    /**
+     * True while edits of the issue are queued, in flight or waiting for a retry.
+     */
+    public synchronized boolean hasPendingWrites(String issueKey) {
+        return issues.containsKey(issueKey);
+    }
+
+    /**
+     * Number of issues with edits that are not written yet.
+     */
+    public synchronized int getPendingIssueCount() {
+        return issues.size();
+    }
+
+    /**
+     * Registers a listener called with an issue key whenever that issue's pending writes change (queued, written,
+     * retried or failed). Listeners are called on background threads.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<String> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Drops every queued edit and fails its callers. Batches in flight still complete, but are not retried.
+     */
+    void clear() {
+        List<CompletableFuture<Void>> dropped = new ArrayList<>();
+        List<String> keys;
+        synchronized (this) {
+            if (issues.isEmpty()) {
+                return;
+            }
+            for (IssueWrites writes : issues.values()) {
+                if (writes.timer != null) {
+                    writes.timer.cancel(false);
+                }
+                dropped.addAll(writes.waiters);
+                if (writes.inFlight != null) {
+                    dropped.addAll(writes.inFlight.waiters);
+                }
+            }
+            keys = new ArrayList<>(issues.keySet());
+            issues.clear();
+        }
+        IOException failure = new IOException("Pending Jira edits were discarded because the Jira connection changed");
+        dropped.forEach(waiter -> waiter.completeExceptionally(failure));
+        keys.forEach(this::notifyListeners);
+    }
+
+    /**
+     * Saves the unsent edits to the journal right away, e.g. when the IDE is closing.
+     */
+    void close() {
+        writeJournal();
+    }
+
+    private CompletableFuture<Void> enqueue(String issueKey, Consumer<IssueWrites> edit) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        synchronized (this) {
+            IssueWrites writes = issues.computeIfAbsent(issueKey, key -> new IssueWrites());
+            edit.accept(writes);
+            writes.waiters.add(written);
+            // Every edit restarts the window, unless the issue is backing off after a failure
+            if (writes.failedAttempts == 0) {
+                schedule(issueKey, writes, COALESCE_MILLIS);
+            }
+        }
+        saveJournal();
+        notifyListeners(issueKey);
+        return written;
+    }
+
+    // Caller holds the lock
+    private void schedule(String issueKey, IssueWrites writes, long delayMillis) {
+        if (writes.timer != null) {
+            writes.timer.cancel(false);
+        }
+        try {
+            writes.timer = scheduler.schedule(() -> flush(issueKey), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the journal keeps the edits for the next start
+            writes.timer = null;
+        }
+    }
+
+    private void flush(String issueKey) {
+        Batch batch;
+        synchronized (this) {
+            IssueWrites writes = issues.get(issueKey);
+            if (writes == null) {
+                return;
+            }
+            writes.timer = null;
+            if (writes.inFlight != null || !writes.hasQueued()) {
+                // The batch in flight schedules the next one when it completes
+                return;
+            }
+            batch = writes.takeBatch();
+            writes.inFlight = batch;
+        }
+        send(issueKey, batch).whenComplete((result, failure) -> completed(issueKey, batch, failure));
+    }
+
+    private CompletableFuture<Void> send(String issueKey, Batch batch) {
+        CompletableFuture<Void> fieldsWritten;
+        if (batch.fields.size() == 0) {
+            fieldsWritten = CompletableFuture.completedFuture(null);
+        } else {
+            fieldsWritten = AsyncCallExecutor.defer(() -> fieldWriter.apply(issueKey, batch.fields.deepCopy()))
+                .thenRun(() -> batch.fieldsWritten = true);
+        }
+        if (batch.status == null) {
+            return fieldsWritten;
+        }
+        // Field updates first: a transition may lead to a status where the fields are no longer editable
+        return fieldsWritten.thenCompose(ignored -> AsyncCallExecutor.defer(() -> transitionWriter.apply(issueKey, batch.status)));
+    }
+
+    private void completed(String issueKey, Batch batch, Throwable failure) {
+        List<CompletableFuture<Void>> done = batch.waiters;
+        Throwable error = null;
+        synchronized (this) {
+            IssueWrites writes = issues.get(issueKey);
+            if (writes == null || writes.inFlight != batch) {
+                // Discarded by clear(), which already failed the callers
+                return;
+            }
+            writes.inFlight = null;
+            if (failure == null) {
+                writes.failedAttempts = 0;
+            } else {
+                Throwable cause = AsyncCallExecutor.unwrap(failure);
+                writes.failedAttempts++;
+                boolean permanent = cause instanceof RequestRejectedException || cause instanceof CancellationException;
+                if (permanent || writes.failedAttempts >= MAX_ATTEMPTS) {
+                    LOG.warn("Giving up on edits of " + issueKey + " after " + writes.failedAttempts + " attempt(s): " + cause.getMessage());
+                    writes.failedAttempts = 0;
+                    error = cause;
+                } else {
+                    long delay = BASE_RETRY_MILLIS << (writes.failedAttempts - 1);
+                    LOG.debug("Edits of " + issueKey + " failed (" + cause.getMessage() + "), retrying in " + delay + "ms");
+                    writes.requeue(batch);
+                    done = Collections.emptyList();
+                    schedule(issueKey, writes, delay);
+                }
+            }
+            if (writes.failedAttempts == 0 && writes.hasQueued() && writes.timer == null) {
+                // Edits made while the batch was in flight have already waited their window
+                schedule(issueKey, writes, 0);
+            }
+            if (writes.isIdle()) {
+                issues.remove(issueKey);
+            }
+        }
+        for (CompletableFuture<Void> waiter : done) {
+            if (error == null) {
+                waiter.complete(null);
+            } else {
+                waiter.completeExceptionally(error);
+            }
+        }
+        saveJournal();
+        notifyListeners(issueKey);
+    }
+
+    private void notifyListeners(String issueKey) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(issueKey);
+            } catch (RuntimeException e) {
+                LOG.warn("Write queue listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    // Journal
+
+    private void saveJournal() {
+        if (journalFile == null || !journalScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ioExecutor.execute(() -> {
+                journalScheduled.set(false);
+                writeJournal();
+            });
+        } catch (RejectedExecutionException e) {
+            journalScheduled.set(false);
+        }
+    }
+
+    private void writeJournal() {
+        File file = journalFile;
+        if (file == null || replayPending) {
+            return;
+        }
+        synchronized (journalLock) {
+            JsonObject journal = snapshot();
+            if (journal == null) {
+                return;
+            }
+            Path path = file.toPath();
+            try {
+                if (journal.getAsJsonObject("issues").size() == 0) {
+                    Files.deleteIfExists(path);
+                    return;
+                }
+                Files.createDirectories(path.getParent());
+                Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    // toString() keeps null values, which clear fields; Gson.toJson would drop them
+                    writer.write(journal.toString());
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Failed to save pending Jira edits: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The unsent edits of every issue: the batch in flight overlaid with what was queued after it.
+     */
+    private synchronized JsonObject snapshot() {
+        if (instanceUrl.isEmpty()) {
+            return null;
+        }
+        JsonObject entries = new JsonObject();
+        for (Map.Entry<String, IssueWrites> issue : issues.entrySet()) {
+            IssueWrites writes = issue.getValue();
+            JsonObject fields = new JsonObject();
+            String status = writes.status;
+            Batch inFlight = writes.inFlight;
+            if (inFlight != null) {
+                if (!inFlight.fieldsWritten) {
+                    inFlight.fields.entrySet().forEach(field -> fields.add(field.getKey(), field.getValue()));
+                }
+                if (status == null) {
+                    status = inFlight.status;
+                }
+            }
+            writes.fields.entrySet().forEach(field -> fields.add(field.getKey(), field.getValue()));
+            if (fields.size() == 0 && status == null) {
+                continue;
+            }
+            JsonObject entry = new JsonObject();
+            entry.add("fields", fields);
+            if (status != null) {
+                entry.addProperty("status", status);
+            }
+            entries.add(issue.getKey(), entry);
+        }
+        JsonObject journal = new JsonObject();
+        journal.addProperty("baseUrl", instanceUrl);
+        journal.add("issues", entries);
+        return journal;
+    }
+
+    private void replay(String instance) {
+        File file = journalFile;
+        JsonObject entries = null;
+        synchronized (journalLock) {
+            if (file != null && file.isFile()) {
+                try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                    JsonObject journal = JsonParser.parseReader(reader).getAsJsonObject();
+                    if (journal.has("baseUrl") && instance.equals(journal.get("baseUrl").getAsString())) {
+                        entries = journal.getAsJsonObject("issues");
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Failed to read pending Jira edits: " + e.getMessage());
+                }
+            }
+        }
+        List<String> replayed = new ArrayList<>();
+        synchronized (this) {
+            if (!instance.equals(instanceUrl)) {
+                // Bound to another instance meanwhile; that bind replays its own journal
+                return;
+            }
+            replayPending = false;
+            if (entries != null) {
+                for (Map.Entry<String, JsonElement> entry : entries.entrySet()) {
+                    JsonObject saved = entry.getValue().getAsJsonObject();
+                    IssueWrites writes = issues.computeIfAbsent(entry.getKey(), key -> new IssueWrites());
+                    // Edits made since the start are newer than the journaled ones
+                    if (saved.has("fields")) {
+                        for (Map.Entry<String, JsonElement> field : saved.getAsJsonObject("fields").entrySet()) {
+                            if (!writes.fields.has(field.getKey())) {
+                                writes.fields.add(field.getKey(), field.getValue());
+                            }
+                        }
+                    }
+                    if (writes.status == null && saved.has("status")) {
+                        writes.status = saved.get("status").getAsString();
+                    }
+                    if (writes.inFlight == null && writes.timer == null) {
+                        schedule(entry.getKey(), writes, COALESCE_MILLIS);
+                    }
+                    replayed.add(entry.getKey());
+                }
+            }
+        }
+        if (!replayed.isEmpty()) {
+            LOG.info("Replaying journaled Jira edits of " + replayed);
+        }
+        saveJournal();
+        replayed.forEach(this::notifyListeners);
+    }
+
+    /**
+     * Edits of one issue: those queued for the next batch and the batch in flight.
+     */
+    private static final class IssueWrites {
+        JsonObject fields = new JsonObject();
+        String status;
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        Batch inFlight;
+        ScheduledFuture<?> timer;
+        int failedAttempts;
+
+        boolean hasQueued() {
+            return fields.size() > 0 || status != null;
+        }
+
+        boolean isIdle() {
+            return inFlight == null && timer == null && !hasQueued() && waiters.isEmpty();
+        }
+
+        Batch takeBatch() {
+            Batch batch = new Batch(fields, status, waiters);
+            fields = new JsonObject();
+            status = null;
+            waiters = new ArrayList<>();
+            return batch;
+        }
+
+        /**
+         * Puts the unwritten part of a failed batch back under the edits queued since it was sent.
+         */
+        void requeue(Batch batch) {
+            if (!batch.fieldsWritten) {
+                for (Map.Entry<String, JsonElement> field : batch.fields.entrySet()) {
+                    if (!fields.has(field.getKey())) {
+                        fields.add(field.getKey(), field.getValue());
+                    }
+                }
+            }
+            if (status == null) {
+                status = batch.status;
+            }
+            waiters.addAll(0, batch.waiters);
+        }
+    }
+
+    private static final class Batch {
+        final JsonObject fields;
+        final String status;
+        final List<CompletableFuture<Void>> waiters;
+        volatile boolean fieldsWritten;
+
+        Batch(JsonObject fields, String status, List<CompletableFuture<Void>> waiters) {
+            this.fields = fields;
+            this.status = status;
+            this.waiters = waiters;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.spectra.intellij.ai.settings.JiraSettings;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Credentials;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application-wide owner of the plugin's HTTP stack.
+ * <p>
+ * Holds a single {@link OkHttpClient} (connection pool, dispatcher), the executor that parses responses and a
+ * {@link Gson} instance shared by every {@link JiraService} and {@link AccessLogService}. UI code obtains its Jira client exclusively through
+ * {@link #getJiraService()}, which picks up credential changes from {@link JiraSettings} without rebuilding the pool.
+ */
+@Service
+public final class JiraClientService implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(JiraClientService.class);
+
+    private static final int MAX_IDLE_CONNECTIONS = 8;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+    private static final long WARM_UP_TIMEOUT_SECONDS = 10;
+    private static final int PARSE_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int PARSE_QUEUE_CAPACITY = 256;
+    private static final long HTTP_CACHE_SIZE_BYTES = 20L * 1024 * 1024;
+
+    private final OkHttpClient httpClient;
+    private final ThreadPoolExecutor parseExecutor;
+    // Delayed work: rate-limit waits and retry backoff
+    private final ScheduledExecutorService scheduler;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry();
+    // One memory budget for the in-memory caches of every client
+    private final CacheRegistry caches = new CacheRegistry(JiraSettings.DEFAULT_CACHE_MEMORY_BUDGET_MB);
+    private final AsyncCallExecutor calls;
+    // Same pool and dispatcher, no disk cache: for credentials that are not the saved ones
+    private final AsyncCallExecutor uncachedCalls;
+    private final ExecutorService taskExecutor;
+    private final Gson gson;
+    private final JiraService jiraService;
+    private final AccessLogShipper accessLogShipper;
+
+    // Settings snapshot last applied to the shared JiraService
+    private String appliedSettingsSignature;
+
+    // origin -> last warm-up time; an origin is not re-warmed while its pooled connection is still alive
+    private final Map<String, Long> lastWarmUpByOrigin = new ConcurrentHashMap<>();
+    // host -> connection setup time (DNS, TCP/TLS handshake) taken by its last successful warm-up
+    private final Map<String, Long> warmUpSetupMillisByHost = new ConcurrentHashMap<>();
+
+    public JiraClientService() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        this.httpClient = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+            // Prefer HTTP/2 so parallel agile/search requests multiplex over one TLS connection
+            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .cache(new Cache(new File(PathManager.getSystemPath(), "spectra-jira/http-cache"), HTTP_CACHE_SIZE_BYTES))
+            .addNetworkInterceptor(new HttpCachePolicy())
+            .build();
+        // Response bodies are parsed here rather than on the common pool; when the queue is full the OkHttp
+        // dispatcher thread that delivered the response parses it itself
+        this.parseExecutor = new ThreadPoolExecutor(PARSE_THREADS, PARSE_THREADS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(PARSE_QUEUE_CAPACITY), daemonThreads("Spectra Jira response parser"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.parseExecutor.allowCoreThreadTimeOut(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("Spectra Jira scheduler"));
+        // One limiter for both executors: Jira throttles per account and host, not per client instance
+        this.rateLimiter = new RateLimiter(scheduler);
+        this.calls = new AsyncCallExecutor(httpClient, parseExecutor, rateLimiter, scheduler, circuitBreakers);
+        this.uncachedCalls = new AsyncCallExecutor(httpClient.newBuilder().cache(null).build(), parseExecutor,
+            rateLimiter, scheduler, circuitBreakers);
+        this.taskExecutor = createTaskExecutor();
+        this.gson = new Gson();
+        this.jiraService = new JiraService(calls, gson, taskExecutor, caches);
+        jiraService.getUserDirectory().setStorageDir(new File(PathManager.getSystemPath(), "spectra-jira/users"));
+        jiraService.getLocalStore().setStorageDir(new File(PathManager.getSystemPath(), "spectra-jira/store"));
+        jiraService.getWriteQueue().setJournalFile(new File(PathManager.getSystemPath(), "spectra-jira/pending-edits.json"));
+        // Access logs of every client go through one background shipper, sent with the shared client's AI settings
+        this.accessLogShipper = new AccessLogShipper(calls, gson, scheduler, taskExecutor,
+            body -> jiraService.buildAiRequest(AiEndpoint.ACCESS_LOG, body),
+            new File(PathManager.getSystemPath(), "spectra-jira/access-log-spool.jsonl"));
+        jiraService.getAccessLogService().setShipper(accessLogShipper);
+        // Keeps the selected board's Epics current without the UI having to ask
+        scheduler.scheduleWithFixedDelay(() -> jiraService.getBoardEpics().refresh(),
+            BoardEpicRegistry.REFRESH_INTERVAL_MINUTES, BoardEpicRegistry.REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public static JiraClientService getInstance() {
+        return ApplicationManager.getApplication().getService(JiraClientService.class);
+    }
+
+    /**
+     * Returns the shared Jira client configured with the current {@link JiraSettings}.
+     */
+    public JiraService getJiraService() {
+        applySettings();
+        return jiraService;
+    }
+
+    /**
+     * Returns the access log service bound to the shared Jira client.
+     */
+    public AccessLogService getAccessLogService() {
+        applySettings();
+        return jiraService.getAccessLogService();
+    }
+
+    /**
+     * Checks credentials that are not saved yet (e.g. token validation in the settings dialog) by reading the account
+     * they belong to. The request uses the shared connection pool, but neither the disk cache, which holds the saved
+     * account's responses, nor a {@link JiraService} with its caches and queues.
+     */
+    public CompletableFuture<JsonObject> validateCredentialsAsync(String jiraUrl, String username, String apiToken) {
+        String baseUrl = jiraUrl.endsWith("/") ? jiraUrl : jiraUrl + "/";
+        return AsyncCallExecutor.defer(() -> {
+            Request request = new Request.Builder()
+                .url(baseUrl + "rest/api/3/myself")
+                .header("Authorization", Credentials.basic(username, apiToken))
+                .build();
+            return uncachedCalls.execute(request, response -> {
+                if (!response.isSuccessful()) {
+                    throw new IOException("Failed to get current user: " + response.code());
+                }
+                String responseBody = response.body() != null ? response.body().string() : "{}";
+                return gson.fromJson(responseBody, JsonObject.class);
+            });
+        });
+    }
+
+    /**
+     * Circuit breakers of the AI server, for the diagnostics panel.
+     */
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    /**
+     * In-memory caches of all clients and their memory budget, sized from the settings.
+     */
+    public CacheRegistry getCaches() {
+        applySettings();
+        return caches;
+    }
+
+    /** Requests sent again after throttling or a transient failure, across all clients. */
+    public long getRetryCount() {
+        return calls.getRetries() + uncachedCalls.getRetries();
+    }
+
+    /** 429 responses received, across all clients. */
+    public long getThrottledResponseCount() {
+        return calls.getThrottledResponses() + uncachedCalls.getThrottledResponses();
+    }
+
+    /** Requests that had to wait for a rate-limit permit. */
+    public long getRateLimitedRequestCount() {
+        return rateLimiter.getDelayedAcquisitions();
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * Executor for {@link TaskScope} subtasks: virtual threads when the IDE runs on Java 21+, otherwise a cached
+     * pool of daemon threads.
+     */
+    public ExecutorService getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Opens connections to the configured Jira site and the AI server in the background (DNS lookup, TCP/TLS
+     * handshake, ALPN negotiation), so the first real request finds a ready connection in the shared pool.
+     */
+    public void warmUpConnections() {
+        String jiraUrl = StringUtils.trimToEmpty(JiraSettings.getInstance().getJiraUrl());
+        for (String target : new String[]{jiraUrl, JiraService.AI_SERVER_URL}) {
+            HttpUrl url = HttpUrl.parse(target);
+            if (url == null) {
+                continue;
+            }
+            String origin = url.scheme() + "://" + url.host() + ":" + url.port();
+            long now = System.currentTimeMillis();
+            Long lastWarmUp = lastWarmUpByOrigin.get(origin);
+            if (lastWarmUp != null && now - lastWarmUp < TimeUnit.MINUTES.toMillis(KEEP_ALIVE_MINUTES)) {
+                continue;
+            }
+            lastWarmUpByOrigin.put(origin, now);
+            ApplicationManager.getApplication().executeOnPooledThread(() -> warmUp(url));
+        }
+    }
+
+    private void warmUp(HttpUrl url) {
+        long start = System.nanoTime();
+        try {
+            // Populates the JVM address cache that OkHttp's system DNS resolver reads from
+            InetAddress.getAllByName(url.host());
+        } catch (UnknownHostException e) {
+            LOG.warn("Connection warm-up skipped, cannot resolve " + url.host() + ": " + e.getMessage());
+            return;
+        }
+        long dnsMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        OkHttpClient warmUpClient = httpClient.newBuilder()
+            .followRedirects(false)
+            .callTimeout(WARM_UP_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .build();
+        Request request = new Request.Builder()
+            .url(url.newBuilder().encodedPath("/").build())
+            .head()
+            .build();
+        try (Response response = warmUpClient.newCall(request).execute()) {
+            long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // Everything but the HEAD round trip itself is setup that the first real request no longer pays
+            long setupMs = Math.max(0, totalMs - (response.receivedResponseAtMillis() - response.sentRequestAtMillis()));
+            warmUpSetupMillisByHost.put(url.host(), setupMs);
+            LOG.info(String.format("Pre-warmed connection to %s in %d ms (DNS %d ms, setup %d ms, %s); "
+                    + "first request to this host skips that setup time",
+                url.host(), totalMs, dnsMs, setupMs, response.protocol()));
+        } catch (Exception e) {
+            LOG.info("Connection warm-up to " + url.host() + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Connection setup time saved for the first request to the host of {@code url} by its last warm-up, or -1 when
+     * that host has not been warmed up (yet).
+     */
+    public long getWarmUpSavingMillis(String url) {
+        HttpUrl parsed = HttpUrl.parse(StringUtils.trimToEmpty(url));
+        return parsed == null ? -1 : warmUpSetupMillisByHost.getOrDefault(parsed.host(), -1L);
+    }
+
+    private static ExecutorService createTaskExecutor() {
+        try {
+            // The plugin targets Java 17, but the IDE runtime (JBR 21) has virtual threads
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.info("Virtual threads unavailable, using a cached thread pool for Jira subtasks");
+            return Executors.newCachedThreadPool(daemonThreads("Spectra Jira task"));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + " " + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private synchronized void applySettings() {
+        JiraSettings settings = JiraSettings.getInstance();
+        String jiraUrl = StringUtils.defaultString(settings.getJiraUrl());
+        String username = StringUtils.defaultString(settings.getUsername());
+        String apiToken = StringUtils.defaultString(settings.getApiToken());
+        String projectKey = StringUtils.defaultString(settings.getDefaultProjectKey()).trim();
+
+        int aiConnectTimeout = settings.getAiConnectTimeoutSeconds();
+        int aiResponseTimeout = settings.getAiResponseTimeoutSeconds();
+        int pageFetchParallelism = settings.getPageFetchParallelism();
+        int cacheMemoryBudgetMb = settings.getCacheMemoryBudgetMb();
+
+        String signature = jiraUrl + '\n' + username + '\n' + apiToken + '\n' + projectKey
+            + '\n' + aiConnectTimeout + '\n' + aiResponseTimeout + '\n' + pageFetchParallelism + '\n' + cacheMemoryBudgetMb;
+        if (signature.equals(appliedSettingsSignature)) {
+            return;
+        }
+
+        String credentials = jiraUrl + '\n' + username + '\n' + apiToken;
+        if (appliedSettingsSignature != null && !appliedSettingsSignature.startsWith(credentials + '\n')) {
+            // Cached responses belong to the previous account
+            evictHttpCache();
+        }
+        jiraService.configure(jiraUrl, username, apiToken);
+        if (!projectKey.isEmpty()) {
+            jiraService.setProjectKey(projectKey);
+        }
+        jiraService.setAiTimeouts(aiConnectTimeout, aiResponseTimeout);
+        jiraService.setPageFetchParallelism(pageFetchParallelism);
+        caches.setMemoryBudgetMb(cacheMemoryBudgetMb);
+        appliedSettingsSignature = signature;
+    }
+
+    private void evictHttpCache() {
+        Cache cache = httpClient.cache();
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evictAll();
+        } catch (IOException e) {
+            LOG.warn("Failed to clear Jira HTTP cache: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        accessLogShipper.close();
+        jiraService.getWriteQueue().close();
+        httpClient.dispatcher().cancelAll();
+        httpClient.dispatcher().executorService().shutdown();
+        scheduler.shutdownNow();
+        parseExecutor.shutdown();
+        taskExecutor.shutdownNow();
+        httpClient.connectionPool().evictAll();
+        try {
+            if (httpClient.cache() != null) {
+                httpClient.cache().close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to close Jira HTTP cache: " + e.getMessage());
+        }
+    }
+}
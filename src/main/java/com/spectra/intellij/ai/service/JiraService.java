@@ -3,24 +3,42 @@ package com.spectra.intellij.ai.service;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.intellij.openapi.diagnostic.Logger;
 import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.model.JiraIssueDetail;
 import com.spectra.intellij.ai.model.JiraSprint;
+import com.spectra.intellij.ai.model.JiraUser;
 import com.spectra.intellij.ai.model.JiraEpic;
 import com.spectra.intellij.ai.model.AIRecommendationRequest;
 import com.spectra.intellij.ai.model.AIRecommendationResponse;
+import com.spectra.intellij.ai.settings.JiraSettings;
 import okhttp3.*;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class JiraService {
+    private static final Logger LOG = Logger.getInstance(JiraService.class);
+
     private static final String JIRA_API_VERSION = "2";
     private static final String JIRA_API_VERSION_3 = "3";
     private static final String AGILE_API_VERSION = "1.0";
+
+    // Spectra AI server (epic suggestion, description generation)
+    static final String AI_SERVER_URL = "http://172.16.120.182:8001";
     
     // Jira Custom Fields
     private static final String CUSTOMFIELD_EPIC_COLOR = "customfield_10013";
@@ -31,48 +49,131 @@ public class JiraService {
     // Project-specific constants - projects that use CUSTOMFIELD_STORY_POINTS_ESTIMATE
     private static final String[] PROJECTS_USING_STORY_POINTS_ESTIMATE = {"DWFLOW"};
 
-    private final OkHttpClient client;
+    // Field projections: every issue read names the fields its parser uses (story points are added per project)
+    private static final FieldProjection LIST_FIELDS = FieldProjection.of(
+        "summary", "description", "status", "assignee", "creator", "priority", "issuetype", "parent", CUSTOMFIELD_EPIC_LINK,
+        "updated");
+    private static final FieldProjection DETAIL_FIELDS = LIST_FIELDS.with(CUSTOMFIELD_EPIC_COLOR);
+    private static final FieldProjection EPIC_FIELDS = FieldProjection.of("summary", CUSTOMFIELD_EPIC_COLOR);
+    private static final FieldProjection EPIC_SUMMARY_FIELDS = FieldProjection.of("summary");
+    private static final FieldProjection STATUS_FIELDS = FieldProjection.of("status", "issuetype").expand("transitions");
+
+    // Requested page size of list reads; Jira may apply a lower cap, which the paging follows
+    private static final int LIST_PAGE_SIZE = 100;
+    private static final int USER_PAGE_SIZE = 1000;
+    // How far back a create that failed in transit is looked for
+    private static final int CREATE_CONFIRM_WINDOW_MINUTES = 5;
+    private static final double ISSUE_TYPES_BUDGET_SHARE = 0.02;
+    private static final long ISSUE_TYPES_REFRESH_MS = 10 * 60 * 1000; // Reloaded in the background after 10 minutes
+    private static final long ISSUE_TYPES_TTL_MS = 24 * 60 * 60 * 1000; // Dropped after a day
+
+    private final AsyncCallExecutor calls;
+    private final Executor taskExecutor;
     private final Gson gson;
-    private AccessLogService accessLogService;
-    private String baseUrl;
-    private String username;
-    private String apiToken;
-    private String projectKey;
+    private final AccessLogService accessLogService;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    // Whether a read may go to the network or must be answered from the HTTP disk cache
+    private enum ReadMode { NETWORK, CACHE_ONLY }
+    private volatile String baseUrl;
+    private volatile String username;
+    private volatile String apiToken;
+    private volatile String projectKey;
+    private volatile int aiConnectTimeoutSeconds = JiraSettings.DEFAULT_AI_CONNECT_TIMEOUT_SECONDS;
+    private volatile int aiResponseTimeoutSeconds = JiraSettings.DEFAULT_AI_RESPONSE_TIMEOUT_SECONDS;
+    private volatile int pageFetchParallelism = JiraSettings.DEFAULT_PAGE_FETCH_PARALLELISM;
     
-    // Epic color cache - key: epicKey, value: CacheEntry
-    private final Map<String, EpicColorCacheEntry> epicColorCache = new ConcurrentHashMap<>();
-    private static final long CACHE_TTL_MS = 5 * 60 * 1000; // 5 minutes TTL
-    
-    private static class EpicColorCacheEntry {
-        final String color;
-        final long timestamp;
-        
-        EpicColorCacheEntry(String color) {
-            this.color = color;
-            this.timestamp = System.currentTimeMillis();
-        }
-        
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_TTL_MS;
-        }
-    }
-
-    public JiraService() {
-        this.client = new OkHttpClient();
-        this.gson = new Gson();
-        this.accessLogService = new AccessLogService(client, gson, this);
+    // In-memory caches share the memory budget of this registry
+    private final CacheRegistry caches;
+    // Summary and color of referenced Epics, resolved in batches
+    private final EpicMetadataStore epicStore;
+    private final WorkflowTransitionCache transitionCache;
+    // All Epics of the selected board, for lookups that must not wait on the network
+    private final BoardEpicRegistry boardEpics;
+    private final UserDirectory userDirectory;
+    // Issue types by project key; rarely change, so a hit is refreshed in the background after a while
+    private final BoundedCache<String, Map<String, String>> issueTypeCache;
+    // The last complete read of the sprints viewed most recently, shown on selection and the base of delta refreshes
+    private final SprintSnapshotStore sprintSnapshots = new SprintSnapshotStore();
+    private final IssueWriteQueue writeQueue;
+    private final LocalIssueStore localStore;
+
+    JiraService(AsyncCallExecutor calls, Gson gson, Executor taskExecutor) {
+        this(calls, gson, taskExecutor, new CacheRegistry(JiraSettings.DEFAULT_CACHE_MEMORY_BUDGET_MB));
+    }
+
+    // Instances are handed out by JiraClientService so that all of them share one OkHttpClient and cache budget
+    JiraService(AsyncCallExecutor calls, Gson gson, Executor taskExecutor, CacheRegistry caches) {
+        this.calls = calls;
+        this.taskExecutor = taskExecutor;
+        this.gson = gson;
+        this.caches = caches;
+        this.accessLogService = new AccessLogService(gson, this);
+        this.epicStore = new EpicMetadataStore(caches);
+        this.transitionCache = new WorkflowTransitionCache(caches);
+        this.boardEpics = new BoardEpicRegistry(this::fetchBoardEpics, this::readStoredBoardEpics, epicStore);
+        this.userDirectory = new UserDirectory(this::fetchAssignableUsers, gson, taskExecutor, caches);
+        this.issueTypeCache = caches.create("Issue types", ISSUE_TYPES_BUDGET_SHARE, ISSUE_TYPES_TTL_MS,
+            ISSUE_TYPES_REFRESH_MS, JiraService::weighIssueTypes, key -> fetchIssueTypes(key, ReadMode.NETWORK));
+        // The queue retries failed batches itself, so its writes are sent once per attempt
+        this.writeQueue = new IssueWriteQueue(this::submitFieldsUpdate,
+            (issueKey, status) -> submitStatusTransition(issueKey, status, RetryPolicy.NONE), calls.getScheduler(), taskExecutor);
+        this.localStore = new LocalIssueStore(gson, taskExecutor);
     }
 
     public void configure(String baseUrl, String username, String apiToken) {
-        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        String normalizedUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        if (!normalizedUrl.equals(this.baseUrl)) {
+            // Cached Epics belong to the previous Jira instance
+            epicStore.clear();
+            boardEpics.clear();
+            transitionCache.clear();
+            issueTypeCache.invalidateAll();
+            sprintSnapshots.clear();
+        }
+        userDirectory.bind(normalizedUrl);
+        localStore.bind(normalizedUrl);
+        if (!normalizedUrl.equals(this.baseUrl) || !Objects.equals(username, this.username) || !Objects.equals(apiToken, this.apiToken)) {
+            // The access log's user info belongs to the previous account
+            accessLogService.resetUserInfo();
+        }
+        this.baseUrl = normalizedUrl;
         this.username = username;
         this.apiToken = apiToken;
+        // After the credentials are set: journaled edits of this instance are replayed with them
+        writeQueue.bind(normalizedUrl);
         this.projectKey = "PROJ"; // Default project key - should be configurable
     }
+
+    public AccessLogService getAccessLogService() {
+        return accessLogService;
+    }
+
+    /**
+     * Counters of the single-flight layer, e.g. how many requests were answered by an identical in-flight call.
+     */
+    public SingleFlight.Stats getRequestCoalescingStats() {
+        return singleFlight.getStats();
+    }
     
     public void setProjectKey(String projectKey) {
         this.projectKey = projectKey;
     }
+
+    /**
+     * Sets the connect and response timeouts (seconds) for calls to the AI server.
+     */
+    public void setAiTimeouts(int connectTimeoutSeconds, int responseTimeoutSeconds) {
+        this.aiConnectTimeoutSeconds = Math.max(1, connectTimeoutSeconds);
+        this.aiResponseTimeoutSeconds = Math.max(1, responseTimeoutSeconds);
+    }
+
+    /**
+     * Number of list pages fetched concurrently once the total is known.
+     */
+    public void setPageFetchParallelism(int parallelism) {
+        this.pageFetchParallelism = Math.max(1, parallelism);
+    }
     
     /**
      * Returns the appropriate story points custom field based on project key
@@ -93,69 +194,69 @@ public class JiraService {
     }
 
     public CompletableFuture<List<JiraSprint>> getSprintsAsync(String boardId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getSprints(boardId);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch sprints", e);
-            }
-        });
+        return async(() -> fetchSprints(boardId, ReadMode.NETWORK), "Failed to fetch sprints");
     }
-    
+
     public CompletableFuture<List<JiraSprint>> getSprintsAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getSprintsFromProjectBoards();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch sprints from project boards", e);
-            }
-        });
+        return async(() -> fetchSprintsFromProjectBoards(ReadMode.NETWORK), "Failed to fetch sprints from project boards");
+    }
+
+    /**
+     * Sprints answered from the HTTP disk cache only, accepting entries up to each endpoint's max-stale, or else the
+     * sprints last stored locally. Fails when neither has them. Lets dialogs render immediately while
+     * {@link #getSprintsAsync()} revalidates.
+     */
+    public CompletableFuture<List<JiraSprint>> getCachedSprintsAsync() {
+        String projectKey = getProjectKey();
+        return async(() -> fetchSprintsFromProjectBoards(ReadMode.CACHE_ONLY)
+            .exceptionallyCompose(failure -> storedValue(localStore.readSprints(projectKey), failure)), "No cached sprints");
+    }
+
+    /**
+     * The sprints of the project as last read from Jira, from the local store; completes with null when none are
+     * stored. Never makes a request.
+     */
+    public CompletableFuture<LocalIssueStore.Stored<List<JiraSprint>>> getStoredSprintsAsync() {
+        return localStore.readSprints(getProjectKey());
     }
 
     public CompletableFuture<List<JiraIssue>> getEpicsAsync(String boardId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Use getEpicList() instead of getEpics(boardId) to avoid deprecated API
-                List<JiraEpic> epicList = getEpicList();
-                List<JiraIssue> epics = new ArrayList<>();
-                for (JiraEpic epic : epicList) {
-                    JiraIssue issue = new JiraIssue();
-                    issue.setKey(epic.getKey());
-                    issue.setSummary(epic.getSummary());
-                    issue.setIssueType("Epic");
-                    epics.add(issue);
-                }
-                return epics;
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch epics", e);
+        // Use getEpicList() instead of getEpics(boardId) to avoid deprecated API
+        return async(() -> fetchEpicList().thenApply(epicList -> {
+            List<JiraIssue> epics = new ArrayList<>();
+            for (JiraEpic epic : epicList) {
+                JiraIssue issue = new JiraIssue();
+                issue.setKey(epic.getKey());
+                issue.setSummary(epic.getSummary());
+                issue.setIssueType("Epic");
+                epics.add(issue);
             }
-        });
+            return epics;
+        }), "Failed to fetch epics");
     }
 
     public CompletableFuture<List<JiraEpic>> getEpicListAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getEpicList();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch epics", e);
-            }
-        });
+        return async(this::fetchEpicList, "Failed to fetch epics");
     }
 
     public List<JiraSprint> getSprints(String boardId) throws IOException {
+        return AsyncCallExecutor.await(fetchSprints(boardId, ReadMode.NETWORK));
+    }
+
+    private CompletableFuture<List<JiraSprint>> fetchSprints(String boardId, ReadMode mode) {
         String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/board/" + boardId + "/sprint?state=active,future";
         logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+        Request request = buildRequest(url, mode);
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get sprints: " + response.code());
             }
-            
+
             String responseBody = response.body() != null ? response.body().string() : "{}";
             JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
             JsonArray sprintsArray = responseJson.getAsJsonArray("values");
-            
+
             List<JiraSprint> sprints = new ArrayList<>();
             for (int i = 0; i < sprintsArray.size(); i++) {
                 JsonObject sprintJson = sprintsArray.get(i).getAsJsonObject();
@@ -169,44 +270,69 @@ public class JiraService {
                 sprint.setBoardId(boardId);
                 sprints.add(sprint);
             }
-            
+
             return sprints;
-        }
+        });
     }
-    
+
     public List<JiraSprint> getSprintsFromProjectBoards() throws IOException {
-        // First get all boards for the project
-        List<String> boardIds = getProjectBoardIds();
-        
-        List<JiraSprint> allSprints = new ArrayList<>();
-        for (String boardId : boardIds) {
-            try {
-                List<JiraSprint> boardSprints = getSprints(boardId);
-                allSprints.addAll(boardSprints);
-            } catch (IOException e) {
-                // Log and continue with other boards
-                System.err.println("Failed to get sprints for board " + boardId + ": " + e.getMessage());
-            }
-        }
-        
-        return allSprints;
+        return AsyncCallExecutor.await(fetchSprintsFromProjectBoards(ReadMode.NETWORK));
+    }
+
+    private CompletableFuture<List<JiraSprint>> fetchSprintsFromProjectBoards(ReadMode mode) {
+        String projectKey = getProjectKey();
+        long readAt = System.currentTimeMillis();
+        // First get all boards for the project, then query every board concurrently
+        return fetchProjectBoardIds(mode).thenCompose(boardIds -> {
+            TaskScope scope = new TaskScope(taskExecutor);
+            List<TaskScope.Subtask<List<JiraSprint>>> boardSprints = new ArrayList<>();
+            for (String boardId : boardIds) {
+                boardSprints.add(scope.fork(() -> fetchSprints(boardId, mode)));
+            }
+
+            return scope.join().thenApply(ignored -> {
+                List<JiraSprint> allSprints = new ArrayList<>();
+                boolean complete = true;
+                for (int i = 0; i < boardIds.size(); i++) {
+                    TaskScope.Subtask<List<JiraSprint>> subtask = boardSprints.get(i);
+                    if (subtask.state() == TaskScope.State.SUCCESS) {
+                        allSprints.addAll(subtask.get());
+                    } else if (mode == ReadMode.CACHE_ONLY) {
+                        // A partial sprint list from the cache would be misleading; let the network load answer
+                        throw new CompletionException(new IOException("Sprints of board " + boardIds.get(i) + " are not cached"));
+                    } else {
+                        // Log and continue with other boards
+                        System.err.println("Failed to get sprints for board " + boardIds.get(i) + ": " + subtask.exception().getMessage());
+                        complete = false;
+                    }
+                }
+                if (mode == ReadMode.NETWORK && complete) {
+                    localStore.writeSprints(projectKey, allSprints, readAt);
+                }
+                return allSprints;
+            });
+        });
     }
-    
+
     public List<String> getProjectBoardIds() throws IOException {
+        return AsyncCallExecutor.await(fetchProjectBoardIds(ReadMode.NETWORK));
+    }
+
+    private CompletableFuture<List<String>> fetchProjectBoardIds(ReadMode mode) {
         String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/board?projectKeyOrId=" + getProjectKey();
         logRequest("GET", url);
 //        accessLogService.sendAccessLog("스프린트 목록 조회", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+        Request request = buildRequest(url, mode);
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get project boards: " + response.code());
             }
-            
+
             String responseBody = response.body() != null ? response.body().string() : "{}";
             JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
             JsonArray boardsArray = responseJson.getAsJsonArray("values");
-            
+
             List<String> boardIds = new ArrayList<>();
             if (boardsArray != null) {
                 for (int i = 0; i < boardsArray.size(); i++) {
@@ -215,175 +341,534 @@ public class JiraService {
                     boardIds.add(boardId);
                 }
             }
-            
+
             return boardIds;
-        }
+        });
     }
 
     public List<JiraIssue> getEpics(String boardId) throws IOException {
+        return AsyncCallExecutor.await(Paging.fetchOffsetPages(this::fetchEpicPage, pageFetchParallelism, page -> { }));
+    }
+
+    private CompletableFuture<Paging.Page<JiraIssue>> fetchEpicPage(int startAt) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/search";
-        
+
         // JQL to get Epics from project
         String jql = "project = " + getProjectKey() + " AND issuetype = Epic ORDER BY updated DESC";
-        
+
         JsonObject requestBody = new JsonObject();
         requestBody.addProperty("jql", jql);
-        requestBody.addProperty("startAt", 0);
-        requestBody.addProperty("maxResults", 50);
-        
-        // Specify fields to retrieve
-        JsonArray fields = new JsonArray();
-        fields.add("summary");
-        requestBody.add("fields", fields);
-        
+        requestBody.addProperty("startAt", startAt);
+        requestBody.addProperty("maxResults", LIST_PAGE_SIZE);
+
+        requestBody.add("fields", EPIC_SUMMARY_FIELDS.toJsonArray());
+
         RequestBody body = RequestBody.create(
             gson.toJson(requestBody),
             MediaType.parse("application/json")
         );
-        
+
         logRequest("POST", url, gson.toJson(requestBody));
-        
+
         Request request = buildRequest(url).newBuilder()
             .post(body)
+            .tag(RetryPolicy.class, RetryPolicy.IDEMPOTENT)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get epics: " + response.code());
             }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            JsonArray epicsArray = responseJson.getAsJsonArray("issues");
-            
-            List<JiraIssue> epics = new ArrayList<>();
-            for (int i = 0; i < epicsArray.size(); i++) {
-                JsonObject epicJson = epicsArray.get(i).getAsJsonObject();
-                JiraIssue epic = new JiraIssue();
-                epic.setKey(epicJson.get("key").getAsString());
-                
-                JsonObject fieldsObj = epicJson.getAsJsonObject("fields");
-                epic.setSummary(fieldsObj.get("summary").getAsString());
-                epic.setIssueType("Epic");
-                
-                epics.add(epic);
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return Paging.readPage(reader, "issues", in -> {
+                    JiraIssue epic = new JiraIssue();
+                    epic.setIssueType("Epic");
+                    JsonStreams.readObject(in, (name, value) -> {
+                        if ("key".equals(name)) {
+                            epic.setKey(JsonStreams.nextStringOrNull(value));
+                        } else if ("fields".equals(name)) {
+                            epic.setSummary(JsonStreams.readStringMember(value, "summary"));
+                        } else {
+                            value.skipValue();
+                        }
+                    });
+                    return epic;
+                });
             }
-            
-            return epics;
-        }
+        });
     }
 
     public List<JiraEpic> getEpicList() throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/search/jql";
+        return AsyncCallExecutor.await(fetchEpicList());
+    }
 
+    private CompletableFuture<List<JiraEpic>> fetchEpicList() {
         // JQL to get Epics from project
         String jql = "project = " + getProjectKey() + " AND issuetype = Epic ORDER BY updated DESC";
-        
+
+        // Every Epic of the project is read anyway, so the list also fills the Epic store
+        return Paging.fetchCursorPages(token -> fetchJqlPage(jql, EPIC_FIELDS, this::readEpic, token), page -> page.forEach(epicStore::put));
+    }
+
+    private JiraEpic readEpic(JsonReader reader) throws IOException {
+        JiraEpic epic = new JiraEpic();
+        JsonStreams.readObject(reader, (name, value) -> {
+            if ("key".equals(name)) {
+                epic.setKey(JsonStreams.nextStringOrNull(value));
+            } else if ("fields".equals(name)) {
+                JsonStreams.readObject(value, (field, fieldValue) -> {
+                    if ("summary".equals(field)) {
+                        String summary = JsonStreams.nextStringOrNull(fieldValue);
+                        epic.setSummary(summary);
+                        epic.setName(summary);
+                    } else if (CUSTOMFIELD_EPIC_COLOR.equals(field)) {
+                        epic.setColor(mapGhxLabelToHex(JsonStreams.nextStringOrNull(fieldValue)));
+                    } else {
+                        fieldValue.skipValue();
+                    }
+                });
+            } else {
+                value.skipValue();
+            }
+        });
+        return epic;
+    }
+
+    /**
+     * Epics of the selected board, answered from memory; see {@link BoardEpicRegistry}.
+     */
+    public BoardEpicRegistry getBoardEpics() {
+        return boardEpics;
+    }
+
+    private CompletableFuture<List<JiraEpic>> fetchBoardEpics(String boardId) {
+        String projectKey = getProjectKey();
+        long readAt = System.currentTimeMillis();
+        CompletableFuture<List<JiraEpic>> pages =
+            Paging.fetchOffsetPages(startAt -> fetchBoardEpicPage(boardId, startAt), pageFetchParallelism, page -> { });
+        CompletableFuture<List<JiraEpic>> stored = pages.thenApply(epics -> {
+            localStore.writeBoardEpics(projectKey, boardId, epics, readAt);
+            return epics;
+        });
+        AsyncCallExecutor.cancelWith(stored, pages);
+        return stored;
+    }
+
+    private CompletableFuture<List<JiraEpic>> readStoredBoardEpics(String boardId) {
+        return localStore.readBoardEpics(getProjectKey(), boardId).thenApply(stored -> stored != null ? stored.getValue() : null);
+    }
+
+    private CompletableFuture<Paging.Page<JiraEpic>> fetchBoardEpicPage(String boardId, int startAt) {
+        String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/board/" + boardId + "/epic?startAt=" + startAt + "&maxResults=" + LIST_PAGE_SIZE;
+        logRequest("GET", url);
+
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to get board epics: " + response.code());
+            }
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return Paging.readPage(reader, "values", this::readBoardEpic);
+            }
+        });
+    }
+
+    private JiraEpic readBoardEpic(JsonReader reader) throws IOException {
+        JiraEpic epic = new JiraEpic();
+        JsonStreams.readObject(reader, (name, value) -> {
+            switch (name) {
+                case "key":
+                    epic.setKey(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "name":
+                    epic.setName(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "summary":
+                    epic.setSummary(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "color":
+                    // {"key": "color_4"}: the board's name for the ghx-label-4 Epic color
+                    String colorKey = JsonStreams.readStringMember(value, "key");
+                    epic.setColor(colorKey != null ? mapGhxLabelToHex(colorKey.replace("color_", "ghx-label-")) : null);
+                    break;
+                case "done":
+                    epic.setDone("true".equals(JsonStreams.nextStringOrNull(value)));
+                    break;
+                default:
+                    value.skipValue();
+            }
+        });
+        return epic;
+    }
+
+    /**
+     * Returns the Epic if it is known without a request: on the selected board or in the Epic store.
+     */
+    private JiraEpic knownEpic(String epicKey) {
+        JiraEpic epic = boardEpics.get(epicKey);
+        return epic != null ? epic : epicStore.get(epicKey);
+    }
+
+    public CompletableFuture<JiraEpic> getEpicAsync(String epicKey) {
+        JiraEpic known = knownEpic(epicKey);
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+        return async(() -> epicStore.resolve(Collections.singleton(epicKey), this::fetchEpicsByKey)
+            .thenApply(epics -> {
+                JiraEpic epic = epics.get(epicKey);
+                if (epic == null) {
+                    throw new CompletionException(new IOException("Epic not found: " + epicKey));
+                }
+                return epic;
+            }), "Failed to fetch epic");
+    }
+
+    /**
+     * Loads Epics by key with {@code key in (...)} searches, one per page worth of keys.
+     */
+    private CompletableFuture<Map<String, JiraEpic>> fetchEpicsByKey(Set<String> epicKeys) {
+        List<String> keys = new ArrayList<>(epicKeys);
+        List<CompletableFuture<List<JiraEpic>>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += LIST_PAGE_SIZE) {
+            String jql = "key in (" + String.join(",", keys.subList(from, Math.min(keys.size(), from + LIST_PAGE_SIZE))) + ")";
+            chunks.add(Paging.fetchCursorPages(token -> fetchJqlPage(jql, EPIC_FIELDS, this::readEpic, token), page -> { }));
+        }
+        CompletableFuture<Map<String, JiraEpic>> result = CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                Map<String, JiraEpic> epics = new HashMap<>();
+                chunks.forEach(chunk -> chunk.join().forEach(epic -> epics.put(epic.getKey(), epic)));
+                return epics;
+            });
+        AsyncCallExecutor.cancelWith(result, chunks.toArray(new CompletableFuture<?>[0]));
+        return result;
+    }
+
+    /**
+     * Sets the Epic color of list issues whose Epic is already known, and resolves the other Epics referenced by the
+     * page in one batch, so that opening any of the issues finds its Epic in the store. The batch runs in the
+     * background; the list does not wait for it.
+     */
+    private void prefetchEpics(List<JiraIssue> issues) {
+        Set<String> epicKeys = new LinkedHashSet<>();
+        for (JiraIssue issue : issues) {
+            if (issue.getParentKey() == null) {
+                continue;
+            }
+            JiraEpic epic = knownEpic(issue.getParentKey());
+            if (epic != null) {
+                issue.setEpicColor(epic.getColor());
+            } else {
+                epicKeys.add(issue.getParentKey());
+            }
+        }
+        if (!epicKeys.isEmpty()) {
+            epicStore.resolve(epicKeys, this::fetchEpicsByKey).exceptionally(throwable -> {
+                System.err.println("Failed to prefetch Epics: " + AsyncCallExecutor.unwrap(throwable).getMessage());
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Runs a JQL query lazily, reading issues with the issue table's fields. See {@link JqlResults} for paging and
+     * prefetching; close the results when stopping early.
+     * <p>
+     * Iterating blocks while a page is in transit: call it from a background thread, never from the EDT.
+     */
+    public JqlResults<JiraIssue> searchIssues(String jql) {
+        FieldProjection projection = LIST_FIELDS.with(getStoryPointsField());
+        return new JqlResults<>(token -> fetchJqlPage(jql, projection, this::readIssueForList, token));
+    }
+
+    /**
+     * Fetches one page of {@code /search/jql}; a null token asks for the first page.
+     */
+    private <T> CompletableFuture<Paging.Page<T>> fetchJqlPage(String jql, FieldProjection projection,
+                                                             JsonStreams.ElementReader<T> elementReader, String nextPageToken) {
+        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/search/jql";
+
         JsonObject requestBody = new JsonObject();
         requestBody.addProperty("jql", jql);
-        requestBody.addProperty("maxResults", 50);
-        
-        // Specify fields to retrieve
-        JsonArray fields = new JsonArray();
-        fields.add("summary");
-        requestBody.add("fields", fields);
-        
+        requestBody.addProperty("maxResults", LIST_PAGE_SIZE);
+        if (nextPageToken != null) {
+            requestBody.addProperty("nextPageToken", nextPageToken);
+        }
+
+        requestBody.add("fields", projection.toJsonArray());
+
         RequestBody body = RequestBody.create(
             gson.toJson(requestBody),
             MediaType.parse("application/json")
         );
-        
+
         logRequest("POST", url, gson.toJson(requestBody));
-        
+
         Request request = buildRequest(url).newBuilder()
             .post(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return executeShared(request, gson.toJson(requestBody), response -> {
             if (!response.isSuccessful()) {
-                throw new IOException("Failed to get epics: " + response.code());
+                throw new IOException("Failed to search issues: " + response.code());
             }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            JsonArray epicsArray = responseJson.getAsJsonArray("issues");
-            
-            List<JiraEpic> epics = new ArrayList<>();
-            for (int i = 0; i < epicsArray.size(); i++) {
-                JsonObject epicJson = epicsArray.get(i).getAsJsonObject();
-                JiraEpic epic = new JiraEpic();
-                epic.setKey(epicJson.get("key").getAsString());
-                
-                JsonObject fieldsObj = epicJson.getAsJsonObject("fields");
-                epic.setSummary(fieldsObj.get("summary").getAsString());
-                epic.setName(fieldsObj.get("summary").getAsString());
-                
-                epics.add(epic);
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return Paging.readPage(reader, "issues", elementReader);
             }
-            
-            return epics;
-        }
+        });
     }
 
     public CompletableFuture<List<JiraIssue>> getSprintIssuesAsync(String sprintId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getSprintIssues(sprintId);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch sprint issues", e);
-            }
-        });
+        return getSprintIssuesAsync(sprintId, page -> { });
+    }
+
+    /**
+     * Fetches all issues of a sprint, page by page. {@code onPage} receives each page as soon as it is parsed, on a
+     * background thread and not necessarily in list order; the returned future completes with the ordered list.
+     */
+    public CompletableFuture<List<JiraIssue>> getSprintIssuesAsync(String sprintId, Consumer<List<JiraIssue>> onPage) {
+        return async(() -> fetchSprintIssues(sprintId, onPage), "Failed to fetch sprint issues");
     }
 
     public List<JiraIssue> getSprintIssues(String sprintId) throws IOException {
-        String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/sprint/" + sprintId + "/issue?maxResults=500&expand=renderedFields";
-        logRequest("GET", url);
-        
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to get sprint issues: " + response.code());
+        return AsyncCallExecutor.await(fetchSprintIssues(sprintId, page -> { }));
+    }
+
+    private CompletableFuture<List<JiraIssue>> fetchSprintIssues(String sprintId, Consumer<List<JiraIssue>> onPage) {
+        String projectKey = getProjectKey();
+        long startedAt = System.currentTimeMillis();
+        CompletableFuture<List<JiraIssue>> pages = Paging.fetchOffsetPages(startAt -> fetchSprintIssuePage(sprintId, startAt), pageFetchParallelism, page -> {
+            prefetchEpics(page);
+            page.forEach(transitionCache::track);
+            onPage.accept(page);
+        });
+        CompletableFuture<List<JiraIssue>> loaded = pages.thenApply(issues -> {
+            rememberSprintIssues(projectKey, sprintId, issues, startedAt);
+            return issues;
+        });
+        AsyncCallExecutor.cancelWith(loaded, pages);
+        return loaded;
+    }
+
+    /**
+     * Brings a sprint up to date with as little transfer as possible. After a complete read of the sprint, only the
+     * issues updated since then are read ({@code sprint = X AND updated >= -Nm}), together with the sprint's issue
+     * keys, which show issues that left or joined the sprint and the current rank order. Without an earlier read
+     * this is a full {@link #getSprintIssuesAsync(String)}.
+     */
+    public CompletableFuture<List<JiraIssue>> refreshSprintIssuesAsync(String sprintId) {
+        return async(() -> fetchSprintChanges(sprintId), "Failed to refresh sprint issues");
+    }
+
+    /**
+     * The sprint's issues as last read from Jira, from memory or else from the local store; completes with null when
+     * the sprint was never read completely. Never makes a request. Meant for showing a sprint on selection, and
+     * counted as a hit or miss of the sprint cache; see {@link #getSprintCacheStats()}. A stored list becomes the base
+     * of the next {@link #refreshSprintIssuesAsync(String)}, which then only reads what changed since.
+     */
+    public CompletableFuture<LocalIssueStore.Stored<List<JiraIssue>>> getStoredSprintIssuesAsync(String sprintId) {
+        String projectKey = getProjectKey();
+        SprintSnapshotStore.Snapshot snapshot = sprintSnapshots.get(projectKey, sprintId);
+        if (snapshot != null) {
+            sprintSnapshots.recordHit(snapshot.readStartedAt, false);
+            return CompletableFuture.completedFuture(new LocalIssueStore.Stored<>(snapshot.issues, snapshot.readStartedAt));
+        }
+        return readStoredSprintIssues(projectKey, sprintId).thenApply(stored -> {
+            if (stored != null) {
+                sprintSnapshots.recordHit(stored.getReadAt(), true);
+            } else {
+                sprintSnapshots.recordMiss();
             }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            JsonArray issuesArray = responseJson.getAsJsonArray("issues");
-            
-            List<JiraIssue> issues = new ArrayList<>();
-            for (int i = 0; i < issuesArray.size(); i++) {
-                JsonObject issueJson = issuesArray.get(i).getAsJsonObject();
-                JiraIssue issue = parseIssueForList(issueJson);
-                issues.add(issue);
+            return stored;
+        });
+    }
+
+    /**
+     * Hits and misses of {@link #getStoredSprintIssuesAsync(String)}, delta reads and the sprints kept in memory.
+     */
+    public SprintSnapshotStore.Stats getSprintCacheStats() {
+        return sprintSnapshots.getStats();
+    }
+
+    private CompletableFuture<LocalIssueStore.Stored<List<JiraIssue>>> readStoredSprintIssues(String projectKey, String sprintId) {
+        return localStore.readSprintIssues(projectKey, sprintId).thenApply(stored -> {
+            if (stored != null) {
+                sprintSnapshots.put(projectKey, sprintId, stored.getValue(), stored.getReadAt());
             }
-            
-            return issues;
-        }
+            return stored;
+        });
     }
 
-    public CompletableFuture<JiraIssue> createIssueAsync(JiraIssue issue) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return createIssue(issue);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to create issue", e);
+    private void rememberSprintIssues(String projectKey, String sprintId, List<JiraIssue> issues, long readStartedAt) {
+        sprintSnapshots.put(projectKey, sprintId, issues, readStartedAt);
+        localStore.writeSprintIssues(projectKey, sprintId, issues, readStartedAt);
+    }
+
+    private CompletableFuture<List<JiraIssue>> fetchSprintChanges(String sprintId) {
+        String projectKey = getProjectKey();
+        SprintSnapshotStore.Snapshot snapshot = sprintSnapshots.get(projectKey, sprintId);
+        if (snapshot == null) {
+            // After a restart the stored read is the base
+            return AsyncCallExecutor.compose(readStoredSprintIssues(projectKey, sprintId),
+                stored -> sprintSnapshots.get(projectKey, sprintId) != null
+                    ? fetchSprintChanges(sprintId)
+                    : fetchSprintIssues(sprintId, page -> { }));
+        }
+        long startedAt = System.currentTimeMillis();
+        FieldProjection projection = LIST_FIELDS.with(getStoryPointsField());
+        String jql = "sprint = " + sprintId + " AND updated >= -" + snapshot.lookbackMinutes(startedAt) + "m";
+
+        CompletableFuture<List<String>> sprintKeys = Paging.fetchOffsetPages(
+            startAt -> fetchSprintKeyPage(sprintId, startAt), pageFetchParallelism, page -> { });
+        CompletableFuture<List<JiraIssue>> changed = Paging.fetchCursorPages(
+            token -> fetchJqlPage(jql, projection, this::readIssueForList, token), page -> { });
+
+        CompletableFuture<List<JiraIssue>> merged = AsyncCallExecutor.compose(CompletableFuture.allOf(sprintKeys, changed), ignored -> {
+            Map<String, JiraIssue> fresh = new HashMap<>();
+            changed.join().forEach(issue -> fresh.put(issue.getKey(), issue));
+            // Moving an issue into a sprint does not always change its update time
+            List<String> unknown = new ArrayList<>();
+            for (String key : sprintKeys.join()) {
+                if (!fresh.containsKey(key) && !snapshot.byKey.containsKey(key)) {
+                    unknown.add(key);
+                }
             }
+            CompletableFuture<List<JiraIssue>> joined = unknown.isEmpty()
+                ? CompletableFuture.completedFuture(Collections.emptyList())
+                : fetchIssuesByKey(unknown, projection);
+            return joined.thenApply(issues -> {
+                issues.forEach(issue -> fresh.put(issue.getKey(), issue));
+                List<JiraIssue> result = new ArrayList<>();
+                for (String key : sprintKeys.join()) {
+                    JiraIssue issue = fresh.containsKey(key) ? fresh.get(key) : snapshot.byKey.get(key);
+                    if (issue != null) {
+                        result.add(issue);
+                    }
+                }
+                List<JiraIssue> updated = new ArrayList<>(fresh.values());
+                prefetchEpics(updated);
+                updated.forEach(transitionCache::track);
+                long joinedCount = result.stream().filter(issue -> !snapshot.byKey.containsKey(issue.getKey())).count();
+                long changedCount = updated.stream()
+                    .filter(issue -> snapshot.byKey.containsKey(issue.getKey()) && !isSameUpdate(snapshot.byKey.get(issue.getKey()), issue))
+                    .count();
+                long leftCount = snapshot.issues.size() + joinedCount - result.size();
+                LOG.debug("Sprint " + sprintId + " refreshed: " + changedCount + " changed, " + joinedCount + " joined, "
+                    + leftCount + " left");
+                sprintSnapshots.recordRevalidation(changedCount > 0 || !sameKeys(result, snapshot.issues));
+                rememberSprintIssues(projectKey, sprintId, result, startedAt);
+                return result;
+            });
         });
+        AsyncCallExecutor.cancelWith(merged, sprintKeys, changed);
+        return merged;
     }
 
-    public JiraIssue createIssue(JiraIssue issue) throws IOException {
+    /**
+     * Whether both lists hold the same issues in the same order.
+     */
+    private static boolean sameKeys(List<JiraIssue> first, List<JiraIssue> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).getKey().equals(second.get(i).getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameUpdate(JiraIssue previous, JiraIssue current) {
+        return previous != null && previous.getUpdated() != null && previous.getUpdated().equals(current.getUpdated());
+    }
+
+    /**
+     * Reads one page of the sprint's issue keys, in rank order. No fields are requested, so each issue is only its
+     * id and key.
+     */
+    private CompletableFuture<Paging.Page<String>> fetchSprintKeyPage(String sprintId, int startAt) {
+        // Jira ignores field names it does not know; "key" is not a field, so the issues come back without fields
+        String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/sprint/" + sprintId + "/issue?startAt=" + startAt
+            + "&maxResults=" + LIST_PAGE_SIZE + "&fields=key";
+        logRequest("GET", url);
+
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to get sprint issue keys: " + response.code());
+            }
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return Paging.readPage(reader, "issues", value -> JsonStreams.readStringMember(value, "key"));
+            }
+        });
+    }
+
+    /**
+     * Reads issues with the list fields by key, with {@code key in (...)} searches of one page worth of keys each.
+     */
+    private CompletableFuture<List<JiraIssue>> fetchIssuesByKey(List<String> keys, FieldProjection projection) {
+        List<CompletableFuture<List<JiraIssue>>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += LIST_PAGE_SIZE) {
+            String jql = "key in (" + String.join(",", keys.subList(from, Math.min(keys.size(), from + LIST_PAGE_SIZE))) + ")";
+            chunks.add(Paging.fetchCursorPages(token -> fetchJqlPage(jql, projection, this::readIssueForList, token), page -> { }));
+        }
+        CompletableFuture<List<JiraIssue>> result = CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                List<JiraIssue> issues = new ArrayList<>();
+                chunks.forEach(chunk -> issues.addAll(chunk.join()));
+                return issues;
+            });
+        AsyncCallExecutor.cancelWith(result, chunks.toArray(new CompletableFuture<?>[0]));
+        return result;
+    }
+
+    private CompletableFuture<Paging.Page<JiraIssue>> fetchSprintIssuePage(String sprintId, int startAt) {
+        String url = baseUrl + "rest/agile/" + AGILE_API_VERSION + "/sprint/" + sprintId + "/issue?startAt=" + startAt + "&maxResults=" + LIST_PAGE_SIZE;
+        url = LIST_FIELDS.with(getStoryPointsField()).appendTo(url);
+        logRequest("GET", url);
+
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to get sprint issues: " + response.code());
+            }
+
+            // Decoded from the stream one issue at a time
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return Paging.readPage(reader, "issues", this::readIssueForList);
+            }
+        });
+    }
+
+    public CompletableFuture<JiraIssue> createIssueAsync(JiraIssue issue) {
+        return async(() -> submitNewIssue(issue), "Failed to create issue");
+    }
+
+    public JiraIssue createIssue(JiraIssue issue) throws IOException {
+        return AsyncCallExecutor.await(submitNewIssue(issue));
+    }
+
+    private CompletableFuture<JiraIssue> submitNewIssue(JiraIssue issue) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue";
-        
+
         JsonObject issuePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         // Required fields: project, issuetype, summary
         fields.addProperty("summary", issue.getSummary());
-        
+
         JsonObject project = new JsonObject();
         project.addProperty("key", getProjectKey());
         fields.add("project", project);
-        
+
         JsonObject issuetype = new JsonObject();
         if (StringUtils.isNotBlank(issue.getIssueTypeId())) {
             issuetype.addProperty("id", issue.getIssueTypeId());
@@ -391,34 +876,19 @@ public class JiraService {
             issuetype.addProperty("name", StringUtils.isNotBlank(issue.getIssueType()) ? issue.getIssueType() : "Task");
         }
         fields.add("issuetype", issuetype);
-        
+
         // Optional fields - use ADF format for description in API v3
         if (StringUtils.isNotBlank(issue.getDescription())) {
             JsonObject description = createADFDescription(issue.getDescription());
             fields.add("description", description);
         }
-        
+
         if (StringUtils.isNotBlank(issue.getPriority())) {
             JsonObject priority = new JsonObject();
             priority.addProperty("name", issue.getPriority());
             fields.add("priority", priority);
         }
 
-        // Add assignee if specified
-        if (StringUtils.isNotBlank(issue.getAssignee())) {
-            try {
-                String accountId = findUserAccountIdByDisplayName(issue.getAssignee());
-                if (accountId != null) {
-                    JsonObject assignee = new JsonObject();
-                    assignee.addProperty("accountId", accountId);
-                    fields.add("assignee", assignee);
-                }
-            } catch (IOException e) {
-                System.err.println("Warning: Failed to find user account ID for assignee: " + issue.getAssignee());
-                // Don't fail the issue creation if assignee lookup fails
-            }
-        }
-
         // Add epic link if specified
         if (StringUtils.isNotBlank(issue.getEpicKey())) {
             fields.addProperty(CUSTOMFIELD_EPIC_LINK, issue.getEpicKey()); // Epic Link field
@@ -428,56 +898,80 @@ public class JiraService {
         if (issue.getStoryPoints() != null) {
             fields.addProperty(getStoryPointsField(), issue.getStoryPoints()); // Story Points field
         }
-        
-        issuePayload.add("fields", fields);
-        
-        RequestBody body = RequestBody.create(
-            gson.toJson(issuePayload),
-            MediaType.parse("application/json")
-        );
-
-        logRequest("POST", url, gson.toJson(issuePayload));
-        accessLogService.sendAccessLog("이슈 생성", url);
 
-        Request request = buildRequest(url).newBuilder()
-            .post(body)
-            .build();
-        
-        try (Response response = client.newCall(request).execute()) {
-            String responseBody = response.body() != null ? response.body().string() : "";
+        // Add assignee if specified
+        CompletableFuture<String> assigneeAccountId = CompletableFuture.completedFuture(null);
+        if (StringUtils.isNotBlank(issue.getAssignee())) {
+            assigneeAccountId = findUserAccountIdByDisplayName(issue.getAssignee()).exceptionally(throwable -> {
+                System.err.println("Warning: Failed to find user account ID for assignee: " + issue.getAssignee());
+                // Don't fail the issue creation if assignee lookup fails
+                return null;
+            });
+        }
 
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to create issue: " + response.code() + " - " + responseBody);
+        return assigneeAccountId.thenCompose(accountId -> {
+            if (accountId != null) {
+                JsonObject assignee = new JsonObject();
+                assignee.addProperty("accountId", accountId);
+                fields.add("assignee", assignee);
             }
-            
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            issue.setKey(responseJson.get("key").getAsString());
-            
+
+            issuePayload.add("fields", fields);
+
+            RequestBody body = RequestBody.create(
+                gson.toJson(issuePayload),
+                MediaType.parse("application/json")
+            );
+
+            logRequest("POST", url, gson.toJson(issuePayload));
+            accessLogService.sendAccessLog("이슈 생성", url);
+
+            Request request = buildRequest(url).newBuilder()
+                .post(body)
+                .tag(RetryPolicy.class, RetryPolicy.REJECTED_ONLY)
+                .build();
+
+            return calls.execute(request, response -> {
+                String responseBody = response.body() != null ? response.body().string() : "";
+
+                if (!response.isSuccessful()) {
+                    String message = "Failed to create issue: " + response.code() + " - " + responseBody;
+                    if (RequestRejectedException.isRejection(response.code())) {
+                        throw new RequestRejectedException(message);
+                    }
+                    throw new IOException(message);
+                }
+
+                JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
+                issue.setKey(responseJson.get("key").getAsString());
+                return issue;
+            }).exceptionallyCompose(failure -> confirmCreated(issue, failure));
+        }).thenCompose(createdIssue -> {
             // If sprint is specified, try to add the issue to the sprint
             // Don't fail the entire operation if sprint assignment fails
-            if (StringUtils.isNotBlank(issue.getSprintId())) {
-                try {
-                    addIssueToSprint(issue.getKey(), issue.getSprintId());
-                } catch (IOException e) {
-                    System.err.println("Warning: Failed to rank issue " + issue.getKey() + " in sprint " + issue.getSprintId() + ": " + e.getMessage());
+            if (StringUtils.isBlank(createdIssue.getSprintId())) {
+                return CompletableFuture.completedFuture(createdIssue);
+            }
+            return addIssueToSprint(createdIssue.getKey(), createdIssue.getSprintId()).handle((ignored, throwable) -> {
+                if (throwable != null) {
+                    System.err.println("Warning: Failed to rank issue " + createdIssue.getKey() + " in sprint " + createdIssue.getSprintId() + ": " + AsyncCallExecutor.unwrap(throwable).getMessage());
                     System.err.println("Issue was created successfully, but sprint ranking failed. You can manually assign it to the sprint in Jira.");
                     // Don't re-throw the exception - issue creation was successful
                 }
-            }
-            
-            return issue;
-        }
+                return createdIssue;
+            });
+        });
     }
 
-    private void addIssueToSprint(String issueKey, String sprintId) throws IOException {
+    private CompletableFuture<Void> addIssueToSprint(String issueKey, String sprintId) {
         String url = baseUrl + "rest/greenhopper/1.0/sprint/rank";
-        
+
         JsonObject payload = new JsonObject();
         JsonArray idOrKeys = new JsonArray();
         idOrKeys.add(issueKey);
         payload.add("idOrKeys", idOrKeys);
         payload.addProperty("sprintId", Integer.parseInt(sprintId));
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(payload),
             MediaType.parse("application/json")
@@ -488,14 +982,15 @@ public class JiraService {
         Request request = buildRequest(url).newBuilder()
             .put(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to rank issue in sprint: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
 
     private JsonObject createADFDescription(String text) {
@@ -582,13 +1077,20 @@ public class JiraService {
         }
     }
 
+    /**
+     * Parses everything that is present in the issue JSON itself. The parent Epic's summary and color are filled in
+     * afterwards from the Epic store by {@link #hydrateEpic(JiraIssue)}.
+     */
     private JiraIssue parseIssue(JsonObject issueJson) {
         JiraIssue issue = new JiraIssue();
         issue.setKey(issueJson.get("key").getAsString());
-        
+
         JsonObject fields = issueJson.getAsJsonObject("fields");
         issue.setSummary(fields.get("summary").getAsString());
-        
+        if (fields.has("updated") && !fields.get("updated").isJsonNull()) {
+            issue.setUpdated(fields.get("updated").getAsString());
+        }
+
         if (fields.has("description") && !fields.get("description").isJsonNull()) {
             // Handle both string and ADF (Atlassian Document Format) descriptions
             try {
@@ -607,40 +1109,43 @@ public class JiraService {
                 }
             }
         }
-        
+
         if (fields.has("status")) {
             JsonObject status = fields.getAsJsonObject("status");
             issue.setStatus(status.get("name").getAsString());
         }
-        
+
         if (fields.has("assignee") && !fields.get("assignee").isJsonNull()) {
             JsonObject assignee = fields.getAsJsonObject("assignee");
             issue.setAssignee(assignee.get("displayName").getAsString());
         }
-        
+
         if (fields.has("creator") && !fields.get("creator").isJsonNull()) {
             JsonObject creator = fields.getAsJsonObject("creator");
             issue.setReporter(creator.get("displayName").getAsString());
         }
-        
+
         if (fields.has("priority")) {
             JsonObject priority = fields.getAsJsonObject("priority");
             System.out.println("___ priority : " + priority);
             issue.setPriority(priority.get("name").getAsString());
+            if (priority.has("iconUrl")) {
+                issue.setPriorityIconUrl(priority.get("iconUrl").getAsString());
+            }
         }
-        
+
         if (fields.has("issuetype")) {
             JsonObject issuetype = fields.getAsJsonObject("issuetype");
             issue.setIssueType(issuetype.get("name").getAsString());
             issue.setIssueTypeId(issuetype.get("id").getAsString());
         }
-        
+
         // Parse story points from appropriate custom field based on project
         String storyPointsField = getStoryPointsField();
         if (fields.has(storyPointsField) && !fields.get(storyPointsField).isJsonNull()) {
             issue.setStoryPoints(fields.get(storyPointsField).getAsDouble());
         }
-        
+
         // Parse parent (Epic) information
         if (fields.has("parent") && !fields.get("parent").isJsonNull()) {
             JsonObject parent = fields.getAsJsonObject("parent");
@@ -649,49 +1154,26 @@ public class JiraService {
             if (parentFields.has("summary")) {
                 issue.setParentSummary(parentFields.get("summary").getAsString());
             }
-            // Get Epic color by making a separate API call to get renderedFields
-            try {
-                String epicColor = getEpicColor(parent.get("key").getAsString());
-                if (epicColor != null) {
-                    issue.setEpicColor(epicColor);
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to fetch Epic color for " + parent.get("key").getAsString() + ": " + e.getMessage());
-            }
         }
-        
+
         // Also check for Epic Link (customfield_10014) for issues linked to Epics
         if (fields.has(CUSTOMFIELD_EPIC_LINK) && !fields.get(CUSTOMFIELD_EPIC_LINK).isJsonNull()) {
             // Epic Link field contains the Epic key
             String epicKey = fields.get(CUSTOMFIELD_EPIC_LINK).getAsString();
             if (issue.getParentKey() == null) { // Only set if parent wasn't already found
                 issue.setParentKey(epicKey);
-                // We'll need to fetch the Epic details separately for summary and color
-                try {
-                    JiraIssue epicIssue = getIssue(epicKey);
-                    if (epicIssue != null) {
-                        issue.setParentSummary(epicIssue.getSummary());
-                        // Get Epic color by making a separate API call
-                        try {
-                            String epicColor = getEpicColor(epicKey);
-                            if (epicColor != null) {
-                                issue.setEpicColor(epicColor);
-                            }
-                        } catch (Exception e) {
-                            System.err.println("Failed to fetch Epic color for " + epicKey + ": " + e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    // If we can't fetch Epic details, just use the key
-                    System.err.println("Failed to fetch Epic details for " + epicKey + ": " + e.getMessage());
-                }
             }
         }
-        
-        // Parse priority iconUrl and Epic color from renderedFields (if available)
+
+        // The Epic color field holds the ghx-label name as plain text
+        if ("Epic".equals(issue.getIssueType())) {
+            issue.setEpicColor(readEpicColor(fields));
+        }
+
+        // renderedFields are only present when a projection expands them; they win over the plain fields
         if (issueJson.has("renderedFields")) {
             JsonObject renderedFields = issueJson.getAsJsonObject("renderedFields");
-            
+
             // Parse priority iconUrl from renderedFields
             if (renderedFields.has("priority") && !renderedFields.get("priority").isJsonNull()) {
                 JsonObject renderedPriority = renderedFields.getAsJsonObject("priority");
@@ -699,117 +1181,218 @@ public class JiraService {
                     issue.setPriorityIconUrl(renderedPriority.get("iconUrl").getAsString());
                 }
             }
-            
+
             // For Epic issues, try to get Epic color from renderedFields
-            if ("Epic".equals(issue.getIssueType())) {
+            if ("Epic".equals(issue.getIssueType()) && issue.getEpicColor() == null) {
                 if (renderedFields.has(CUSTOMFIELD_EPIC_COLOR) && !renderedFields.get(CUSTOMFIELD_EPIC_COLOR).isJsonNull()) {
                     String epicColorCode = renderedFields.get(CUSTOMFIELD_EPIC_COLOR).getAsString();
                     String hexColor = mapGhxLabelToHex(epicColorCode);
                     issue.setEpicColor(hexColor);
                 }
             }
-        } else {
-            // For Epic issues, make a separate API call to get the epic color if renderedFields not available
-            if ("Epic".equals(issue.getIssueType())) {
-                try {
-                    String epicColor = getEpicColor(issue.getKey());
-                    if (epicColor != null) {
-                        issue.setEpicColor(epicColor);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Failed to fetch Epic color for " + issue.getKey() + ": " + e.getMessage());
-                }
-            }
         }
-        
+
         return issue;
     }
 
-    private JiraIssue parseIssueForList(JsonObject issueJson) {
-        JiraIssue issue = new JiraIssue();
-        issue.setKey(issueJson.get("key").getAsString());
-        
-        JsonObject fields = issueJson.getAsJsonObject("fields");
-        issue.setSummary(fields.get("summary").getAsString());
-        
-        if (fields.has("description") && !fields.get("description").isJsonNull()) {
-            // Handle both string and ADF (Atlassian Document Format) descriptions
-            try {
-                // Try to get as string first (for simple text descriptions)
-                issue.setDescription(fields.get("description").getAsString());
-            } catch (UnsupportedOperationException | IllegalStateException e) {
-                // If it's an ADF object, extract text content
-                try {
-                    JsonObject descriptionObj = fields.getAsJsonObject("description");
-                    String extractedText = extractTextFromADF(descriptionObj);
-                    issue.setDescription(extractedText);
-                } catch (Exception ex) {
-                    // If all parsing fails, set empty description
-                    System.err.println("Failed to parse description: " + ex.getMessage());
-                    issue.setDescription("");
-                }
-            }
-        }
-        
-        if (fields.has("status")) {
-            JsonObject status = fields.getAsJsonObject("status");
-            issue.setStatus(status.get("name").getAsString());
-        }
-        
-        if (fields.has("assignee") && !fields.get("assignee").isJsonNull()) {
-            JsonObject assignee = fields.getAsJsonObject("assignee");
-            issue.setAssignee(assignee.get("displayName").getAsString());
+    /**
+     * Fills in the parent Epic's summary and color from the Epic store; an Epic missing from the store is loaded by
+     * key. Failures only leave the fields empty.
+     */
+    private CompletableFuture<JiraIssue> hydrateEpic(JiraIssue issue) {
+        rememberEpic(issue);
+
+        String epicKey = issue.getParentKey();
+        if (epicKey == null) {
+            return CompletableFuture.completedFuture(issue);
         }
-        
-        if (fields.has("creator") && !fields.get("creator").isJsonNull()) {
-            JsonObject creator = fields.getAsJsonObject("creator");
-            issue.setReporter(creator.get("displayName").getAsString());
+        JiraEpic known = knownEpic(epicKey);
+        if (known != null) {
+            return CompletableFuture.completedFuture(applyEpic(issue, known));
         }
-        
-        if (fields.has("priority")) {
-            JsonObject priority = fields.getAsJsonObject("priority");
-            issue.setPriority(priority.get("name").getAsString());
-            if (priority.has("iconUrl")) {
-                issue.setPriorityIconUrl(priority.get("iconUrl").getAsString());
+        return epicStore.resolve(Collections.singleton(epicKey), this::fetchEpicsByKey).handle((epics, throwable) -> {
+            if (throwable != null) {
+                // If we can't fetch Epic details, just use the key
+                System.err.println("Failed to fetch Epic details for " + epicKey + ": " + AsyncCallExecutor.unwrap(throwable).getMessage());
+                return issue;
             }
+            JiraEpic epic = epics.get(epicKey);
+            return epic != null ? applyEpic(issue, epic) : issue;
+        });
+    }
+
+    /**
+     * Puts an Epic read in detail into the Epic store; its own summary and color are part of that read.
+     */
+    private void rememberEpic(JiraIssue issue) {
+        if ("Epic".equals(issue.getIssueType())) {
+            JiraEpic epic = new JiraEpic(issue.getKey(), issue.getSummary(), issue.getSummary());
+            epic.setColor(issue.getEpicColor());
+            epicStore.put(epic);
         }
-        
-        if (fields.has("issuetype")) {
-            JsonObject issuetype = fields.getAsJsonObject("issuetype");
-            issue.setIssueType(issuetype.get("name").getAsString());
-            issue.setIssueTypeId(issuetype.get("id").getAsString());
+    }
+
+    private JiraIssue applyEpic(JiraIssue issue, JiraEpic epic) {
+        if (issue.getParentSummary() == null) {
+            issue.setParentSummary(epic.getSummary());
         }
-        
-        // Parse story points from appropriate custom field based on project
-        String storyPointsField = getStoryPointsField();
-        if (fields.has(storyPointsField) && !fields.get(storyPointsField).isJsonNull()) {
-            issue.setStoryPoints(fields.get(storyPointsField).getAsDouble());
+        if (epic.getColor() != null) {
+            issue.setEpicColor(epic.getColor());
         }
-        
-        // Parse priority iconUrl from renderedFields (if available)
-        if (issueJson.has("renderedFields")) {
-            JsonObject renderedFields = issueJson.getAsJsonObject("renderedFields");
-            if (renderedFields.has("priority") && !renderedFields.get("priority").isJsonNull()) {
-                JsonObject renderedPriority = renderedFields.getAsJsonObject("priority");
-                if (renderedPriority.has("iconUrl")) {
-                    issue.setPriorityIconUrl(renderedPriority.get("iconUrl").getAsString());
-                }
+        return issue;
+    }
+
+    /**
+     * Reads one issue of a list response from the stream. Only what the issue table shows is materialized; anything
+     * else in the issue, such as renderedFields when a projection expands them, is skipped without being built.
+     */
+    private JiraIssue readIssueForList(JsonReader reader) throws IOException {
+        JiraIssue issue = new JiraIssue();
+        String storyPointsField = getStoryPointsField();
+        String[] renderedPriorityIconUrl = {null};
+
+        JsonStreams.readObject(reader, (name, value) -> {
+            switch (name) {
+                case "key":
+                    issue.setKey(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "fields":
+                    JsonStreams.readObject(value, (field, fieldValue) -> readListField(issue, field, fieldValue, storyPointsField));
+                    break;
+                case "renderedFields":
+                    JsonStreams.readObject(value, (field, fieldValue) -> {
+                        if ("priority".equals(field)) {
+                            renderedPriorityIconUrl[0] = JsonStreams.readStringMember(fieldValue, "iconUrl");
+                        } else {
+                            fieldValue.skipValue();
+                        }
+                    });
+                    break;
+                default:
+                    value.skipValue();
             }
+        });
+
+        // Parse priority iconUrl from renderedFields (if available); it wins over the plain field
+        if (renderedPriorityIconUrl[0] != null) {
+            issue.setPriorityIconUrl(renderedPriorityIconUrl[0]);
         }
-        
-        // Skip parent/epic information for list views to improve performance
-        // Parent information will only be fetched in detail views
-        
+
+        // Parent key and summary come with the issue; the Epic color is left to the Epic store
+
         return issue;
     }
 
-    private Request buildRequest(String url) {
-        return new Request.Builder()
-            .url(url)
-            .addHeader("Authorization", Credentials.basic(username, apiToken))
-            .addHeader("Content-Type", "application/json")
-            .build();
-    }
+    private void readListField(JiraIssue issue, String field, JsonReader reader, String storyPointsField) throws IOException {
+        if (field.equals(storyPointsField)) {
+            // Parse story points from appropriate custom field based on project
+            if (reader.peek() == JsonToken.NUMBER) {
+                issue.setStoryPoints(reader.nextDouble());
+            } else {
+                reader.skipValue();
+            }
+            return;
+        }
+        switch (field) {
+            case "summary":
+                issue.setSummary(JsonStreams.nextStringOrNull(reader));
+                break;
+            case "updated":
+                issue.setUpdated(JsonStreams.nextStringOrNull(reader));
+                break;
+            case "description":
+                readListDescription(issue, reader);
+                break;
+            case "status":
+                issue.setStatus(JsonStreams.readStringMember(reader, "name"));
+                break;
+            case "assignee":
+                issue.setAssignee(JsonStreams.readStringMember(reader, "displayName"));
+                break;
+            case "creator":
+                issue.setReporter(JsonStreams.readStringMember(reader, "displayName"));
+                break;
+            case "priority":
+                JsonStreams.readObject(reader, (name, value) -> {
+                    if ("name".equals(name)) {
+                        issue.setPriority(JsonStreams.nextStringOrNull(value));
+                    } else if ("iconUrl".equals(name)) {
+                        issue.setPriorityIconUrl(JsonStreams.nextStringOrNull(value));
+                    } else {
+                        value.skipValue();
+                    }
+                });
+                break;
+            case "issuetype":
+                JsonStreams.readObject(reader, (name, value) -> {
+                    if ("name".equals(name)) {
+                        issue.setIssueType(JsonStreams.nextStringOrNull(value));
+                    } else if ("id".equals(name)) {
+                        issue.setIssueTypeId(JsonStreams.nextStringOrNull(value));
+                    } else {
+                        value.skipValue();
+                    }
+                });
+                break;
+            case "parent":
+                // Parent wins over the Epic Link field, whichever comes first
+                JsonStreams.readObject(reader, (name, value) -> {
+                    if ("key".equals(name)) {
+                        issue.setParentKey(JsonStreams.nextStringOrNull(value));
+                    } else if ("fields".equals(name)) {
+                        issue.setParentSummary(JsonStreams.readStringMember(value, "summary"));
+                    } else {
+                        value.skipValue();
+                    }
+                });
+                break;
+            case CUSTOMFIELD_EPIC_LINK:
+                String epicKey = JsonStreams.nextStringOrNull(reader);
+                if (issue.getParentKey() == null) {
+                    issue.setParentKey(epicKey);
+                }
+                break;
+            default:
+                reader.skipValue();
+        }
+    }
+
+    private void readListDescription(JiraIssue issue, JsonReader reader) throws IOException {
+        // Handle both string and ADF (Atlassian Document Format) descriptions
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.skipValue();
+        } else if (token == JsonToken.BEGIN_OBJECT) {
+            // An ADF document is small; only this subtree is built
+            JsonElement descriptionJson = JsonParser.parseReader(reader);
+            try {
+                issue.setDescription(extractTextFromADF(descriptionJson.getAsJsonObject()));
+            } catch (RuntimeException e) {
+                // If all parsing fails, set empty description
+                System.err.println("Failed to parse description: " + e.getMessage());
+                issue.setDescription("");
+            }
+        } else {
+            String description = JsonStreams.nextStringOrNull(reader);
+            issue.setDescription(description != null ? description : "");
+        }
+    }
+
+    private Request buildRequest(String url, ReadMode mode) {
+        Request request = buildRequest(url);
+        if (mode == ReadMode.CACHE_ONLY) {
+            return request.newBuilder().cacheControl(HttpCachePolicy.cacheOnly(request.url())).build();
+        }
+        return request;
+    }
+
+    private Request buildRequest(String url) {
+        return new Request.Builder()
+            .url(url)
+            .addHeader("Authorization", Credentials.basic(username, apiToken))
+            .addHeader("Content-Type", "application/json")
+            .build();
+    }
     
     private void logRequest(String method, String url) {
         System.out.println("##### [HTTP Request] #####");
@@ -823,87 +1406,179 @@ public class JiraService {
         System.out.println(body);
     }
 
-    public CompletableFuture<Map<String, String>> getIssueTypesAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getIssueTypes();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch issue types", e);
+    /**
+     * Sends a read request through the single-flight layer, so identical concurrent requests share one call.
+     */
+    private <T> CompletableFuture<T> executeShared(Request request, ResponseParser<T> parser) {
+        return executeShared(request, null, parser);
+    }
+
+    private <T> CompletableFuture<T> executeShared(Request request, String body, ResponseParser<T> parser) {
+        String key = SingleFlight.key(request.method(), request.url().toString(), body);
+        String cacheControl = request.header("Cache-Control");
+        if (cacheControl != null) {
+            // A cache-only read must not be answered by (or answer) a network read of the same URL
+            key += " [" + cacheControl + "]";
+        }
+        // Reads are safe to resend even when they are POSTs (JQL search)
+        Request idempotent = request.newBuilder().tag(RetryPolicy.class, RetryPolicy.IDEMPOTENT).build();
+        return singleFlight.execute(key, () -> calls.execute(idempotent, parser));
+    }
+
+    /**
+     * POST to the AI server with the endpoint's timeouts; the endpoint tag routes it through the AI circuit breaker.
+     * It is never retried: a struggling AI server fails fast and the breaker alone decides when to try it again.
+     */
+    Request buildAiRequest(AiEndpoint endpoint, RequestBody body) {
+        return new Request.Builder()
+            .url(AI_SERVER_URL + endpoint.getPath())
+            .post(body)
+            .addHeader("Content-Type", "application/json")
+            .tag(AiEndpoint.class, endpoint)
+            .tag(RetryPolicy.class, RetryPolicy.NONE)
+            .tag(CallTimeouts.class, endpoint.timeouts(aiConnectTimeoutSeconds, aiResponseTimeoutSeconds))
+            .build();
+    }
+
+    /**
+     * Wraps a request chain for the public async API: request-building errors become failed futures, and failures
+     * carry the same "Failed to ..." message the API has always used.
+     */
+    private static <T> CompletableFuture<T> async(Supplier<CompletableFuture<T>> call, String failureMessage) {
+        return AsyncCallExecutor.withFailureMessage(AsyncCallExecutor.defer(call), failureMessage);
+    }
+
+    /**
+     * The stored list's value, or {@code failure} again when nothing is stored.
+     */
+    private static <T> CompletableFuture<T> storedValue(CompletableFuture<LocalIssueStore.Stored<T>> stored, Throwable failure) {
+        return stored.thenApply(value -> {
+            if (value == null) {
+                throw failure instanceof CompletionException ? (CompletionException) failure : new CompletionException(failure);
             }
+            return value.getValue();
         });
     }
 
+    /**
+     * Issue types of the project, from memory when they were read recently; older ones are still answered from
+     * memory and reloaded in the background.
+     */
+    public CompletableFuture<Map<String, String>> getIssueTypesAsync() {
+        String projectKey = getProjectKey();
+        return async(() -> issueTypeCache.get(projectKey), "Failed to fetch issue types");
+    }
+
+    /**
+     * Issue types answered from memory, the HTTP disk cache only, or else from the local store; see
+     * {@link #getCachedSprintsAsync()}.
+     */
+    public CompletableFuture<Map<String, String>> getCachedIssueTypesAsync() {
+        String projectKey = getProjectKey();
+        Map<String, String> known = issueTypeCache.getIfPresent(projectKey);
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+        return async(() -> fetchIssueTypes(projectKey, ReadMode.CACHE_ONLY)
+            .exceptionallyCompose(failure -> storedValue(localStore.readIssueTypes(projectKey), failure)), "No cached issue types");
+    }
+
     public Map<String, String> getIssueTypes() throws IOException {
+        return AsyncCallExecutor.await(issueTypeCache.get(getProjectKey()));
+    }
+
+    /**
+     * Counters of the in-memory caches and the memory budget they share.
+     */
+    public CacheRegistry getCaches() {
+        return caches;
+    }
+
+    private static long weighIssueTypes(Map<String, String> issueTypes) {
+        long weight = 64;
+        for (Map.Entry<String, String> entry : issueTypes.entrySet()) {
+            weight += 48 + BoundedCache.weigh(entry.getKey()) + BoundedCache.weigh(entry.getValue());
+        }
+        return weight;
+    }
+
+    private CompletableFuture<Map<String, String>> fetchIssueTypes(String projectKey, ReadMode mode) {
+        long readAt = System.currentTimeMillis();
         // First get project ID from project key
-        String projectId = getProjectId(getProjectKey());
-        
-        // Then get issue types for that specific project
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issuetype/project?projectId=" + projectId;
-        logRequest("GET", url);
-        Request request = buildRequest(url);
+        return fetchProjectId(projectKey, mode).thenCompose(projectId -> {
+            // Then get issue types for that specific project
+            String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issuetype/project?projectId=" + projectId;
+            logRequest("GET", url);
+            Request request = buildRequest(url, mode);
+
+            return executeShared(request, response -> {
+                if (!response.isSuccessful()) {
+                    throw new IOException("Failed to get issue types: " + response.code());
+                }
 
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to get issue types: " + response.code());
-            }
-            
-            String responseBody = response.body() != null ? response.body().string() : "[]";
-            JsonArray issueTypesArray = gson.fromJson(responseBody, JsonArray.class);
-            Map<String, String> issueTypes = new HashMap<>();
-            
-            for (int i = 0; i < issueTypesArray.size(); i++) {
-                JsonObject issueTypeJson = issueTypesArray.get(i).getAsJsonObject();
-                
-                // Filter by hierarchyLevel = 0 (top-level issue types)
-                if (issueTypeJson.has("hierarchyLevel") && 
-                    issueTypeJson.get("hierarchyLevel").getAsInt() == 0) {
-                    String id = issueTypeJson.get("id").getAsString();
-                    String name = issueTypeJson.get("name").getAsString();
-                    issueTypes.put(name, id); // name -> id mapping for UI display
+                String responseBody = response.body() != null ? response.body().string() : "[]";
+                JsonArray issueTypesArray = gson.fromJson(responseBody, JsonArray.class);
+                Map<String, String> issueTypes = new HashMap<>();
+
+                for (int i = 0; i < issueTypesArray.size(); i++) {
+                    JsonObject issueTypeJson = issueTypesArray.get(i).getAsJsonObject();
+
+                    // Filter by hierarchyLevel = 0 (top-level issue types)
+                    if (issueTypeJson.has("hierarchyLevel") &&
+                        issueTypeJson.get("hierarchyLevel").getAsInt() == 0) {
+                        String id = issueTypeJson.get("id").getAsString();
+                        String name = issueTypeJson.get("name").getAsString();
+                        issueTypes.put(name, id); // name -> id mapping for UI display
+                    }
                 }
-            }
-            
-            return issueTypes;
-        }
+
+                if (mode == ReadMode.NETWORK) {
+                    localStore.writeIssueTypes(projectKey, issueTypes, readAt);
+                }
+                return issueTypes;
+            });
+        });
     }
 
     public String getProjectId(String projectKey) throws IOException {
+        return AsyncCallExecutor.await(fetchProjectId(projectKey, ReadMode.NETWORK));
+    }
+
+    private CompletableFuture<String> fetchProjectId(String projectKey, ReadMode mode) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/project/" + projectKey;
         logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+        Request request = buildRequest(url, mode);
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get project: " + response.code());
             }
-            
+
             String responseBody = response.body() != null ? response.body().string() : "{}";
             JsonObject projectJson = gson.fromJson(responseBody, JsonObject.class);
             return projectJson.get("id").getAsString();
-        }
+        });
     }
 
     public CompletableFuture<Void> updateIssueAsync(JiraIssue issue) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssue(issue);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue", e);
-            }
-        });
+        return async(() -> submitIssueUpdate(issue), "Failed to update issue");
     }
 
     public void updateIssue(JiraIssue issue) throws IOException {
+        AsyncCallExecutor.await(submitIssueUpdate(issue));
+    }
+
+    private CompletableFuture<Void> submitIssueUpdate(JiraIssue issue) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issue.getKey();
-        
+
         JsonObject updatePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         // Update summary
         if (StringUtils.isNotBlank(issue.getSummary())) {
             fields.addProperty("summary", issue.getSummary());
         }
-        
+
         // Update description using ADF format
         if (StringUtils.isNotBlank(issue.getDescription())) {
             JsonObject description = createADFDescription(issue.getDescription());
@@ -913,27 +1588,29 @@ public class JiraService {
             JsonObject emptyDescription = createADFDescription("");
             fields.add("description", emptyDescription);
         }
-        
+
         // Update assignee
+        CompletableFuture<Void> assigneeResolved;
         if (issue.getAssignee() != null || issue.getAssignee().isEmpty()) {
             // Unassign by setting assignee to explicit null
             fields.add("assignee", JsonNull.INSTANCE);
+            assigneeResolved = CompletableFuture.completedFuture(null);
         } else {
             // Try to find user by display name first
-            try {
-                String accountId = findUserAccountIdByDisplayName(issue.getAssignee());
-                if (accountId != null) {
+            assigneeResolved = findUserAccountIdByDisplayName(issue.getAssignee()).handle((accountId, throwable) -> {
+                if (throwable != null) {
+                    System.err.println("Failed to find user account ID for: " + issue.getAssignee());
+                    // Fallback to displayName (might not work in some Jira instances)
+                    JsonObject assignee = new JsonObject();
+                    assignee.addProperty("displayName", issue.getAssignee());
+                    fields.add("assignee", assignee);
+                } else if (accountId != null) {
                     JsonObject assignee = new JsonObject();
                     assignee.addProperty("accountId", accountId);
                     fields.add("assignee", assignee);
                 }
-            } catch (IOException e) {
-                System.err.println("Failed to find user account ID for: " + issue.getAssignee());
-                // Fallback to displayName (might not work in some Jira instances)
-                JsonObject assignee = new JsonObject();
-                assignee.addProperty("displayName", issue.getAssignee());
-                fields.add("assignee", assignee);
-            }
+                return null;
+            });
         }
 
         // Update story points (custom field) - must be in fields object
@@ -944,7 +1621,7 @@ public class JiraService {
             // Explicitly set to null to clear the field
             fields.add(storyPointsField, null);
         }
-        
+
         // Update parent/epic link
         if (issue.getParentKey() != null) {
             if (issue.getParentKey().isEmpty()) {
@@ -957,224 +1634,363 @@ public class JiraService {
                 JsonObject parent = new JsonObject();
                 parent.addProperty("key", issue.getParentKey());
                 fields.add("parent", parent);
-                
+
                 // Also set epic link field (customfield_10014) for epic associations
                 fields.addProperty(CUSTOMFIELD_EPIC_LINK, issue.getParentKey());
             }
         }
-        
-        updatePayload.add("fields", fields);
-        
-        RequestBody body = RequestBody.create(
-            gson.toJson(updatePayload),
-            MediaType.parse("application/json")
-        );
 
-        logRequest("PUT", url, gson.toJson(updatePayload));
-        accessLogService.sendAccessLog("이슈 수정", url);
+        return assigneeResolved.thenCompose(ignored -> {
+            updatePayload.add("fields", fields);
 
-        Request request = buildRequest(url).newBuilder()
-            .put(body)
-            .build();
-        
-        try (Response response = client.newCall(request).execute()) {
-            String responseBody = response.body() != null ? response.body().string() : "";
+            RequestBody body = RequestBody.create(
+                gson.toJson(updatePayload),
+                MediaType.parse("application/json")
+            );
 
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to update issue: " + response.code() + " - " + responseBody);
-            }
-        }
-        
-        // Update status separately if changed
-        if (StringUtils.isNotBlank(issue.getStatus())) {
-            updateIssueStatus(issue.getKey(), issue.getStatus());
-        }
+            logRequest("PUT", url, gson.toJson(updatePayload));
+            accessLogService.sendAccessLog("이슈 수정", url);
+
+            Request request = buildRequest(url).newBuilder()
+                .put(body)
+                .build();
+
+            return calls.<Void>execute(request, response -> {
+                String responseBody = response.body() != null ? response.body().string() : "";
+
+                if (!response.isSuccessful()) {
+                    throw new IOException("Failed to update issue: " + response.code() + " - " + responseBody);
+                }
+                return null;
+            });
+        }).thenCompose(ignored -> {
+            // Update status separately if changed
+            if (StringUtils.isNotBlank(issue.getStatus())) {
+                return submitStatusTransition(issue.getKey(), issue.getStatus(), RetryPolicy.REJECTED_ONLY);
+            }
+            return CompletableFuture.completedFuture(null);
+        });
     }
 
     public CompletableFuture<List<String>> getIssueStatusesAsync(String issueKey) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getIssueStatuses(issueKey);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch issue statuses", e);
-            }
-        });
+        return async(() -> fetchIssueStatuses(issueKey), "Failed to fetch issue statuses");
     }
 
     public List<String> getIssueStatuses(String issueKey) throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey + "/transitions";
-        logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to get issue transitions: " + response.code());
-            }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            JsonArray transitionsArray = responseJson.getAsJsonArray("transitions");
-            
-            List<String> statuses = new ArrayList<>();
-            
-            // Add current status first (get current issue status)
-            JiraIssue currentIssue = getIssue(issueKey);
-            if (currentIssue != null && StringUtils.isNotBlank(currentIssue.getStatus())) {
-                statuses.add(currentIssue.getStatus());
-            }
-            
-            // Add available transition statuses
-            for (int i = 0; i < transitionsArray.size(); i++) {
-                JsonObject transitionJson = transitionsArray.get(i).getAsJsonObject();
-                JsonObject toStatus = transitionJson.getAsJsonObject("to");
-                String statusName = toStatus.get("name").getAsString();
-                if (!statuses.contains(statusName)) {
-                    statuses.add(statusName);
-                }
+        return AsyncCallExecutor.await(fetchIssueStatuses(issueKey));
+    }
+
+    private CompletableFuture<List<String>> fetchIssueStatuses(String issueKey) {
+        WorkflowTransitionCache.Step step = transitionCache.stepOf(issueKey);
+        List<WorkflowTransitionCache.Transition> cached = transitionCache.get(step);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(availableStatuses(step.status, cached));
+        }
+        // The current status and the transitions come back together
+        return fetchIssueJson(issueKey, STATUS_FIELDS).thenApply(json -> {
+            JiraIssue issue = parseWorkflowStep(json);
+            return availableStatuses(issue.getStatus(), rememberTransitions(issue, json));
+        });
+    }
+
+    /**
+     * Lists the current status followed by the targets of the transitions from it.
+     */
+    private static List<String> availableStatuses(String currentStatus, List<WorkflowTransitionCache.Transition> transitions) {
+        List<String> statuses = new ArrayList<>();
+        if (StringUtils.isNotBlank(currentStatus)) {
+            statuses.add(currentStatus);
+        }
+        for (WorkflowTransitionCache.Transition transition : transitions) {
+            if (!statuses.contains(transition.targetStatus)) {
+                statuses.add(transition.targetStatus);
             }
-            
-            return statuses;
         }
+        return statuses;
     }
 
-    public CompletableFuture<JiraIssue> getIssueAsync(String issueKey) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getIssue(issueKey);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch issue", e);
+    /**
+     * Reads the {@code transitions} of an issue read with {@code expand=transitions} and caches them for the issue's
+     * workflow step.
+     */
+    private List<WorkflowTransitionCache.Transition> rememberTransitions(JiraIssue issue, JsonObject issueJson) {
+        List<WorkflowTransitionCache.Transition> transitions = readTransitions(
+            issueJson.has("transitions") ? issueJson.getAsJsonArray("transitions") : new JsonArray());
+        transitionCache.track(issue);
+        transitionCache.put(WorkflowTransitionCache.Step.of(issue), transitions);
+        return transitions;
+    }
+
+    private static List<WorkflowTransitionCache.Transition> readTransitions(JsonArray transitionsArray) {
+        List<WorkflowTransitionCache.Transition> transitions = new ArrayList<>();
+        for (int i = 0; i < transitionsArray.size(); i++) {
+            JsonObject transitionJson = transitionsArray.get(i).getAsJsonObject();
+            JsonObject toStatus = transitionJson.getAsJsonObject("to");
+            transitions.add(new WorkflowTransitionCache.Transition(
+                transitionJson.get("id").getAsString(), toStatus.get("name").getAsString()));
+        }
+        return transitions;
+    }
+
+    /**
+     * Parses just the key, status and issue type of an issue read with {@link #STATUS_FIELDS}.
+     */
+    private static JiraIssue parseWorkflowStep(JsonObject issueJson) {
+        JiraIssue issue = new JiraIssue();
+        issue.setKey(issueJson.get("key").getAsString());
+        JsonObject fields = issueJson.getAsJsonObject("fields");
+        if (fields.has("status") && !fields.get("status").isJsonNull()) {
+            issue.setStatus(fields.getAsJsonObject("status").get("name").getAsString());
+        }
+        if (fields.has("issuetype") && !fields.get("issuetype").isJsonNull()) {
+            JsonObject issuetype = fields.getAsJsonObject("issuetype");
+            issue.setIssueType(issuetype.get("name").getAsString());
+            issue.setIssueTypeId(issuetype.get("id").getAsString());
+        }
+        return issue;
+    }
+
+    /**
+     * Loads the issue, its available statuses and its parent Epic with one request ({@code expand=transitions}).
+     * The parent Epic is taken from the selected board or the Epic store; when neither knows it the detail completes
+     * without it rather than waiting for a second request (see {@link JiraIssueDetail#isParentEpicPending()}).
+     */
+    public CompletableFuture<JiraIssueDetail> getIssueDetailAsync(String issueKey) {
+        return async(() -> fetchIssueDetail(issueKey), "Failed to fetch issue detail");
+    }
+
+    public JiraIssueDetail getIssueDetail(String issueKey) throws IOException {
+        return AsyncCallExecutor.await(fetchIssueDetail(issueKey));
+    }
+
+    private CompletableFuture<JiraIssueDetail> fetchIssueDetail(String issueKey) {
+        FieldProjection projection = DETAIL_FIELDS.with(getStoryPointsField()).expand("transitions");
+        return fetchIssueJson(issueKey, projection).thenApply(json -> {
+            JiraIssue issue = parseIssue(json);
+            rememberEpic(issue);
+
+            JiraEpic parentEpic = issue.getParentKey() != null ? knownEpic(issue.getParentKey()) : null;
+            if (parentEpic != null) {
+                applyEpic(issue, parentEpic);
             }
+            return new JiraIssueDetail(issue, availableStatuses(issue.getStatus(), rememberTransitions(issue, json)), parentEpic);
         });
     }
 
+    public CompletableFuture<JiraIssue> getIssueAsync(String issueKey) {
+        return async(() -> fetchIssue(issueKey), "Failed to fetch issue");
+    }
+
     public JiraIssue getIssue(String issueKey) throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey + "?expand=names,schema,renderedFields";
+        return AsyncCallExecutor.await(fetchIssue(issueKey));
+    }
+
+    private CompletableFuture<JiraIssue> fetchIssue(String issueKey) {
+        // Parsed per caller: JiraIssue objects are edited by the UI, the shared JSON is not
+        CompletableFuture<JsonObject> issueJson = fetchIssueJson(issueKey, DETAIL_FIELDS.with(getStoryPointsField()));
+        return AsyncCallExecutor.compose(issueJson, json -> {
+            JiraIssue issue = parseIssue(json);
+            transitionCache.track(issue);
+            return hydrateEpic(issue);
+        });
+    }
+
+    /**
+     * Reads one issue with the given projection. Concurrent reads of the same issue and projection share a request.
+     */
+    private CompletableFuture<JsonObject> fetchIssueJson(String issueKey, FieldProjection projection) {
+        String url = projection.appendTo(baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey);
         logRequest("GET", url);
 
         Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get issue: " + response.code());
             }
-            
+
             String responseBody = response.body() != null ? response.body().string() : "{}";
             System.out.println("getIssue: " + responseBody);
-            JsonObject issueJson = gson.fromJson(responseBody, JsonObject.class);
-            return parseIssue(issueJson);
-        }
+            return gson.fromJson(responseBody, JsonObject.class);
+        });
     }
 
     public CompletableFuture<List<String>> getProjectUsersAsync(String projectKey) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getProjectUsers(projectKey);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch project users", e);
-            }
-        });
+        return async(() -> fetchProjectUsers(projectKey), "Failed to fetch project users");
     }
 
     public List<String> getProjectUsers(String projectKey) throws IOException {
+        return AsyncCallExecutor.await(fetchProjectUsers(projectKey));
+    }
+
+    /**
+     * The project's assignable users, kept in memory and on disk; see {@link UserDirectory}.
+     */
+    public UserDirectory getUserDirectory() {
+        return userDirectory;
+    }
+
+    /**
+     * Inline edits that are merged per issue and written in the background; see {@link IssueWriteQueue}.
+     */
+    public IssueWriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
+    /**
+     * Last-known lists of the instance, kept on disk for cold starts and offline use; see {@link LocalIssueStore}.
+     */
+    public LocalIssueStore getLocalStore() {
+        return localStore;
+    }
+
+    private CompletableFuture<List<String>> fetchProjectUsers(String projectKey) {
         // Try different approaches to get assignable users
-        List<String> users;
-        
-        // First try: Use assignable search with project key
-        try {
-            users = tryGetAssignableUsers(projectKey);
-            if (!users.isEmpty()) {
-                return users;
+
+        // First try: the user directory (assignable users of the project, usually already in memory)
+        CompletableFuture<List<String>> users = usersOrEmpty(userDirectory.getUsers(projectKey).thenApply(directory -> {
+            List<String> displayNames = new ArrayList<>();
+            for (JiraUser user : directory) {
+                displayNames.add(user.getDisplayName());
             }
-        } catch (IOException e) {
-            logRequest("WARN", "Assignable search failed: " + e.getMessage());
-        }
-        
+            return displayNames;
+        }), "Assignable search failed: ");
+
         // Second try: Use user search without project restriction
-        try {
-            users = tryGetAllUsers();
-            if (!users.isEmpty()) {
-                return users;
-            }
-        } catch (IOException e) {
-            logRequest("WARN", "User search failed: " + e.getMessage());
-        }
-        
+        users = users.thenCompose(found -> !found.isEmpty()
+            ? CompletableFuture.completedFuture(found)
+            : usersOrEmpty(tryGetAllUsers(), "User search failed: "));
+
         // Third try: Use project role members
-        try {
-            users = tryGetProjectRoleMembers(projectKey);
-            if (!users.isEmpty()) {
-                return users;
+        users = users.thenCompose(found -> !found.isEmpty()
+            ? CompletableFuture.completedFuture(found)
+            : usersOrEmpty(tryGetProjectRoleMembers(projectKey), "Project role members failed: "));
+
+        return users.thenApply(found -> {
+            if (found.isEmpty()) {
+                throw new CompletionException(new IOException("All methods to fetch users failed. Check project key '" + projectKey + "' and permissions."));
             }
-        } catch (IOException e) {
-            logRequest("WARN", "Project role members failed: " + e.getMessage());
-        }
-        
-        throw new IOException("All methods to fetch users failed. Check project key '" + projectKey + "' and permissions.");
+            return found;
+        });
     }
-    
-    private List<String> tryGetAssignableUsers(String projectKey) throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/assignable/search?project=" + projectKey + "&maxResults=300";
-        return fetchUsersFromUrl(url, "assignable users");
+
+    private CompletableFuture<List<String>> usersOrEmpty(CompletableFuture<List<String>> attempt, String failurePrefix) {
+        return attempt.exceptionally(throwable -> {
+            logRequest("WARN", failurePrefix + AsyncCallExecutor.unwrap(throwable).getMessage());
+            return Collections.emptyList();
+        });
     }
-    
-    private List<String> tryGetAllUsers() throws IOException {
+
+    /**
+     * Loads every assignable user of the project for the {@link UserDirectory}. The endpoint returns a bare array
+     * and may return short pages (it drops users the caller cannot see, but still advances by the page size), so
+     * only an empty page ends the list.
+     */
+    private CompletableFuture<List<JiraUser>> fetchAssignableUsers(String projectKey) {
+        return Paging.fetchOffsetPages(startAt -> fetchAssignableUserPage(projectKey, startAt), 1, page -> { });
+    }
+
+    private CompletableFuture<Paging.Page<JiraUser>> fetchAssignableUserPage(String projectKey, int startAt) {
+        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/assignable/search?project=" + projectKey
+            + "&startAt=" + startAt + "&maxResults=" + USER_PAGE_SIZE;
+        logRequest("GET", url);
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                throw new IOException("Failed to get assignable users: HTTP " + response.code() + " - " + errorBody);
+            }
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                List<JiraUser> users = JsonStreams.readArray(reader, this::readUser);
+                return Paging.Page.of(users, startAt, USER_PAGE_SIZE, users.isEmpty());
+            }
+        });
+    }
+
+    private JiraUser readUser(JsonReader reader) throws IOException {
+        JiraUser user = new JiraUser();
+        JsonStreams.readObject(reader, (name, value) -> {
+            switch (name) {
+                case "accountId":
+                    user.setAccountId(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "displayName":
+                    user.setDisplayName(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "emailAddress":
+                    user.setEmailAddress(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "avatarUrls":
+                    user.setAvatarUrl(JsonStreams.readStringMember(value, "48x48"));
+                    break;
+                default:
+                    value.skipValue();
+            }
+        });
+        return user.getAccountId() != null ? user : null;
+    }
+
+    private CompletableFuture<List<String>> tryGetAllUsers() {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/search?maxResults=300";
         return fetchUsersFromUrl(url, "all users");
     }
-    
-    private List<String> tryGetProjectRoleMembers(String projectKey) throws IOException {
+
+    private CompletableFuture<List<String>> tryGetProjectRoleMembers(String projectKey) {
         // Get project roles first
         String rolesUrl = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/project/" + projectKey + "/role";
         logRequest("GET", rolesUrl);
         Request rolesRequest = buildRequest(rolesUrl);
-        
-        Set<String> allUsers = new HashSet<>();
-        
-        try (Response rolesResponse = client.newCall(rolesRequest).execute()) {
+
+        return executeShared(rolesRequest, rolesResponse -> {
             if (!rolesResponse.isSuccessful()) {
                 throw new IOException("Failed to get project roles: HTTP " + rolesResponse.code());
             }
-            
+
             String rolesBody = rolesResponse.body() != null ? rolesResponse.body().string() : "{}";
-            JsonObject rolesJson = gson.fromJson(rolesBody, JsonObject.class);
-            
+            return gson.fromJson(rolesBody, JsonObject.class);
+        }).thenCompose(rolesJson -> {
             // For each role, get its members
+            TaskScope scope = new TaskScope(taskExecutor);
+            Map<String, TaskScope.Subtask<List<String>>> roleMembers = new LinkedHashMap<>();
             for (String roleName : rolesJson.keySet()) {
-                try {
-                    String roleUrl = rolesJson.get(roleName).getAsString();
-                    Request roleRequest = buildRequest(roleUrl);
-                    
-                    try (Response roleResponse = client.newCall(roleRequest).execute()) {
-                        if (roleResponse.isSuccessful()) {
-                            String roleBody = roleResponse.body() != null ? roleResponse.body().string() : "{}";
-                            JsonObject roleJson = gson.fromJson(roleBody, JsonObject.class);
-                            
-                            if (roleJson.has("actors")) {
-                                JsonArray actors = roleJson.getAsJsonArray("actors");
-                                for (int i = 0; i < actors.size(); i++) {
-                                    JsonObject actor = actors.get(i).getAsJsonObject();
-                                    if (actor.has("displayName")) {
-                                        allUsers.add(actor.get("displayName").getAsString());
-                                    }
-                                }
-                            }
-                        }
+                roleMembers.put(roleName, scope.fork(() -> fetchRoleActors(rolesJson.get(roleName).getAsString())));
+            }
+
+            return scope.join().thenApply(ignored -> {
+                Set<String> allUsers = new HashSet<>();
+                roleMembers.forEach((roleName, subtask) -> {
+                    if (subtask.state() == TaskScope.State.SUCCESS) {
+                        allUsers.addAll(subtask.get());
+                    } else {
+                        // Skip this role if it fails
+                        logRequest("WARN", "Failed to get role " + roleName + ": " + subtask.exception().getMessage());
                     }
-                } catch (Exception e) {
-                    // Skip this role if it fails
-                    logRequest("WARN", "Failed to get role " + roleName + ": " + e.getMessage());
-                }
+                });
+                return new ArrayList<>(allUsers);
+            });
+        });
+    }
+
+    private CompletableFuture<List<String>> fetchRoleActors(String roleUrl) {
+        Request roleRequest = buildRequest(roleUrl);
+
+        return executeShared(roleRequest, roleResponse -> {
+            if (!roleResponse.isSuccessful()) {
+                return new ArrayList<String>();
             }
-        }
-        
-        return new ArrayList<>(allUsers);
+            try (JsonReader reader = JsonStreams.open(roleResponse)) {
+                return JsonStreams.readArrayField(reader, "actors", in -> JsonStreams.readStringMember(in, "displayName"));
+            }
+        });
     }
-    
-    private List<String> fetchUsersFromUrl(String url, String source) throws IOException {
+
+    private CompletableFuture<List<String>> fetchUsersFromUrl(String url, String source) {
         logRequest("GET", url);
         Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "";
                 String errorMessage = "Failed to get " + source + ": HTTP " + response.code() + " - " + response.message();
@@ -1183,180 +1999,349 @@ public class JiraService {
                 }
                 throw new IOException(errorMessage);
             }
-            
-            String responseBody = response.body() != null ? response.body().string() : "[]";
-            JsonArray usersArray = gson.fromJson(responseBody, JsonArray.class);
-            
-            List<String> users = new ArrayList<>();
-            for (int i = 0; i < usersArray.size(); i++) {
-                JsonObject userJson = usersArray.get(i).getAsJsonObject();
-                if (userJson.has("displayName")) {
-                    users.add(userJson.get("displayName").getAsString());
-                }
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return JsonStreams.readArray(reader, in -> JsonStreams.readStringMember(in, "displayName"));
             }
-            
-            return users;
-        }
+        });
+    }
+
+    /**
+     * Maps a display name to its accountId. Completes with null when no assignable user has that name.
+     */
+    public CompletableFuture<String> findAccountIdAsync(String displayName) {
+        return async(() -> findUserAccountIdByDisplayName(displayName), "Failed to find user");
     }
 
-    private String findUserAccountIdByDisplayName(String displayName) throws IOException {
+    private CompletableFuture<String> findUserAccountIdByDisplayName(String displayName) {
+        // Answered by the user directory; only users missing from it (or a failed directory load) need a search
+        return userDirectory.resolveByDisplayName(getProjectKey(), displayName)
+            .exceptionally(throwable -> null)
+            .thenCompose(user -> user != null
+                ? CompletableFuture.completedFuture(user.getAccountId())
+                : searchAccountIdByDisplayName(displayName));
+    }
+
+    private CompletableFuture<String> searchAccountIdByDisplayName(String displayName) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/assignable/search?project=" + getProjectKey() + "&query=" + displayName + "&maxResults=50";
         logRequest("GET", url);
         Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return executeShared(request, response -> {
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to search for user: " + response.code());
             }
-            
-            String responseBody = response.body() != null ? response.body().string() : "[]";
-            JsonArray usersArray = gson.fromJson(responseBody, JsonArray.class);
-            
-            for (int i = 0; i < usersArray.size(); i++) {
-                JsonObject userJson = usersArray.get(i).getAsJsonObject();
-                if (userJson.has("displayName") && displayName.equals(userJson.get("displayName").getAsString())) {
-                    return userJson.get("accountId").getAsString();
-                }
+
+            try (JsonReader reader = JsonStreams.open(response)) {
+                List<String> accountIds = JsonStreams.readArray(reader, in -> {
+                    String[] user = new String[2]; // displayName, accountId
+                    JsonStreams.readObject(in, (name, value) -> {
+                        if ("displayName".equals(name)) {
+                            user[0] = JsonStreams.nextStringOrNull(value);
+                        } else if ("accountId".equals(name)) {
+                            user[1] = JsonStreams.nextStringOrNull(value);
+                        } else {
+                            value.skipValue();
+                        }
+                    });
+                    return displayName.equals(user[0]) ? user[1] : null;
+                });
+                return accountIds.isEmpty() ? null : accountIds.get(0); // null: user not found
+            }
+        });
+    }
+
+    public CompletableFuture<JsonObject> getCurrentUserAsync() {
+        return async(this::fetchCurrentUser, "Failed to fetch current user");
+    }
+
+    public JsonObject getCurrentUser() throws IOException {
+        return AsyncCallExecutor.await(fetchCurrentUser());
+    }
+
+    private CompletableFuture<JsonObject> fetchCurrentUser() {
+        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/myself";
+        logRequest("GET", url);
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to get current user: " + response.code());
+            }
+
+            String responseBody = response.body() != null ? response.body().string() : "{}";
+            return gson.fromJson(responseBody, JsonObject.class);
+        });
+    }
+
+    public CompletableFuture<List<JsonObject>> searchUsersAsync(String query) {
+        return async(() -> fetchUserSearch(query), "Failed to search users");
+    }
+
+    public List<JsonObject> searchUsers(String query) throws IOException {
+        return AsyncCallExecutor.await(fetchUserSearch(query));
+    }
+
+    private CompletableFuture<List<JsonObject>> fetchUserSearch(String query) {
+        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/assignable/search?project=" + getProjectKey() + "&query=" + query + "&maxResults=20";
+        logRequest("GET", url);
+        Request request = buildRequest(url);
+
+        return executeShared(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to search users: " + response.code());
+            }
+
+            // Callers use whole user objects, so each element is built as a tree, but not the whole array
+            try (JsonReader reader = JsonStreams.open(response)) {
+                return JsonStreams.readArray(reader, in -> JsonParser.parseReader(in).getAsJsonObject());
+            }
+        });
+    }
+
+    /**
+     * Moves the issue to {@code newStatus}. When the transitions of the issue's workflow step are cached this is a
+     * single POST; if Jira rejects the cached transition id, the step is invalidated and the transition is retried
+     * once with the transitions read fresh. Does nothing when no transition leads to {@code newStatus}.
+     * {@code retryPolicy} applies to the transition POST; the write queue passes {@link RetryPolicy#NONE} as it
+     * retries failed batches itself.
+     */
+    private CompletableFuture<Void> submitStatusTransition(String issueKey, String newStatus, RetryPolicy retryPolicy) {
+        WorkflowTransitionCache.Step step = transitionCache.stepOf(issueKey);
+        String cachedId = findTransitionId(transitionCache.get(step), newStatus);
+
+        CompletableFuture<Void> transitioned;
+        if (cachedId != null) {
+            transitioned = postTransition(issueKey, newStatus, cachedId, retryPolicy).exceptionallyCompose(failure -> {
+                if (!(AsyncCallExecutor.unwrap(failure) instanceof TransitionRejectedException)) {
+                    return CompletableFuture.failedFuture(failure);
+                }
+                LOG.debug("Cached transition to " + newStatus + " was rejected for " + issueKey + ", reloading transitions");
+                transitionCache.invalidate(step);
+                return submitFreshTransition(issueKey, newStatus, retryPolicy);
+            });
+        } else {
+            transitioned = submitFreshTransition(issueKey, newStatus, retryPolicy);
+        }
+        return transitioned.exceptionallyCompose(failure -> confirmTransition(issueKey, newStatus, failure));
+    }
+
+    /**
+     * Reads the issue's current transitions (caching them) and posts the one leading to {@code newStatus}.
+     */
+    private CompletableFuture<Void> submitFreshTransition(String issueKey, String newStatus, RetryPolicy retryPolicy) {
+        Request request = buildRequest(STATUS_FIELDS.appendTo(baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey))
+            .newBuilder()
+            .cacheControl(CacheControl.FORCE_NETWORK)
+            .build();
+        logRequest("GET", request.url().toString());
+
+        CompletableFuture<List<WorkflowTransitionCache.Transition>> transitions = calls.execute(request, response -> {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to get issue transitions: " + response.code());
+            }
+
+            String responseBody = response.body() != null ? response.body().string() : "{}";
+            JsonObject issueJson = gson.fromJson(responseBody, JsonObject.class);
+            return rememberTransitions(parseWorkflowStep(issueJson), issueJson);
+        });
+        return transitions.thenCompose(available -> {
+            String transitionId = findTransitionId(available, newStatus);
+            if (transitionId == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return postTransition(issueKey, newStatus, transitionId, retryPolicy);
+        });
+    }
+
+    private static String findTransitionId(List<WorkflowTransitionCache.Transition> transitions, String newStatus) {
+        if (transitions == null) {
+            return null;
+        }
+        for (WorkflowTransitionCache.Transition transition : transitions) {
+            if (newStatus.equals(transition.targetStatus)) {
+                return transition.id;
+            }
+        }
+        return null;
+    }
+
+    private CompletableFuture<Void> postTransition(String issueKey, String newStatus, String transitionId,
+                                                   RetryPolicy retryPolicy) {
+        String transitionsUrl = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey + "/transitions";
+
+        // Execute the transition
+        JsonObject transitionPayload = new JsonObject();
+        JsonObject transition = new JsonObject();
+        transition.addProperty("id", transitionId);
+        transitionPayload.add("transition", transition);
+
+        RequestBody body = RequestBody.create(
+            gson.toJson(transitionPayload),
+            MediaType.parse("application/json")
+        );
+
+        logRequest("POST", transitionsUrl, gson.toJson(transitionPayload));
+        accessLogService.sendAccessLog("이슈 상태 변경", transitionsUrl);
+
+        Request transitionRequest = buildRequest(transitionsUrl).newBuilder()
+            .post(body)
+            .tag(RetryPolicy.class, retryPolicy)
+            .build();
+
+        return calls.execute(transitionRequest, transitionResponse -> {
+            if (!transitionResponse.isSuccessful()) {
+                String errorBody = transitionResponse.body() != null ? transitionResponse.body().string() : "";
+                if (transitionResponse.code() == 400) {
+                    // Typically "Transition id 'x' is not valid for this issue"
+                    throw new TransitionRejectedException("Failed to transition issue: 400 - " + errorBody);
+                }
+                if (RequestRejectedException.isRejection(transitionResponse.code())) {
+                    throw new RequestRejectedException("Failed to transition issue: " + transitionResponse.code() + " - " + errorBody);
+                }
+                throw new IOException("Failed to transition issue: " + transitionResponse.code() + " - " + errorBody);
+            }
+            transitionCache.moved(issueKey, newStatus);
+            return null;
+        });
+    }
+
+    /**
+     * Issue creation is not idempotent either, so it is only resent when Jira rejected it outright (429/503). Any
+     * other failure that is not a client error may hide an issue that was created (timeout, dropped connection, 5xx
+     * after the write), so the current user's issues created in the last few minutes are searched. If the newest one
+     * has the same summary it is taken as the created issue; otherwise the original failure is reported.
+     */
+    private CompletableFuture<JiraIssue> confirmCreated(JiraIssue issue, Throwable failure) {
+        Throwable cause = AsyncCallExecutor.unwrap(failure);
+        if (cause instanceof CancellationException || cause instanceof RequestRejectedException
+            || !(cause instanceof IOException)) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        // Matched on the summary here rather than in JQL, where "~" is a fuzzy text search
+        String jql = "project = \"" + getProjectKey() + "\" AND reporter = currentUser() AND created >= \"-"
+            + CREATE_CONFIRM_WINDOW_MINUTES + "m\" ORDER BY created DESC";
+        return fetchJqlPage(jql, FieldProjection.of("summary"), this::readIssueForList, null).handle((page, checkFailure) -> {
+            JiraIssue created = page == null || page.getItems().isEmpty() ? null : page.getItems().get(0);
+            if (created != null && StringUtils.equals(created.getSummary(), issue.getSummary())) {
+                LOG.info("Issue " + created.getKey() + " was created despite: " + cause.getMessage());
+                issue.setKey(created.getKey());
+                return CompletableFuture.completedFuture(issue);
+            }
+            return CompletableFuture.<JiraIssue>failedFuture(cause);
+        }).thenCompose(result -> result);
+    }
+
+    /**
+     * Transitions are not idempotent, so they are only resent when Jira rejected them outright (429/503, see
+     * {@link RetryPolicy#REJECTED_ONLY}; the write queue retries its own). Any other failure may hide a transition
+     * that was applied (timeout, dropped connection, 5xx after the write), so the issue is re-read: if it already has
+     * the target status the call succeeds, otherwise the original failure is reported.
+     */
+    private CompletableFuture<Void> confirmTransition(String issueKey, String newStatus, Throwable failure) {
+        Throwable cause = AsyncCallExecutor.unwrap(failure);
+        if (cause instanceof CancellationException || !(cause instanceof IOException)) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        String url = FieldProjection.of("status").appendTo(baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey);
+        Request request = buildRequest(url).newBuilder()
+            .cacheControl(CacheControl.FORCE_NETWORK)
+            .build();
+        return calls.execute(request, response -> {
+            if (!response.isSuccessful() || response.body() == null) {
+                return false;
+            }
+            JsonObject issueJson = gson.fromJson(response.body().string(), JsonObject.class);
+            JsonObject status = issueJson.getAsJsonObject("fields").getAsJsonObject("status");
+            return newStatus.equals(status.get("name").getAsString());
+        }).handle((applied, checkFailure) -> {
+            if (applied != null && applied) {
+                LOG.info("Transition of " + issueKey + " to " + newStatus + " was applied despite: " + cause.getMessage());
+                transitionCache.moved(issueKey, newStatus);
+                return CompletableFuture.<Void>completedFuture(null);
             }
-            
-            return null; // User not found
-        }
+            return CompletableFuture.<Void>failedFuture(cause);
+        }).thenCompose(result -> result);
     }
 
-    public CompletableFuture<JsonObject> getCurrentUserAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getCurrentUser();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to fetch current user", e);
-            }
-        });
+    // Queued inline edits: merged with other edits of the same issue and written by the write queue
+
+    public CompletableFuture<Void> queueSummaryUpdate(String issueKey, String summary) {
+        return AsyncCallExecutor.withFailureMessage(
+            writeQueue.updateField(issueKey, "summary", new JsonPrimitive(summary)), "Failed to update issue summary");
     }
 
-    public JsonObject getCurrentUser() throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/myself";
-        logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to get current user: " + response.code());
-            }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            return gson.fromJson(responseBody, JsonObject.class);
-        }
+    public CompletableFuture<Void> queueDescriptionUpdate(String issueKey, String description) {
+        // A blank description is cleared with an empty ADF document
+        JsonObject descriptionADF = createADFDescription(StringUtils.isNotBlank(description) ? description : "");
+        return AsyncCallExecutor.withFailureMessage(
+            writeQueue.updateField(issueKey, "description", descriptionADF), "Failed to update issue description");
     }
 
-    public CompletableFuture<List<JsonObject>> searchUsersAsync(String query) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return searchUsers(query);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to search users", e);
-            }
-        });
+    public CompletableFuture<Void> queueStoryPointsUpdate(String issueKey, Double storyPoints) {
+        JsonElement value = storyPoints != null ? new JsonPrimitive(storyPoints) : JsonNull.INSTANCE;
+        return AsyncCallExecutor.withFailureMessage(
+            writeQueue.updateField(issueKey, getStoryPointsField(), value), "Failed to update issue story points");
     }
 
-    public List<JsonObject> searchUsers(String query) throws IOException {
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/user/assignable/search?project=" + getProjectKey() + "&query=" + query + "&maxResults=20";
-        logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to search users: " + response.code());
-            }
-            
-            String responseBody = response.body() != null ? response.body().string() : "[]";
-            JsonArray usersArray = gson.fromJson(responseBody, JsonArray.class);
-            
-            List<JsonObject> users = new ArrayList<>();
-            for (int i = 0; i < usersArray.size(); i++) {
-                JsonObject userJson = usersArray.get(i).getAsJsonObject();
-                users.add(userJson);
-            }
-            
-            return users;
-        }
+    public CompletableFuture<Void> queueStatusUpdate(String issueKey, String status) {
+        return AsyncCallExecutor.withFailureMessage(writeQueue.transition(issueKey, status), "Failed to update issue status");
     }
 
-    private void updateIssueStatus(String issueKey, String newStatus) throws IOException {
-        // First get available transitions
-        String transitionsUrl = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey + "/transitions";
-        logRequest("GET", transitionsUrl);
+    /**
+     * Writes several fields of an issue with one PUT. Client errors fail with {@link RequestRejectedException}. Sent
+     * once: the write queue, its only caller, retries failed batches merged with newer edits.
+     */
+    private CompletableFuture<Void> submitFieldsUpdate(String issueKey, JsonObject fields) {
+        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
 
-        Request transitionsRequest = buildRequest(transitionsUrl);
-        
-        try (Response transitionsResponse = client.newCall(transitionsRequest).execute()) {
-            if (!transitionsResponse.isSuccessful()) {
-                throw new IOException("Failed to get transitions: " + transitionsResponse.code());
-            }
-            
-            String responseBody = transitionsResponse.body() != null ? transitionsResponse.body().string() : "{}";
-            JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-            JsonArray transitionsArray = responseJson.getAsJsonArray("transitions");
-            
-            // Find the transition ID for the target status
-            String transitionId = null;
-            for (int i = 0; i < transitionsArray.size(); i++) {
-                JsonObject transitionJson = transitionsArray.get(i).getAsJsonObject();
-                JsonObject toStatus = transitionJson.getAsJsonObject("to");
-                if (newStatus.equals(toStatus.get("name").getAsString())) {
-                    transitionId = transitionJson.get("id").getAsString();
-                    break;
-                }
-            }
-            
-            if (transitionId != null) {
-                // Execute the transition
-                JsonObject transitionPayload = new JsonObject();
-                JsonObject transition = new JsonObject();
-                transition.addProperty("id", transitionId);
-                transitionPayload.add("transition", transition);
-                
-                RequestBody body = RequestBody.create(
-                    gson.toJson(transitionPayload),
-                    MediaType.parse("application/json")
-                );
-                
-                logRequest("POST", transitionsUrl, gson.toJson(transitionPayload));
-                accessLogService.sendAccessLog("이슈 상태 변경", transitionsUrl);
+        JsonObject updatePayload = new JsonObject();
+        updatePayload.add("fields", fields);
+        // toString() keeps null values, which clear fields; Gson.toJson would drop them
+        String payload = updatePayload.toString();
 
-                Request transitionRequest = buildRequest(transitionsUrl).newBuilder()
-                    .post(body)
-                    .build();
-                
-                try (Response transitionResponse = client.newCall(transitionRequest).execute()) {
-                    if (!transitionResponse.isSuccessful()) {
-                        String errorBody = transitionResponse.body() != null ? transitionResponse.body().string() : "";
-                        throw new IOException("Failed to transition issue: " + transitionResponse.code() + " - " + errorBody);
-                    }
+        RequestBody body = RequestBody.create(payload, MediaType.parse("application/json"));
+
+        logRequest("PUT", url, payload);
+        accessLogService.sendAccessLog("이슈 " + String.join(", ", fields.keySet()) + " 수정", url);
+
+        Request request = buildRequest(url).newBuilder()
+            .put(body)
+            .tag(RetryPolicy.class, RetryPolicy.NONE)
+            .build();
+
+        return calls.execute(request, response -> {
+            String responseBody = response.body() != null ? response.body().string() : "";
+
+            if (!response.isSuccessful()) {
+                String message = "Failed to update issue " + issueKey + ": " + response.code() + " - " + responseBody;
+                if (RequestRejectedException.isRejection(response.code())) {
+                    throw new RequestRejectedException(message);
                 }
+                throw new IOException(message);
             }
-        }
+            return null;
+        });
     }
 
     // Individual field update methods
     public CompletableFuture<Void> updateIssueSummaryAsync(String issueKey, String summary) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueSummary(issueKey, summary);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue summary", e);
-            }
-        });
+        return async(() -> submitSummaryUpdate(issueKey, summary), "Failed to update issue summary");
     }
 
     public void updateIssueSummary(String issueKey, String summary) throws IOException {
+        AsyncCallExecutor.await(submitSummaryUpdate(issueKey, summary));
+    }
+
+    private CompletableFuture<Void> submitSummaryUpdate(String issueKey, String summary) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
-        
+
         JsonObject updatePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         fields.addProperty("summary", summary);
         updatePayload.add("fields", fields);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(updatePayload),
             MediaType.parse("application/json")
@@ -1368,32 +2353,31 @@ public class JiraService {
         Request request = buildRequest(url).newBuilder()
             .put(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to update issue summary: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
 
     public CompletableFuture<Void> updateIssueDescriptionAsync(String issueKey, String description) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueDescription(issueKey, description);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue description", e);
-            }
-        });
+        return async(() -> submitDescriptionUpdate(issueKey, description), "Failed to update issue description");
     }
 
     public void updateIssueDescription(String issueKey, String description) throws IOException {
+        AsyncCallExecutor.await(submitDescriptionUpdate(issueKey, description));
+    }
+
+    private CompletableFuture<Void> submitDescriptionUpdate(String issueKey, String description) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
-        
+
         JsonObject updatePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         if (StringUtils.isNotBlank(description)) {
             JsonObject descriptionADF = createADFDescription(description);
             fields.add("description", descriptionADF);
@@ -1402,9 +2386,9 @@ public class JiraService {
             JsonObject emptyDescriptionADF = createADFDescription("");
             fields.add("description", emptyDescriptionADF);
         }
-        
+
         updatePayload.add("fields", fields);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(updatePayload),
             MediaType.parse("application/json")
@@ -1416,32 +2400,31 @@ public class JiraService {
         Request request = buildRequest(url).newBuilder()
             .put(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to update issue description: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
 
     public CompletableFuture<Void> updateIssueStoryPointsAsync(String issueKey, Double storyPoints) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueStoryPoints(issueKey, storyPoints);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue story points", e);
-            }
-        });
+        return async(() -> submitStoryPointsUpdate(issueKey, storyPoints), "Failed to update issue story points");
     }
 
     public void updateIssueStoryPoints(String issueKey, Double storyPoints) throws IOException {
+        AsyncCallExecutor.await(submitStoryPointsUpdate(issueKey, storyPoints));
+    }
+
+    private CompletableFuture<Void> submitStoryPointsUpdate(String issueKey, Double storyPoints) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
-        
+
         JsonObject updatePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         String storyPointsField = getStoryPointsField();
         if (storyPoints != null) {
             fields.addProperty(storyPointsField, storyPoints);
@@ -1449,9 +2432,9 @@ public class JiraService {
             // Clear story points
             fields.add(storyPointsField, null);
         }
-        
+
         updatePayload.add("fields", fields);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(updatePayload),
             MediaType.parse("application/json")
@@ -1463,47 +2446,34 @@ public class JiraService {
         Request request = buildRequest(url).newBuilder()
             .put(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to update issue story points: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
 
     public CompletableFuture<Void> updateIssueStatusAsync(String issueKey, String status) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueStatus(issueKey, status);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue status", e);
-            }
-        });
+        return async(() -> submitStatusTransition(issueKey, status, RetryPolicy.REJECTED_ONLY), "Failed to update issue status");
     }
 
     public CompletableFuture<Void> updateIssueAssigneeAsync(String issueKey, String assigneeAccountId) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueAssignee(issueKey, assigneeAccountId);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue assignee", e);
-            }
-        });
+        return async(() -> submitAssigneeUpdate(issueKey, assigneeAccountId), "Failed to update issue assignee");
     }
 
     public CompletableFuture<Void> updateIssueParentAsync(String issueKey, String parentKey) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                updateIssueParent(issueKey, parentKey);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to update issue parent", e);
-            }
-        });
+        return async(() -> submitParentUpdate(issueKey, parentKey), "Failed to update issue parent");
     }
 
     public void updateIssueAssignee(String issueKey, String assigneeAccountId) throws IOException {
+        AsyncCallExecutor.await(submitAssigneeUpdate(issueKey, assigneeAccountId));
+    }
+
+    private CompletableFuture<Void> submitAssigneeUpdate(String issueKey, String assigneeAccountId) {
         System.out.println("___ updateIssueAssignee");
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
 
@@ -1536,27 +2506,32 @@ public class JiraService {
             .put(body)
             .build();
 
-        try (Response response = client.newCall(request).execute()) {
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to update issue assignee: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
 
     public void updateIssueParent(String issueKey, String parentKey) throws IOException {
+        AsyncCallExecutor.await(submitParentUpdate(issueKey, parentKey));
+    }
+
+    private CompletableFuture<Void> submitParentUpdate(String issueKey, String parentKey) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + issueKey;
-        
+
         JsonObject updatePayload = new JsonObject();
         JsonObject fields = new JsonObject();
-        
+
         if (parentKey != null && !parentKey.isEmpty()) {
             // Set parent (for sub-tasks) or epic link (for stories/tasks)
             JsonObject parent = new JsonObject();
             parent.addProperty("key", parentKey);
             fields.add("parent", parent);
-            
+
             // Also set epic link field (customfield_10014) for epic associations
             fields.addProperty(CUSTOMFIELD_EPIC_LINK, parentKey);
         } else {
@@ -1564,9 +2539,9 @@ public class JiraService {
             fields.add("parent", null);
             fields.add(CUSTOMFIELD_EPIC_LINK, null);
         }
-        
+
         updatePayload.add("fields", fields);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(updatePayload),
             MediaType.parse("application/json")
@@ -1578,90 +2553,47 @@ public class JiraService {
         Request request = buildRequest(url).newBuilder()
             .put(body)
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to update issue parent: " + response.code() + " - " + responseBody);
             }
-        }
+            return null;
+        });
     }
-    
+
     public CompletableFuture<Void> deleteIssueAsync(String issueKey) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                deleteIssue(issueKey);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        return async(() -> submitIssueDeletion(issueKey), null);
     }
-    
-    private void deleteIssue(String issueKey) throws IOException {
+
+    private CompletableFuture<Void> submitIssueDeletion(String issueKey) {
         String url = baseUrl + "rest/api/" + JIRA_API_VERSION + "/issue/" + issueKey;
-        
+
         Request request = new Request.Builder()
             .url(url)
             .delete()
             .header("Authorization", Credentials.basic(username, apiToken))
             .header("Content-Type", "application/json")
             .build();
-        
-        try (Response response = client.newCall(request).execute()) {
+
+        return calls.execute(request, response -> {
             if (!response.isSuccessful()) {
                 String responseBody = response.body() != null ? response.body().string() : "No response body";
                 throw new IOException("Failed to delete issue: " + response.code() + " - " + responseBody);
             }
-        }
-    }
-    
-    private String getEpicColor(String epicKey) throws IOException {
-        // Check cache first
-        EpicColorCacheEntry cacheEntry = epicColorCache.get(epicKey);
-        if (cacheEntry != null && !cacheEntry.isExpired()) {
-            return cacheEntry.color;
-        }
-        
-        // Cache miss or expired - fetch from API
-        String url = baseUrl + "rest/api/" + JIRA_API_VERSION_3 + "/issue/" + epicKey + "?expand=names,schema,renderedFields";
-        logRequest("GET", url);
-        Request request = buildRequest(url);
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Failed to get epic color: " + response.code());
-            }
-            
-            String responseBody = response.body() != null ? response.body().string() : "{}";
-            JsonObject issueJson = gson.fromJson(responseBody, JsonObject.class);
-            
-            String epicColor = null;
-            if (issueJson.has("renderedFields")) {
-                JsonObject renderedFields = issueJson.getAsJsonObject("renderedFields");
-                if (renderedFields.has(CUSTOMFIELD_EPIC_COLOR) && !renderedFields.get(CUSTOMFIELD_EPIC_COLOR).isJsonNull()) {
-                    String epicColorCode = renderedFields.get(CUSTOMFIELD_EPIC_COLOR).getAsString();
-                    epicColor = mapGhxLabelToHex(epicColorCode);
-                }
-            }
-            
-            // Cache the result (even if null)
-            epicColorCache.put(epicKey, new EpicColorCacheEntry(epicColor));
-            
-            // Clean up expired entries periodically
-            cleanupExpiredCacheEntries();
-            
-            return epicColor;
-        }
+            return null;
+        });
     }
-    
-    private void cleanupExpiredCacheEntries() {
-        // Only cleanup periodically to avoid performance impact
-        if (epicColorCache.size() > 100) {
-            epicColorCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+
+    private String readEpicColor(JsonObject fields) {
+        if (!fields.has(CUSTOMFIELD_EPIC_COLOR) || fields.get(CUSTOMFIELD_EPIC_COLOR).isJsonNull()) {
+            return null;
         }
+        return mapGhxLabelToHex(fields.get(CUSTOMFIELD_EPIC_COLOR).getAsString());
     }
-    
+
     private String mapGhxLabelToHex(String ghxLabel) {
         if (ghxLabel == null) {
             return null;
@@ -1687,38 +2619,24 @@ public class JiraService {
     }
 
     public CompletableFuture<AIRecommendationResponse> getEpicRecommendationAsync(String summary, List<JiraEpic> availableEpics) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return getEpicRecommendation(summary, availableEpics);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to get AI recommendation", e);
-            }
-        });
+        return async(() -> fetchEpicRecommendation(summary, availableEpics), "Failed to get AI recommendation");
     }
 
     public CompletableFuture<String> generateDescriptionAsync(String aiRequest) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return generateDescription(aiRequest);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to generate description", e);
-            }
-        });
+        return async(() -> fetchGeneratedDescription(aiRequest), "Failed to generate description");
     }
 
     public CompletableFuture<String> generateWorkDescriptionAsync(String summary) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return generateWorkDescription(summary);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to generate work description", e);
-            }
-        });
+        return async(() -> fetchGeneratedWorkDescription(summary), "Failed to generate work description");
     }
 
     public AIRecommendationResponse getEpicRecommendation(String summary, List<JiraEpic> availableEpics) throws IOException {
-        String url = "http://172.16.120.182:8001/jira/epic/suggest";
-        
+        return AsyncCallExecutor.await(fetchEpicRecommendation(summary, availableEpics));
+    }
+
+    private CompletableFuture<AIRecommendationResponse> fetchEpicRecommendation(String summary, List<JiraEpic> availableEpics) {
+        String url = AI_SERVER_URL + AiEndpoint.EPIC_RECOMMENDATION.getPath();
+
         // Build epic list string - limit to 10 epics
         StringBuilder epicListBuilder = new StringBuilder();
         int count = 0;
@@ -1728,9 +2646,9 @@ public class JiraService {
             epicListBuilder.append("- ").append(epic.getKey()).append(": ").append(epic.getSummary());
             count++;
         }
-        
+
         AIRecommendationRequest request = new AIRecommendationRequest(summary, epicListBuilder.toString());
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(request),
             MediaType.parse("application/json")
@@ -1739,30 +2657,30 @@ public class JiraService {
         logRequest("POST", url, gson.toJson(request));
         accessLogService.sendAccessLog("이슈 epic 추천", url);
 
-        Request httpRequest = new Request.Builder()
-            .url(url)
-            .post(body)
-            .addHeader("Content-Type", "application/json")
-            .build();
-        
-        try (Response response = client.newCall(httpRequest).execute()) {
+        Request httpRequest = buildAiRequest(AiEndpoint.EPIC_RECOMMENDATION, body);
+
+        return calls.execute(httpRequest, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to get AI recommendation: " + response.code() + " - " + responseBody);
             }
-            
+
             return gson.fromJson(responseBody, AIRecommendationResponse.class);
-        }
+        });
     }
 
     public String generateDescription(String aiRequest) throws IOException {
-        String url = "http://172.16.120.182:8001/jira/description/generate";
-        
+        return AsyncCallExecutor.await(fetchGeneratedDescription(aiRequest));
+    }
+
+    private CompletableFuture<String> fetchGeneratedDescription(String aiRequest) {
+        String url = AI_SERVER_URL + AiEndpoint.DESCRIPTION.getPath();
+
         // Create request body with AI request
         JsonObject requestJson = new JsonObject();
         requestJson.addProperty("request", aiRequest);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(requestJson),
             MediaType.parse("application/json")
@@ -1770,18 +2688,14 @@ public class JiraService {
         logRequest("POST", url, gson.toJson(requestJson));
         accessLogService.sendAccessLog("AI 내용 생성", url);
 
-        Request httpRequest = new Request.Builder()
-            .url(url)
-            .post(body)
-            .addHeader("Content-Type", "application/json")
-            .build();
-        
-        try (Response response = client.newCall(httpRequest).execute()) {
+        Request httpRequest = buildAiRequest(AiEndpoint.DESCRIPTION, body);
+
+        return calls.execute(httpRequest, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to generate description: " + response.code() + " - " + responseBody);
             }
-            
+
             // Parse response and extract description
             JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
             if (responseJson.has("description")) {
@@ -1791,17 +2705,21 @@ public class JiraService {
             } else {
                 throw new IOException("Invalid response format: missing 'description' or 'result' field");
             }
-        }
+        });
     }
 
     public String generateWorkDescription(String summary) throws IOException {
-        String url = "http://172.16.120.182:8001/jira/issues/generate_description";
-        
+        return AsyncCallExecutor.await(fetchGeneratedWorkDescription(summary));
+    }
+
+    private CompletableFuture<String> fetchGeneratedWorkDescription(String summary) {
+        String url = AI_SERVER_URL + AiEndpoint.WORK_DESCRIPTION.getPath();
+
         // Create request body with actionType and summary
         JsonObject requestJson = new JsonObject();
         requestJson.addProperty("actionType", "task_create");
         requestJson.addProperty("summary", summary);
-        
+
         RequestBody body = RequestBody.create(
             gson.toJson(requestJson),
             MediaType.parse("application/json")
@@ -1809,18 +2727,14 @@ public class JiraService {
         logRequest("POST", url, gson.toJson(requestJson));
         accessLogService.sendAccessLog("AI 작업 내용 생성", url);
 
-        Request httpRequest = new Request.Builder()
-            .url(url)
-            .post(body)
-            .addHeader("Content-Type", "application/json")
-            .build();
-        
-        try (Response response = client.newCall(httpRequest).execute()) {
+        Request httpRequest = buildAiRequest(AiEndpoint.WORK_DESCRIPTION, body);
+
+        return calls.execute(httpRequest, response -> {
             String responseBody = response.body() != null ? response.body().string() : "";
             if (!response.isSuccessful()) {
                 throw new IOException("Failed to generate work description: " + response.code() + " - " + responseBody);
             }
-            
+
             // Parse response and extract ai_result
             JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
             if (responseJson.has("ai_result")) {
@@ -1828,6 +2742,15 @@ public class JiraService {
             } else {
                 throw new IOException("Invalid response format: missing 'ai_result' field");
             }
+        });
+    }
+
+    /**
+     * Jira refused a transition id (HTTP 400), which for a cached id usually means the workflow changed.
+     */
+    private static final class TransitionRejectedException extends RequestRejectedException {
+        TransitionRejectedException(String message) {
+            super(message);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.spectra.intellij.ai.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, pull-based results of a JQL query over {@code /search/jql}.
+ * <p>
+ * The first page is requested when the results are created. Whenever the consumer starts on a page, the next one is
+ * requested in the background, so at most one page is fetched ahead of the consumer. Stopping early and calling
+ * {@link #close()} cancels that prefetch and requests nothing further; {@link #stream()} closes on
+ * {@link Stream#close()}, so use it with try-with-resources.
+ * <p>
+ * {@link #hasNext()} blocks while the page it needs is in transit and must not be called on the EDT. Request
+ * failures surface as {@link UncheckedIOException}.
+ */
+public final class JqlResults<T> implements Iterator<T>, AutoCloseable {
+
+    private final Paging.CursorPageFetcher<T> fetcher;
+    private volatile CompletableFuture<Paging.Page<T>> pending;
+    private Iterator<T> current = Collections.emptyIterator();
+    private volatile int pagesRequested;
+    private volatile boolean closed;
+
+    JqlResults(Paging.CursorPageFetcher<T> fetcher) {
+        this.fetcher = fetcher;
+        this.pending = request(null);
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        while (!current.hasNext()) {
+            if (closed || pending == null) {
+                return false;
+            }
+            Paging.Page<T> page;
+            try {
+                page = AsyncCallExecutor.await(pending);
+            } catch (CancellationException e) {
+                // Closed from another thread while waiting
+                return false;
+            } catch (IOException e) {
+                pending = null;
+                throw new UncheckedIOException(e);
+            }
+            String token = page.getNextPageToken();
+            boolean hasMore = !page.isLast() && token != null;
+            // Prefetch the next page while the consumer works through this one
+            pending = hasMore ? request(token) : null;
+            if (closed) {
+                // close() ran before the prefetch was published
+                close();
+                return false;
+            }
+            current = page.getItems().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * The remaining results as a sequential stream that closes these results when it is closed.
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Number of pages requested so far, including a prefetch that was cancelled.
+     */
+    public int getPagesRequested() {
+        return pagesRequested;
+    }
+
+    /**
+     * Stops the results; may be called from any thread, also while another thread waits in {@link #hasNext()}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<Paging.Page<T>> request = pending;
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+
+    private CompletableFuture<Paging.Page<T>> request(String token) {
+        pagesRequested++;
+        return fetcher.fetch(token);
+    }
+}
@@ -0,0 +1,137 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming helpers for large Jira responses.
+ * <p>
+ * Decoding straight from the response body with {@link JsonReader} keeps only the objects being built in memory:
+ * the body is never buffered into a String and no {@code JsonObject} tree is created. Members the caller does not
+ * ask for are skipped token by token.
+ */
+final class JsonStreams {
+
+    @FunctionalInterface
+    interface ElementReader<T> {
+        /**
+         * Reads one array element. Returning null drops the element.
+         */
+        T read(JsonReader reader) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface MemberReader {
+        /**
+         * Handles one object member. Must consume the value, with {@link JsonReader#skipValue()} if it is not needed.
+         */
+        void read(String name, JsonReader reader) throws IOException;
+    }
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Opens a reader on the response body (decoded with the response charset, UTF-8 by default).
+     */
+    static JsonReader open(Response response) {
+        ResponseBody body = response.body();
+        return new JsonReader(body != null ? body.charStream() : new StringReader("null"));
+    }
+
+    /**
+     * Reads the array stored under {@code field} of the top-level object, skipping all other members. A missing or
+     * null field yields an empty list.
+     */
+    static <T> List<T> readArrayField(JsonReader reader, String field, ElementReader<T> elementReader) throws IOException {
+        List<T> result = new ArrayList<>();
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return result;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (field.equals(reader.nextName())) {
+                result = readArray(reader, elementReader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    /**
+     * Reads an array value, one element at a time. A null value yields an empty list.
+     */
+    static <T> List<T> readArray(JsonReader reader, ElementReader<T> elementReader) throws IOException {
+        List<T> result = new ArrayList<>();
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return result;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            T element = elementReader.read(reader);
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        reader.endArray();
+        return result;
+    }
+
+    /**
+     * Reads an object member by member. A null (or non-object) value is skipped without calling the member reader.
+     */
+    static void readObject(JsonReader reader, MemberReader memberReader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            memberReader.read(reader.nextName(), reader);
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads an object and returns its string member {@code name}, skipping everything else. Returns null when the
+     * value is null or has no such member.
+     */
+    static String readStringMember(JsonReader reader, String name) throws IOException {
+        String[] value = {null};
+        readObject(reader, (member, in) -> {
+            if (name.equals(member)) {
+                value[0] = nextStringOrNull(in);
+            } else {
+                in.skipValue();
+            }
+        });
+        return value[0];
+    }
+
+    /**
+     * Reads a string, number or boolean as a string; null and structured values yield null.
+     */
+    static String nextStringOrNull(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.spectra.intellij.ai.model.JiraEpic;
+import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.model.JiraSprint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The last-known sprints, sprint issues, board Epics and issue types of each Jira instance and project, kept on disk
+ * under the IDE system directory.
+ * <p>
+ * Every complete read from Jira is written here in the background, one JSON file per list, replaced atomically. On a
+ * cold start the tool window paints from these files first and revalidates against Jira; when Jira cannot be reached
+ * they stay on screen, so the sprints and their issues remain browsable offline. Assignable users are kept on disk by
+ * {@link UserDirectory} and unsent edits by {@link IssueWriteQueue}.
+ */
+public final class LocalIssueStore {
+
+    // Issue lists of the sprints read most recently are kept; older ones are deleted
+    private static final int MAX_STORED_SPRINTS = 20;
+
+    private static final Type SPRINTS = new TypeToken<List<JiraSprint>>() { }.getType();
+    private static final Type ISSUES = new TypeToken<List<JiraIssue>>() { }.getType();
+    private static final Type EPICS = new TypeToken<List<JiraEpic>>() { }.getType();
+    private static final Type ISSUE_TYPES = new TypeToken<Map<String, String>>() { }.getType();
+
+    private final Gson gson;
+    private final Executor ioExecutor;
+    private volatile File storageDir;
+    private volatile String instanceUrl = "";
+
+    // Guarded by itself: when each file was last written, so that a slower write of an older read never wins
+    private final Map<Path, Long> writtenReadTimes = new HashMap<>();
+
+    LocalIssueStore(Gson gson, Executor ioExecutor) {
+        this.gson = gson;
+        this.ioExecutor = ioExecutor;
+    }
+
+    /**
+     * Enables the store; without a directory nothing is written and every read finds nothing.
+     */
+    void setStorageDir(File storageDir) {
+        this.storageDir = storageDir;
+    }
+
+    /**
+     * Binds the store to a Jira instance. Lists of other instances stay on disk for when they are bound again.
+     */
+    void bind(String baseUrl) {
+        this.instanceUrl = baseUrl;
+    }
+
+    CompletableFuture<Stored<List<JiraSprint>>> readSprints(String projectKey) {
+        return read(projectKey, "sprints", SPRINTS);
+    }
+
+    void writeSprints(String projectKey, List<JiraSprint> sprints, long readAt) {
+        write(projectKey, "sprints", sprints, readAt);
+    }
+
+    CompletableFuture<Stored<List<JiraIssue>>> readSprintIssues(String projectKey, String sprintId) {
+        return read(projectKey, sprintFileName(sprintId), ISSUES);
+    }
+
+    void writeSprintIssues(String projectKey, String sprintId, List<JiraIssue> issues, long readAt) {
+        write(projectKey, sprintFileName(sprintId), issues, readAt);
+    }
+
+    CompletableFuture<Stored<List<JiraEpic>>> readBoardEpics(String projectKey, String boardId) {
+        return read(projectKey, "board-epics-" + safeName(boardId), EPICS);
+    }
+
+    void writeBoardEpics(String projectKey, String boardId, List<JiraEpic> epics, long readAt) {
+        write(projectKey, "board-epics-" + safeName(boardId), epics, readAt);
+    }
+
+    CompletableFuture<Stored<Map<String, String>>> readIssueTypes(String projectKey) {
+        return read(projectKey, "issue-types", ISSUE_TYPES);
+    }
+
+    void writeIssueTypes(String projectKey, Map<String, String> issueTypes, long readAt) {
+        write(projectKey, "issue-types", issueTypes, readAt);
+    }
+
+    /**
+     * Reads a list on the I/O executor. Completes with null when it was never stored, belongs to another instance or
+     * cannot be read.
+     */
+    private <T> CompletableFuture<Stored<T>> read(String projectKey, String name, Type type) {
+        String instance = instanceUrl;
+        return CompletableFuture.supplyAsync(() -> readFile(instance, projectKey, name, type), ioExecutor);
+    }
+
+    private <T> Stored<T> readFile(String instance, String projectKey, String name, Type type) {
+        Path file = storageFile(instance, projectKey, name);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonObject stored = JsonParser.parseReader(reader).getAsJsonObject();
+            if (!stored.has("baseUrl") || !instance.equals(stored.get("baseUrl").getAsString()) || !stored.has("value")) {
+                return null;
+            }
+            T value = gson.fromJson(stored.get("value"), type);
+            return value != null ? new Stored<>(value, stored.get("readAt").getAsLong()) : null;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to read stored " + name + " of " + projectKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes a list on the I/O executor, unless a list read later has been written meanwhile.
+     */
+    private void write(String projectKey, String name, Object value, long readAt) {
+        String instance = instanceUrl;
+        Path file = storageFile(instance, projectKey, name);
+        if (file == null) {
+            return;
+        }
+        // Serialized on the caller's thread: the lists are not copied and may change once they reach the UI
+        JsonElement json = gson.toJsonTree(value);
+        ioExecutor.execute(() -> {
+            JsonObject stored = new JsonObject();
+            stored.addProperty("baseUrl", instance);
+            stored.addProperty("projectKey", projectKey);
+            stored.addProperty("readAt", readAt);
+            stored.add("value", json);
+            synchronized (writtenReadTimes) {
+                if (writtenReadTimes.getOrDefault(file, Long.MIN_VALUE) > readAt) {
+                    return;
+                }
+                try {
+                    Files.createDirectories(file.getParent());
+                    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                    try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                        gson.toJson(stored, writer);
+                    }
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    writtenReadTimes.put(file, readAt);
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Failed to store " + name + " of " + projectKey + ": " + e.getMessage());
+                    return;
+                }
+                if (name.startsWith("sprint-")) {
+                    pruneSprints(file.getParent());
+                }
+            }
+        });
+    }
+
+    private void pruneSprints(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> sprints = files
+                .filter(path -> path.getFileName().toString().startsWith("sprint-"))
+                .sorted(Comparator.comparingLong(LocalIssueStore::lastModified).reversed())
+                .collect(Collectors.toList());
+            for (Path old : sprints.subList(Math.min(MAX_STORED_SPRINTS, sprints.size()), sprints.size())) {
+                Files.deleteIfExists(old);
+                writtenReadTimes.remove(old);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to prune stored sprints: " + e.getMessage());
+        }
+    }
+
+    private static long lastModified(Path path) {
+        return path.toFile().lastModified();
+    }
+
+    private Path storageFile(String instance, String projectKey, String name) {
+        File dir = storageDir;
+        if (dir == null || instance.isEmpty() || projectKey == null) {
+            return null;
+        }
+        String project = safeName(projectKey) + "-" + Integer.toHexString(instance.hashCode());
+        return dir.toPath().resolve(project).resolve(name + ".json");
+    }
+
+    private static String sprintFileName(String sprintId) {
+        return "sprint-" + safeName(sprintId);
+    }
+
+    private static String safeName(String name) {
+        return name.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+
+    /**
+     * A list as it was last read from Jira.
+     */
+    public static final class Stored<T> {
+        private final T value;
+        private final long readAt;
+
+        Stored(T value, long readAt) {
+            this.value = value;
+            this.readAt = readAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * When the read that produced the list started, in epoch milliseconds.
+         */
+        public long getReadAt() {
+            return readAt;
+        }
+    }
+}
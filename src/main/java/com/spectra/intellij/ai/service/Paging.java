@@ -0,0 +1,291 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Fetches every page of a paginated Jira list.
+ * <p>
+ * Jira pages two ways. {@code startAt} lists (agile endpoints, the classic {@code /search}) usually report
+ * {@code total}, so once the first page is in, the remaining windows are known and are fetched concurrently, at most
+ * {@code parallelism} at a time; lists without a total (such as a board's epics) are followed page by page until
+ * {@code isLast}. {@code /search/jql} only returns an opaque {@code nextPageToken}, so its pages can only be fetched
+ * one after the other. Either way each page is handed to {@code onPage} as soon as it is parsed (in
+ * arrival order), and the returned future completes with all items in list order.
+ * <p>
+ * Cancelling the returned future cancels the pages in flight and fetches no further pages; a failed page fails the
+ * whole list.
+ */
+final class Paging {
+
+    @FunctionalInterface
+    interface OffsetPageFetcher<T> {
+        CompletableFuture<Page<T>> fetch(int startAt);
+    }
+
+    @FunctionalInterface
+    interface CursorPageFetcher<T> {
+        /**
+         * Fetches the page after {@code nextPageToken}; null asks for the first page.
+         */
+        CompletableFuture<Page<T>> fetch(String nextPageToken);
+    }
+
+    private Paging() {
+    }
+
+    static <T> CompletableFuture<List<T>> fetchOffsetPages(OffsetPageFetcher<T> fetcher, int parallelism, Consumer<List<T>> onPage) {
+        return new OffsetRun<>(fetcher, Math.max(1, parallelism), onPage).start();
+    }
+
+    static <T> CompletableFuture<List<T>> fetchCursorPages(CursorPageFetcher<T> fetcher, Consumer<List<T>> onPage) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        fetchCursorPage(fetcher, null, new ArrayList<>(), onPage, result);
+        return result;
+    }
+
+    private static <T> void fetchCursorPage(CursorPageFetcher<T> fetcher, String token, List<T> items,
+                                            Consumer<List<T>> onPage, CompletableFuture<List<T>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Page<T>> request = fetcher.fetch(token);
+        AsyncCallExecutor.cancelWith(result, request);
+        request.whenComplete((page, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            items.addAll(page.getItems());
+            onPage.accept(page.getItems());
+            if (page.isLast() || page.getNextPageToken() == null || page.getNextPageToken().equals(token)) {
+                result.complete(items);
+            } else {
+                fetchCursorPage(fetcher, page.getNextPageToken(), items, onPage, result);
+            }
+        });
+    }
+
+    /**
+     * Reads one page object: the paging members and the item array stored under {@code itemsField}. Any other
+     * member is skipped.
+     */
+    static <T> Page<T> readPage(JsonReader reader, String itemsField, JsonStreams.ElementReader<T> elementReader) throws IOException {
+        Page<T> page = new Page<>();
+        JsonStreams.readObject(reader, (name, value) -> {
+            if (itemsField.equals(name)) {
+                page.items = JsonStreams.readArray(value, elementReader);
+                return;
+            }
+            switch (name) {
+                case "startAt":
+                    page.startAt = readInt(value, 0);
+                    break;
+                case "maxResults":
+                    page.maxResults = readInt(value, 0);
+                    break;
+                case "total":
+                    page.total = readInt(value, -1);
+                    break;
+                case "isLast":
+                    page.last = "true".equals(JsonStreams.nextStringOrNull(value));
+                    break;
+                case "nextPageToken":
+                    page.nextPageToken = JsonStreams.nextStringOrNull(value);
+                    break;
+                default:
+                    value.skipValue();
+            }
+        });
+        return page;
+    }
+
+    private static int readInt(JsonReader reader, int defaultValue) throws IOException {
+        String value = JsonStreams.nextStringOrNull(reader);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * One page of a Jira list response.
+     */
+    static final class Page<T> {
+        private List<T> items = Collections.emptyList();
+        private int startAt;
+        private int maxResults;
+        private int total = -1;
+        private boolean last;
+        private String nextPageToken;
+
+        /**
+         * A page of an endpoint that returns a bare array, read with the page size {@code maxResults}.
+         */
+        static <T> Page<T> of(List<T> items, int startAt, int maxResults, boolean last) {
+            Page<T> page = new Page<>();
+            page.items = items;
+            page.startAt = startAt;
+            page.maxResults = maxResults;
+            page.last = last;
+            return page;
+        }
+
+        List<T> getItems() {
+            return items;
+        }
+
+        int getStartAt() {
+            return startAt;
+        }
+
+        /** The page size the server actually applied, which may be below the requested one. */
+        int getMaxResults() {
+            return maxResults;
+        }
+
+        /** Total number of items, or -1 when the endpoint does not report it. */
+        int getTotal() {
+            return total;
+        }
+
+        boolean isLast() {
+            return last;
+        }
+
+        String getNextPageToken() {
+            return nextPageToken;
+        }
+    }
+
+    private static final class OffsetRun<T> {
+        private final OffsetPageFetcher<T> fetcher;
+        private final int parallelism;
+        private final Consumer<List<T>> onPage;
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+        // Guarded by this
+        private List<List<T>> pages;
+        private int pageSize;
+        private int nextWindow;
+        private int pendingWindows;
+
+        OffsetRun(OffsetPageFetcher<T> fetcher, int parallelism, Consumer<List<T>> onPage) {
+            this.fetcher = fetcher;
+            this.parallelism = parallelism;
+            this.onPage = onPage;
+            result.whenComplete((items, failure) -> {
+                if (failure != null) {
+                    inFlight.forEach(request -> request.cancel(true));
+                }
+            });
+        }
+
+        CompletableFuture<List<T>> start() {
+            track(fetcher.fetch(0)).whenComplete((first, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                onPage.accept(first.getItems());
+                int received = first.getItems().size();
+                int size = first.getMaxResults() > 0 ? first.getMaxResults() : received;
+                if (first.isLast() || size == 0 || received == 0) {
+                    result.complete(first.getItems());
+                    return;
+                }
+                if (first.getTotal() < 0) {
+                    fetchSequentially(first.getStartAt() + Math.max(received, size), new ArrayList<>(first.getItems()));
+                    return;
+                }
+                if (first.getTotal() <= received) {
+                    result.complete(first.getItems());
+                    return;
+                }
+                int windows = (first.getTotal() - 1) / size + 1;
+                synchronized (this) {
+                    pageSize = size;
+                    pages = new ArrayList<>(Collections.nCopies(windows, null));
+                    pages.set(0, first.getItems());
+                    nextWindow = 1;
+                    pendingWindows = windows - 1;
+                }
+                for (int i = 0; i < parallelism; i++) {
+                    fetchNextWindow();
+                }
+            });
+            return result;
+        }
+
+        private void fetchNextWindow() {
+            int window;
+            synchronized (this) {
+                if (result.isDone() || nextWindow >= pages.size()) {
+                    return;
+                }
+                window = nextWindow++;
+            }
+            track(fetcher.fetch(window * pageSize)).whenComplete((page, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                onPage.accept(page.getItems());
+                boolean complete;
+                synchronized (this) {
+                    pages.set(window, page.getItems());
+                    complete = --pendingWindows == 0;
+                }
+                if (complete) {
+                    List<T> items = new ArrayList<>();
+                    pages.forEach(items::addAll);
+                    result.complete(items);
+                } else {
+                    fetchNextWindow();
+                }
+            });
+        }
+
+        /**
+         * Follows a list that does not report its total until a page says it is the last one.
+         */
+        private void fetchSequentially(int startAt, List<T> items) {
+            if (result.isDone()) {
+                return;
+            }
+            track(fetcher.fetch(startAt)).whenComplete((page, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                onPage.accept(page.getItems());
+                items.addAll(page.getItems());
+                if (page.isLast() || page.getItems().isEmpty()) {
+                    result.complete(items);
+                } else {
+                    // A page may be shorter than the page size without being the last (filtered users)
+                    fetchSequentially(startAt + Math.max(page.getItems().size(), page.getMaxResults()), items);
+                }
+            });
+        }
+
+        private <R> CompletableFuture<R> track(CompletableFuture<R> request) {
+            inFlight.add(request);
+            request.whenComplete((value, failure) -> inFlight.remove(request));
+            if (result.isDone()) {
+                request.cancel(true);
+            }
+            return request;
+        }
+    }
+}
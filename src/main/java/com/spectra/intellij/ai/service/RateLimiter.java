@@ -0,0 +1,177 @@
+package com.spectra.intellij.ai.service;
+
+import okhttp3.Response;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Asynchronous per-host token bucket shared by all Jira calls.
+ * <p>
+ * {@link #acquire(String)} never blocks: it returns a future that completes when the caller may send. Tokens are
+ * reserved in arrival order, so a burst is spread out at the refill rate instead of being rejected by Jira. Server
+ * signals ({@code Retry-After}, {@code X-RateLimit-Remaining: 0} with {@code X-RateLimit-Reset}) pause the host until
+ * the server says it is ready again.
+ */
+final class RateLimiter {
+
+    private static final double PERMITS_PER_SECOND = 10;
+    private static final double BURST_CAPACITY = 20;
+
+    private final ScheduledExecutorService scheduler;
+    // Epoch milliseconds; replaced in tests
+    private final LongSupplier clock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong delayedAcquisitions = new AtomicLong();
+
+    RateLimiter(ScheduledExecutorService scheduler) {
+        this(scheduler, System::currentTimeMillis);
+    }
+
+    RateLimiter(ScheduledExecutorService scheduler, LongSupplier clock) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Reserves a token for {@code host}. Cancelling the returned future while it waits hands the token back, so the
+     * callers that arrive after it do not queue behind a request that will never be sent.
+     */
+    CompletableFuture<Void> acquire(String host) {
+        Bucket bucket = bucket(host);
+        long waitMillis = bucket.reserve(clock.getAsLong());
+        if (waitMillis <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        delayedAcquisitions.incrementAndGet();
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        ScheduledFuture<?> grant = scheduler.schedule(() -> permit.complete(null), waitMillis, TimeUnit.MILLISECONDS);
+        permit.whenComplete((value, throwable) -> {
+            if (permit.isCancelled()) {
+                grant.cancel(false);
+                bucket.release();
+            }
+        });
+        return permit;
+    }
+
+    /**
+     * Reads the server's rate-limit headers and pauses the host when it asks us to back off.
+     */
+    void onResponse(String host, Response response) {
+        long now = clock.getAsLong();
+        long retryAfterMillis = retryAfterMillis(response, now);
+        if (retryAfterMillis > 0) {
+            bucket(host).pauseUntil(now + retryAfterMillis);
+            return;
+        }
+        if ("0".equals(response.header("X-RateLimit-Remaining"))) {
+            long resetAt = parseInstantMillis(response.header("X-RateLimit-Reset"));
+            if (resetAt > now) {
+                bucket(host).pauseUntil(resetAt);
+            }
+        }
+    }
+
+    /**
+     * Delay requested by a {@code Retry-After} header (delta-seconds or HTTP-date), or 0 when absent.
+     */
+    static long retryAfterMillis(Response response, long now) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                long at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                return Math.max(0, at - now);
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private static long parseInstantMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            // Jira Cloud sends an ISO-8601 timestamp
+            return Instant.parse(value.trim()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            try {
+                // Some proxies send epoch seconds
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    long getDelayedAcquisitions() {
+        return delayedAcquisitions.get();
+    }
+
+    private Bucket bucket(String host) {
+        return buckets.computeIfAbsent(host, h -> new Bucket(clock.getAsLong()));
+    }
+
+    private static final class Bucket {
+        private double tokens = BURST_CAPACITY;
+        private long lastRefill;
+        private long pausedUntil;
+
+        Bucket(long now) {
+            this.lastRefill = now;
+        }
+
+        /**
+         * Takes one token and returns how long the caller has to wait for it. Tokens may go negative; that is the
+         * queue of callers already waiting.
+         */
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1;
+            long wait = pausedUntil - now;
+            if (tokens < 0) {
+                wait = Math.max(wait, (long) Math.ceil(-tokens * 1000 / PERMITS_PER_SECOND));
+            }
+            return Math.max(0, wait);
+        }
+
+        /**
+         * Returns a token reserved by a caller that gave up waiting.
+         */
+        synchronized void release() {
+            tokens = Math.min(BURST_CAPACITY, tokens + 1);
+        }
+
+        synchronized void pauseUntil(long until) {
+            if (until > pausedUntil) {
+                pausedUntil = until;
+                // Nothing was available while paused; start from an empty bucket when the pause ends
+                tokens = Math.min(tokens, 0);
+            }
+        }
+
+        private void refill(long now) {
+            long from = Math.max(lastRefill, pausedUntil);
+            if (now > from) {
+                tokens = Math.min(BURST_CAPACITY, tokens + (now - from) * PERMITS_PER_SECOND / 1000);
+            }
+            lastRefill = Math.max(lastRefill, now);
+        }
+    }
+}
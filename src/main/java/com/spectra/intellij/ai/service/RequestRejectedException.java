@@ -0,0 +1,21 @@
+package com.spectra.intellij.ai.service;
+
+import java.io.IOException;
+
+/**
+ * Jira refused a request with a client error (4xx other than 429). Sending the same request again would fail the
+ * same way, so callers that retry writes give up on it.
+ */
+class RequestRejectedException extends IOException {
+
+    RequestRejectedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Whether a response code means the request itself was refused rather than Jira being unavailable.
+     */
+    static boolean isRejection(int code) {
+        return code >= 400 && code < 500 && code != 429;
+    }
+}
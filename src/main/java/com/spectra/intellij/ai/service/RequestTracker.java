@@ -0,0 +1,81 @@
+package com.spectra.intellij.ai.service;
+
+import com.intellij.openapi.Disposable;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the requests a UI component has in flight.
+ * <p>
+ * Register the tracker under the component's {@link Disposable}: disposing it cancels every tracked request, and
+ * with it the underlying OkHttp calls. A {@link Slot} holds the latest request of one kind, such as the one for the
+ * selected issue; starting a new request in the slot cancels the one it supersedes.
+ */
+public final class RequestTracker implements Disposable {
+
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean disposed;
+
+    /**
+     * Cancels the request when the tracker is disposed. Returns the same future.
+     */
+    public <T> CompletableFuture<T> track(CompletableFuture<T> request) {
+        inFlight.add(request);
+        request.whenComplete((value, throwable) -> inFlight.remove(request));
+        if (disposed) {
+            request.cancel(true);
+        }
+        return request;
+    }
+
+    public Slot newSlot() {
+        return new Slot();
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        for (CompletableFuture<?> request : new ArrayList<>(inFlight)) {
+            request.cancel(true);
+        }
+    }
+
+    public final class Slot {
+        private CompletableFuture<?> current;
+
+        private Slot() {
+        }
+
+        /**
+         * Makes {@code request} the slot's current request and cancels the previous one.
+         */
+        public synchronized <T> CompletableFuture<T> replace(CompletableFuture<T> request) {
+            if (current != null && current != request) {
+                current.cancel(true);
+            }
+            current = request;
+            return track(request);
+        }
+
+        /**
+         * Whether {@code request} is still the latest one; results of superseded requests must be dropped, because
+         * they can complete after cancellation was requested.
+         */
+        public synchronized boolean isCurrent(CompletableFuture<?> request) {
+            return request == current && !disposed;
+        }
+
+        /**
+         * Cancels the current request, e.g. when the selection is cleared.
+         */
+        public synchronized void cancel() {
+            if (current != null) {
+                current.cancel(true);
+                current = null;
+            }
+        }
+    }
+}
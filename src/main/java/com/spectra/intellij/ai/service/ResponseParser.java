@@ -0,0 +1,14 @@
+package com.spectra.intellij.ai.service;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Turns a completed HTTP response into a result. Runs on the plugin's parse executor; the response is closed by
+ * the caller once parsing returns.
+ */
+@FunctionalInterface
+interface ResponseParser<T> {
+    T parse(Response response) throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.spectra.intellij.ai.service;
+
+import okhttp3.Request;
+
+/**
+ * How {@link AsyncCallExecutor} may retry a request. Attach a policy with
+ * {@code Request.Builder.tag(RetryPolicy.class, policy)}; untagged requests get the default for their HTTP method.
+ */
+enum RetryPolicy {
+
+    /**
+     * Safe to send again: GET/HEAD/PUT/DELETE and read-only POSTs such as JQL searches. Retried on throttling
+     * (429/503), on gateway errors (502/504) and on network failures.
+     */
+    IDEMPOTENT,
+
+    /**
+     * Must not be applied twice (issue creation, transitions). Retried only when the server has rejected
+     * the request without processing it (429/503); a network failure is left to the caller, which knows how to check
+     * whether the write landed.
+     */
+    REJECTED_ONLY,
+
+    /** Never retried: AI calls, which fail fast behind their circuit breaker, and the write queue's writes. */
+    NONE;
+
+    static RetryPolicy of(Request request) {
+        RetryPolicy tagged = request.tag(RetryPolicy.class);
+        if (tagged != null) {
+            return tagged;
+        }
+        switch (request.method()) {
+            case "GET":
+            case "HEAD":
+            case "PUT":
+            case "DELETE":
+                return IDEMPOTENT;
+            default:
+                return REJECTED_ONLY;
+        }
+    }
+
+    boolean retriesStatus(int code) {
+        switch (this) {
+            case IDEMPOTENT:
+                return code == 429 || code == 502 || code == 503 || code == 504;
+            case REJECTED_ONLY:
+                return code == 429 || code == 503;
+            default:
+                return false;
+        }
+    }
+
+    boolean retriesNetworkFailure() {
+        return this == IDEMPOTENT;
+    }
+}
@@ -0,0 +1,169 @@
+package com.spectra.intellij.ai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical in-flight requests: while a request for a key is running, further callers for the same key
+ * attach to it instead of sending their own. All of them receive the same parsed result, so results handed out
+ * through this class must be treated as read-only.
+ * <p>
+ * Every caller gets its own future. Cancelling it detaches only that caller; the shared request is cancelled once
+ * the last attached caller has cancelled.
+ */
+public final class SingleFlight {
+
+    private final ConcurrentHashMap<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+
+    SingleFlight() {
+    }
+
+    /**
+     * Builds the coalescing key from the HTTP method, the URL and a hash of the request body, if any.
+     */
+    static String key(String method, String url, String body) {
+        return body == null ? method + " " + url : method + " " + url + " #" + sha256(body);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> call) {
+        requests.incrementAndGet();
+        while (true) {
+            boolean[] created = {false};
+            Flight<T> flight = (Flight<T>) inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return new Flight<T>();
+            });
+
+            CompletableFuture<T> caller = flight.attach();
+            if (caller == null) {
+                // The flight was abandoned by its last caller between lookup and attach; start a new one
+                inFlight.remove(key, flight);
+                continue;
+            }
+
+            if (created[0]) {
+                flight.start(call, () -> inFlight.remove(key, flight));
+            } else {
+                deduplicated.incrementAndGet();
+            }
+            caller.whenComplete((value, throwable) -> {
+                if (caller.isCancelled() && flight.detach()) {
+                    inFlight.remove(key, flight);
+                }
+            });
+            return caller;
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(requests.get(), deduplicated.get(), inFlight.size());
+    }
+
+    private static String sha256(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256; fall back to the full body just in case
+            return body;
+        }
+    }
+
+    private static final class Flight<T> {
+        private final CompletableFuture<T> shared = new CompletableFuture<>();
+        private CompletableFuture<T> source;
+        private int callers;
+        private boolean abandoned;
+
+        void start(Supplier<CompletableFuture<T>> call, Runnable onDone) {
+            CompletableFuture<T> started = AsyncCallExecutor.defer(call);
+            synchronized (this) {
+                source = started;
+            }
+            started.whenComplete((value, throwable) -> {
+                onDone.run();
+                if (throwable == null) {
+                    shared.complete(value);
+                } else {
+                    shared.completeExceptionally(AsyncCallExecutor.unwrap(throwable));
+                }
+            });
+        }
+
+        synchronized CompletableFuture<T> attach() {
+            if (abandoned) {
+                return null;
+            }
+            callers++;
+            CompletableFuture<T> caller = new CompletableFuture<>();
+            shared.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    caller.complete(value);
+                } else {
+                    caller.completeExceptionally(throwable);
+                }
+            });
+            return caller;
+        }
+
+        /**
+         * Returns true when the last caller detached and the shared request was cancelled.
+         */
+        boolean detach() {
+            CompletableFuture<T> toCancel;
+            synchronized (this) {
+                if (--callers > 0 || shared.isDone()) {
+                    return false;
+                }
+                abandoned = true;
+                toCancel = source;
+            }
+            shared.cancel(true);
+            if (toCancel != null) {
+                toCancel.cancel(true);
+            }
+            return true;
+        }
+    }
+
+    public static final class Stats {
+        private final long requests;
+        private final long deduplicated;
+        private final int inFlight;
+
+        Stats(long requests, long deduplicated, int inFlight) {
+            this.requests = requests;
+            this.deduplicated = deduplicated;
+            this.inFlight = inFlight;
+        }
+
+        /** Requests that went through the single-flight layer. */
+        public long getRequests() {
+            return requests;
+        }
+
+        /** Requests that were answered by another caller's in-flight request. */
+        public long getDeduplicated() {
+            return deduplicated;
+        }
+
+        /** Distinct requests currently on the wire. */
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public String toString() {
+            return "requests=" + requests + ", deduplicated=" + deduplicated + ", inFlight=" + inFlight;
+        }
+    }
+}
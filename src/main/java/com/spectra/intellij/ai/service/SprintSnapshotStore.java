@@ -0,0 +1,219 @@
+package com.spectra.intellij.ai.service;
+
+import com.spectra.intellij.ai.model.JiraIssue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The last complete read of the sprints viewed most recently, per project: their issues in rank order and the time
+ * the read started.
+ * <p>
+ * Selecting a sprint shows its snapshot at once, and a refresh then only asks Jira for what changed since that read
+ * (see {@link JiraService#refreshSprintIssuesAsync(String)}). JQL absolute dates are read in the user's Jira time
+ * zone and to the minute, so the lower bound is sent as a relative {@code -Nm} instead: the time elapsed since the
+ * read, measured on the IDE's clock, which holds whatever the offset between the IDE's and Jira's clocks. It is
+ * rounded up and widened by {@link #MARGIN_MINUTES} for the delay before an update becomes searchable. Re-reading an
+ * issue that did not change is harmless; missing one that did is not.
+ * <p>
+ * At most {@link #MAX_SPRINTS} sprints are kept; the one viewed least recently is dropped first. Hits, misses and
+ * the age of the snapshots shown are counted for the diagnostics panel.
+ */
+public final class SprintSnapshotStore {
+
+    static final long MARGIN_MINUTES = 2;
+    static final int MAX_SPRINTS = 20;
+
+    // Guarded by this; in access order, so the eldest entry is the sprint viewed least recently
+    private final Map<String, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+            return size() > MAX_SPRINTS;
+        }
+    };
+    private long hits;
+    private long storedHits;
+    private long misses;
+    private long servedAgeTotalMillis;
+    private long revalidations;
+    private long changedRevalidations;
+
+    SprintSnapshotStore() {
+    }
+
+    /**
+     * Returns the snapshot of the sprint, or null when the sprint has not been read completely yet.
+     */
+    synchronized Snapshot get(String projectKey, String sprintId) {
+        return snapshots.get(key(projectKey, sprintId));
+    }
+
+    /**
+     * Records a complete read of the sprint that started at {@code readStartedAt}, unless a read that started later
+     * is already recorded.
+     */
+    synchronized void put(String projectKey, String sprintId, List<JiraIssue> issues, long readStartedAt) {
+        String key = key(projectKey, sprintId);
+        Snapshot current = snapshots.get(key);
+        if (current == null || current.readStartedAt <= readStartedAt) {
+            snapshots.put(key, new Snapshot(projectKey, sprintId, issues, readStartedAt));
+        }
+    }
+
+    synchronized void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * Counts a snapshot shown on selection, from memory or, after a restart, from the local store.
+     */
+    synchronized void recordHit(long readStartedAt, boolean stored) {
+        if (stored) {
+            storedHits++;
+        } else {
+            hits++;
+        }
+        servedAgeTotalMillis += Math.max(0, System.currentTimeMillis() - readStartedAt);
+    }
+
+    /**
+     * Counts a selection that found no snapshot, so the sprint is read in full.
+     */
+    synchronized void recordMiss() {
+        misses++;
+    }
+
+    /**
+     * Counts a delta read of a snapshot; {@code changed} when Jira had newer issues or a different set of them.
+     */
+    synchronized void recordRevalidation(boolean changed) {
+        revalidations++;
+        if (changed) {
+            changedRevalidations++;
+        }
+    }
+
+    public synchronized Stats getStats() {
+        List<Snapshot> cached = new ArrayList<>(snapshots.values());
+        // Most recently viewed first
+        Collections.reverse(cached);
+        long served = hits + storedHits;
+        return new Stats(hits, storedHits, misses, served > 0 ? servedAgeTotalMillis / served : 0,
+            revalidations, changedRevalidations, cached);
+    }
+
+    private static String key(String projectKey, String sprintId) {
+        return projectKey + '/' + sprintId;
+    }
+
+    public static final class Snapshot {
+        final String projectKey;
+        final String sprintId;
+        final List<JiraIssue> issues;
+        final Map<String, JiraIssue> byKey;
+        final long readStartedAt;
+
+        Snapshot(String projectKey, String sprintId, List<JiraIssue> issues, long readStartedAt) {
+            this.projectKey = projectKey;
+            this.sprintId = sprintId;
+            this.issues = Collections.unmodifiableList(new ArrayList<>(issues));
+            Map<String, JiraIssue> index = new HashMap<>();
+            for (JiraIssue issue : issues) {
+                index.put(issue.getKey(), issue);
+            }
+            this.byKey = index;
+            this.readStartedAt = readStartedAt;
+        }
+
+        public String getProjectKey() {
+            return projectKey;
+        }
+
+        public String getSprintId() {
+            return sprintId;
+        }
+
+        public int getIssueCount() {
+            return issues.size();
+        }
+
+        /** When the read behind the snapshot started, in epoch milliseconds. */
+        public long getReadStartedAt() {
+            return readStartedAt;
+        }
+
+        /**
+         * Minutes to look back from {@code now} so that every update made after the read started is included.
+         */
+        long lookbackMinutes(long now) {
+            long elapsed = Math.max(0, now - readStartedAt);
+            return (elapsed + 59_999) / 60_000 + MARGIN_MINUTES;
+        }
+    }
+
+    public static final class Stats {
+        private final long hits;
+        private final long storedHits;
+        private final long misses;
+        private final long averageServedAgeMillis;
+        private final long revalidations;
+        private final long changedRevalidations;
+        private final List<Snapshot> sprints;
+
+        Stats(long hits, long storedHits, long misses, long averageServedAgeMillis, long revalidations,
+              long changedRevalidations, List<Snapshot> sprints) {
+            this.hits = hits;
+            this.storedHits = storedHits;
+            this.misses = misses;
+            this.averageServedAgeMillis = averageServedAgeMillis;
+            this.revalidations = revalidations;
+            this.changedRevalidations = changedRevalidations;
+            this.sprints = Collections.unmodifiableList(sprints);
+        }
+
+        /** Selections answered from memory. */
+        public long getHits() {
+            return hits;
+        }
+
+        /** Selections answered from the local store, e.g. after a restart. */
+        public long getStoredHits() {
+            return storedHits;
+        }
+
+        /** Selections that read the sprint in full. */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** How old the snapshots shown on selection were, on average. */
+        public long getAverageServedAgeMillis() {
+            return averageServedAgeMillis;
+        }
+
+        /** Delta reads of a snapshot. */
+        public long getRevalidations() {
+            return revalidations;
+        }
+
+        /** Delta reads that found the snapshot out of date. */
+        public long getChangedRevalidations() {
+            return changedRevalidations;
+        }
+
+        /** Sprints in memory, most recently viewed first. */
+        public List<Snapshot> getSprints() {
+            return sprints;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", storedHits=" + storedHits + ", misses=" + misses + ", revalidations=" + revalidations
+                + " (changed " + changedRevalidations + "), cached=" + sprints.size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Fan-out/fan-in for composite Jira loads, modelled on {@code StructuredTaskScope} (which the Java 17 target cannot
+ * use).
+ * <p>
+ * Subtasks are forked onto the plugin's task executor and run concurrently. {@link #join()} completes once every
+ * subtask has finished; a failing subtask never fails its siblings or the join, callers inspect each
+ * {@link Subtask} instead. Cancelling the scope, or the future returned by {@link #join()}, cancels every subtask
+ * that is still running.
+ */
+public final class TaskScope {
+
+    public enum State { RUNNING, SUCCESS, FAILED }
+
+    private final Executor executor;
+    private final List<Subtask<?>> subtasks = new ArrayList<>();
+    private CompletableFuture<Void> joined;
+
+    public TaskScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a subtask. The supplier builds and sends its request on the task executor and returns the request's
+     * future.
+     */
+    public synchronized <T> Subtask<T> fork(Supplier<CompletableFuture<T>> task) {
+        if (joined != null) {
+            throw new IllegalStateException("Cannot fork after join()");
+        }
+        CompletableFuture<T> future = AsyncCallExecutor.compose(
+            CompletableFuture.supplyAsync(() -> AsyncCallExecutor.defer(task), executor),
+            request -> request);
+        Subtask<T> subtask = new Subtask<>(future);
+        subtasks.add(subtask);
+        return subtask;
+    }
+
+    /**
+     * Returns a future that completes normally when all forked subtasks are done, whatever their outcome.
+     */
+    public synchronized CompletableFuture<Void> join() {
+        if (joined == null) {
+            CompletableFuture<?>[] futures = subtasks.stream()
+                .map(subtask -> subtask.future.handle((value, throwable) -> null))
+                .toArray(CompletableFuture[]::new);
+            joined = CompletableFuture.allOf(futures);
+            joined.whenComplete((ignored, throwable) -> {
+                if (throwable instanceof CancellationException) {
+                    cancel();
+                }
+            });
+        }
+        return joined;
+    }
+
+    /**
+     * Cancels every subtask that has not finished yet.
+     */
+    public synchronized void cancel() {
+        for (Subtask<?> subtask : subtasks) {
+            subtask.future.cancel(true);
+        }
+    }
+
+    public static final class Subtask<T> {
+        private final CompletableFuture<T> future;
+
+        private Subtask(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        public State state() {
+            if (!future.isDone()) {
+                return State.RUNNING;
+            }
+            return future.isCompletedExceptionally() ? State.FAILED : State.SUCCESS;
+        }
+
+        /**
+         * Result of a successful subtask. Only valid after the scope has been joined.
+         */
+        public T get() {
+            if (state() != State.SUCCESS) {
+                throw new IllegalStateException("Subtask is " + state());
+            }
+            return future.join();
+        }
+
+        /**
+         * Failure of a failed subtask, unwrapped from the completion wrappers. Only valid after the scope has been
+         * joined.
+         */
+        public Throwable exception() {
+            if (state() != State.FAILED) {
+                throw new IllegalStateException("Subtask is " + state());
+            }
+            try {
+                future.join();
+                return null;
+            } catch (CancellationException e) {
+                return e;
+            } catch (RuntimeException e) {
+                return AsyncCallExecutor.unwrap(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import com.spectra.intellij.ai.model.JiraUser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * The users assignable in a project (accountId, display name, email and avatar), indexed by display name.
+ * <p>
+ * A project's users are loaded once (all pages of the assignable-user search) and answered from memory afterwards,
+ * so pickers open without a request and a display name maps to its accountId without a search. Once the TTL has
+ * passed the users are still answered, and reloaded in the background.
+ * <p>
+ * With a storage directory set, every load is also written to disk. On a cold start the saved users are answered
+ * right away and revalidated when they are older than the TTL.
+ * <p>
+ * The projects' users are held in a {@link BoundedCache} whose loader reads the disk copy, then Jira; the cache
+ * coalesces concurrent loads and refreshes users older than the TTL. A project evicted for room is read from disk
+ * again.
+ */
+public final class UserDirectory {
+
+    static final long TTL_MS = 30 * 60 * 1000; // 30 minutes TTL
+    private static final double BUDGET_SHARE = 0.4;
+
+    private final Function<String, CompletableFuture<List<JiraUser>>> loader;
+    private final Gson gson;
+    private final Executor ioExecutor;
+
+    // Never expire: users older than the TTL are answered while they are reloaded
+    private final BoundedCache<String, ProjectUsers> projects;
+    private volatile File storageDir;
+    private volatile String instanceUrl = "";
+
+    UserDirectory(Function<String, CompletableFuture<List<JiraUser>>> loader, Gson gson, Executor ioExecutor,
+                  CacheRegistry caches) {
+        this.loader = loader;
+        this.gson = gson;
+        this.ioExecutor = ioExecutor;
+        this.projects = caches.create("Users", BUDGET_SHARE, 0, TTL_MS, ProjectUsers::weigh, this::load);
+    }
+
+    /**
+     * Enables the disk copy; null keeps the directory in memory only.
+     */
+    void setStorageDir(File storageDir) {
+        this.storageDir = storageDir;
+    }
+
+    /**
+     * Binds the directory to a Jira instance. Users of a previous instance are dropped.
+     */
+    synchronized void bind(String baseUrl) {
+        if (!baseUrl.equals(instanceUrl)) {
+            clear();
+            instanceUrl = baseUrl;
+        }
+    }
+
+    /**
+     * Users assignable in the project, loading them on first use.
+     */
+    public CompletableFuture<List<JiraUser>> getUsers(String projectKey) {
+        return snapshot(projectKey).thenApply(users -> users.users);
+    }
+
+    /**
+     * Returns the user with this display name if the project's users are in memory; null otherwise or when nobody
+     * has that name. Never makes a request.
+     */
+    public JiraUser findByDisplayName(String projectKey, String displayName) {
+        ProjectUsers users = projects.getIfPresent(projectKey);
+        return users != null && displayName != null ? users.byDisplayName.get(displayName) : null;
+    }
+
+    /**
+     * Looks up a display name, loading the project's users first if they are not in memory. Completes with null
+     * when nobody has that name.
+     */
+    public CompletableFuture<JiraUser> resolveByDisplayName(String projectKey, String displayName) {
+        return snapshot(projectKey).thenApply(users -> users.byDisplayName.get(displayName));
+    }
+
+    synchronized void clear() {
+        // Loads still running for the previous instance are not stored
+        projects.invalidateAll();
+    }
+
+    private CompletableFuture<ProjectUsers> snapshot(String projectKey) {
+        return projects.get(projectKey).thenApply(users -> {
+            if (users.isRestoredStale()) {
+                // The cache dates an entry from when it was read from disk, so it would not refresh these in time
+                projects.refresh(projectKey);
+            }
+            return users;
+        });
+    }
+
+    /**
+     * The cache's loader: the disk copy when the project is not in memory, then Jira. A project already in memory is
+     * being refreshed, so it goes to Jira directly.
+     */
+    private CompletableFuture<ProjectUsers> load(String projectKey) {
+        String instance = instanceUrl;
+        if (projects.peek(projectKey) != null) {
+            return fetch(instance, projectKey);
+        }
+        return CompletableFuture.supplyAsync(() -> readStored(instance, projectKey), ioExecutor)
+            .thenCompose(stored -> stored != null ? CompletableFuture.completedFuture(stored) : fetch(instance, projectKey));
+    }
+
+    private CompletableFuture<ProjectUsers> fetch(String instance, String projectKey) {
+        return AsyncCallExecutor.defer(() -> loader.apply(projectKey)).thenApply(list -> {
+            ProjectUsers users = new ProjectUsers(list, System.currentTimeMillis(), false);
+            if (instance.equals(instanceUrl) && !list.isEmpty()) {
+                ioExecutor.execute(() -> writeStored(instance, projectKey, users));
+            }
+            return users;
+        });
+    }
+
+    private ProjectUsers readStored(String instance, String projectKey) {
+        Path file = storageFile(instance, projectKey);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            StoredUsers stored = gson.fromJson(reader, StoredUsers.class);
+            if (stored == null || stored.users == null || !instance.equals(stored.baseUrl)) {
+                return null;
+            }
+            return new ProjectUsers(stored.users, stored.savedAt, true);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to read saved users of " + projectKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeStored(String instance, String projectKey, ProjectUsers users) {
+        Path file = storageFile(instance, projectKey);
+        if (file == null) {
+            return;
+        }
+        StoredUsers stored = new StoredUsers();
+        stored.baseUrl = instance;
+        stored.projectKey = projectKey;
+        stored.savedAt = users.loadedAt;
+        stored.users = users.users;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(stored, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to save users of " + projectKey + ": " + e.getMessage());
+        }
+    }
+
+    private Path storageFile(String instance, String projectKey) {
+        File dir = storageDir;
+        if (dir == null || instance.isEmpty()) {
+            return null;
+        }
+        String name = "users-" + projectKey.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + Integer.toHexString(instance.hashCode()) + ".json";
+        return dir.toPath().resolve(name);
+    }
+
+    private static final class ProjectUsers {
+        final List<JiraUser> users;
+        final Map<String, JiraUser> byDisplayName;
+        final long loadedAt;
+        // Read from the disk copy rather than from Jira
+        final boolean restored;
+
+        ProjectUsers(List<JiraUser> users, long loadedAt, boolean restored) {
+            this.users = Collections.unmodifiableList(new ArrayList<>(users));
+            Map<String, JiraUser> index = new HashMap<>();
+            for (JiraUser user : users) {
+                if (user.getDisplayName() != null) {
+                    // Display names are not unique; the first match wins, as with the user search
+                    index.putIfAbsent(user.getDisplayName(), user);
+                }
+            }
+            this.byDisplayName = Collections.unmodifiableMap(index);
+            this.loadedAt = loadedAt;
+            this.restored = restored;
+        }
+
+        boolean isRestoredStale() {
+            return restored && System.currentTimeMillis() - loadedAt > TTL_MS;
+        }
+
+        long weigh() {
+            long weight = 40;
+            for (JiraUser user : users) {
+                // The user and its slot in the list and in the display name index
+                weight += 96 + BoundedCache.weigh(user.getAccountId()) + BoundedCache.weigh(user.getDisplayName())
+                    + BoundedCache.weigh(user.getEmailAddress()) + BoundedCache.weigh(user.getAvatarUrl());
+            }
+            return weight;
+        }
+    }
+
+    // Disk format
+    private static final class StoredUsers {
+        String baseUrl;
+        String projectKey;
+        long savedAt;
+        List<JiraUser> users;
+    }
+}
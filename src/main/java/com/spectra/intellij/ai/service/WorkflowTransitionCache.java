@@ -0,0 +1,155 @@
+package com.spectra.intellij.ai.service;
+
+import com.spectra.intellij.ai.model.JiraIssue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The transitions available from a status, shared by all issues on the same workflow step.
+ * <p>
+ * Jira derives an issue's transitions from its workflow, which is chosen by project and issue type, and from its
+ * current status. Entries are therefore keyed by (project, issue type id, status), and one {@code /transitions} read
+ * answers for every issue on that step. Each issue seen in a list or detail read is also indexed to its step, so a
+ * status change or the status dropdown only needs the issue key.
+ * <p>
+ * Workflows are edited rarely; an entry that went stale is replaced when Jira rejects one of its transition ids
+ * (see {@link #invalidate(Step)}), and every entry expires after the TTL. Both the transitions and the steps of the
+ * issues are held in a {@link BoundedCache}, bounded by their share of the memory budget.
+ */
+final class WorkflowTransitionCache {
+
+    private static final long TTL_MS = 30 * 60 * 1000; // 30 minutes TTL
+    private static final double TRANSITIONS_BUDGET_SHARE = 0.05;
+    private static final double STEPS_BUDGET_SHARE = 0.1;
+
+    private final BoundedCache<Step, List<Transition>> transitions;
+    private final BoundedCache<String, Step> stepsByIssue;
+
+    WorkflowTransitionCache(CacheRegistry caches) {
+        this.transitions = caches.create("Workflow transitions", TRANSITIONS_BUDGET_SHARE, TTL_MS, 0,
+            WorkflowTransitionCache::weigh, null);
+        // Steps are kept up to date by every read and status change, so they do not expire
+        this.stepsByIssue = caches.create("Issue workflow steps", STEPS_BUDGET_SHARE, 0, 0,
+            step -> BoundedCache.weigh(step.projectKey) + BoundedCache.weigh(step.issueTypeId) + BoundedCache.weigh(step.status), null);
+    }
+
+    /**
+     * Records the workflow step of an issue read with its status and issue type. Issues missing either are ignored.
+     */
+    void track(JiraIssue issue) {
+        Step step = Step.of(issue);
+        if (step != null) {
+            stepsByIssue.put(issue.getKey(), step);
+        }
+    }
+
+    /**
+     * Records that the issue moved to {@code newStatus} on the same workflow.
+     */
+    void moved(String issueKey, String newStatus) {
+        Step step = stepsByIssue.peek(issueKey);
+        if (step != null) {
+            stepsByIssue.put(issueKey, new Step(step.projectKey, step.issueTypeId, newStatus));
+        }
+    }
+
+    /**
+     * Returns the last known workflow step of the issue, or null when the issue has not been read.
+     */
+    Step stepOf(String issueKey) {
+        return stepsByIssue.getIfPresent(issueKey);
+    }
+
+    /**
+     * Returns the transitions from {@code step}, or null when they are unknown or expired.
+     */
+    List<Transition> get(Step step) {
+        if (step == null) {
+            return null;
+        }
+        return transitions.getIfPresent(step);
+    }
+
+    void put(Step step, List<Transition> stepTransitions) {
+        if (step == null) {
+            return;
+        }
+        transitions.put(step, Collections.unmodifiableList(new ArrayList<>(stepTransitions)));
+    }
+
+    /**
+     * Drops the transitions of {@code step}, e.g. after Jira rejected one of their ids.
+     */
+    void invalidate(Step step) {
+        if (step != null) {
+            transitions.invalidate(step);
+        }
+    }
+
+    void clear() {
+        transitions.invalidateAll();
+        stepsByIssue.invalidateAll();
+    }
+
+    private static long weigh(List<Transition> stepTransitions) {
+        long weight = 40;
+        for (Transition transition : stepTransitions) {
+            weight += 32 + BoundedCache.weigh(transition.id) + BoundedCache.weigh(transition.targetStatus);
+        }
+        return weight;
+    }
+
+    /**
+     * A status of a workflow: project, issue type id and status name.
+     */
+    static final class Step {
+        final String projectKey;
+        final String issueTypeId;
+        final String status;
+
+        Step(String projectKey, String issueTypeId, String status) {
+            this.projectKey = projectKey;
+            this.issueTypeId = issueTypeId;
+            this.status = status;
+        }
+
+        static Step of(JiraIssue issue) {
+            String key = issue.getKey();
+            int dash = key != null ? key.lastIndexOf('-') : -1;
+            if (dash <= 0 || issue.getIssueTypeId() == null || issue.getStatus() == null) {
+                return null;
+            }
+            // The project key is the prefix of the issue key
+            return new Step(key.substring(0, dash), issue.getIssueTypeId(), issue.getStatus());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Step)) return false;
+            Step step = (Step) o;
+            return projectKey.equals(step.projectKey) && issueTypeId.equals(step.issueTypeId) && status.equals(step.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectKey, issueTypeId, status);
+        }
+    }
+
+    /**
+     * One transition: its id and the name of the status it leads to.
+     */
+    static final class Transition {
+        final String id;
+        final String targetStatus;
+
+        Transition(String id, String targetStatus) {
+            this.id = id;
+            this.targetStatus = targetStatus;
+        }
+    }
+}
@@ -28,6 +28,23 @@ public final class JiraSettings implements PersistentStateComponent<JiraSettings
     public String codexCommand = DEFAULT_CODEX_COMMAND;
     public String geminiCommand = DEFAULT_GEMINI_COMMAND;
 
+    // AI server timeouts (seconds)
+    public static final int DEFAULT_AI_CONNECT_TIMEOUT_SECONDS = 2;
+    public static final int DEFAULT_AI_RESPONSE_TIMEOUT_SECONDS = 60;
+
+    public int aiConnectTimeoutSeconds = DEFAULT_AI_CONNECT_TIMEOUT_SECONDS;
+    public int aiResponseTimeoutSeconds = DEFAULT_AI_RESPONSE_TIMEOUT_SECONDS;
+
+    // Number of list pages (e.g. sprint issues) fetched concurrently
+    public static final int DEFAULT_PAGE_FETCH_PARALLELISM = 4;
+
+    public int pageFetchParallelism = DEFAULT_PAGE_FETCH_PARALLELISM;
+
+    // Memory shared by the in-memory caches (Epics, users, workflow transitions, issue types, icons), in MB
+    public static final int DEFAULT_CACHE_MEMORY_BUDGET_MB = 32;
+
+    public int cacheMemoryBudgetMb = DEFAULT_CACHE_MEMORY_BUDGET_MB;
+
     public static JiraSettings getInstance() {
         return ApplicationManager.getApplication().getService(JiraSettings.class);
     }
@@ -113,4 +130,36 @@ public final class JiraSettings implements PersistentStateComponent<JiraSettings
     public void setGeminiCommand(String geminiCommand) {
         this.geminiCommand = geminiCommand;
     }
-}
\ No newline at end of file
+
+    public int getAiConnectTimeoutSeconds() {
+        return aiConnectTimeoutSeconds;
+    }
+
+    public void setAiConnectTimeoutSeconds(int aiConnectTimeoutSeconds) {
+        this.aiConnectTimeoutSeconds = aiConnectTimeoutSeconds;
+    }
+
+    public int getAiResponseTimeoutSeconds() {
+        return aiResponseTimeoutSeconds;
+    }
+
+    public void setAiResponseTimeoutSeconds(int aiResponseTimeoutSeconds) {
+        this.aiResponseTimeoutSeconds = aiResponseTimeoutSeconds;
+    }
+
+    public int getPageFetchParallelism() {
+        return pageFetchParallelism;
+    }
+
+    public void setPageFetchParallelism(int pageFetchParallelism) {
+        this.pageFetchParallelism = pageFetchParallelism;
+    }
+
+    public int getCacheMemoryBudgetMb() {
+        return cacheMemoryBudgetMb;
+    }
+
+    public void setCacheMemoryBudgetMb(int cacheMemoryBudgetMb) {
+        this.cacheMemoryBudgetMb = cacheMemoryBudgetMb;
+    }
+}
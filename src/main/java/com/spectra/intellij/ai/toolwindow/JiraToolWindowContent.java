@@ -1,15 +1,22 @@
 package com.spectra.intellij.ai.toolwindow;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.util.ui.JBUI;
 import com.spectra.intellij.ai.dialog.CreateIssueDialog;
 import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.model.JiraIssueDetail;
 import com.spectra.intellij.ai.model.JiraSprint;
 import com.spectra.intellij.ai.service.AccessLogService;
+import com.spectra.intellij.ai.service.JiraClientService;
 import com.spectra.intellij.ai.service.JiraService;
+import com.spectra.intellij.ai.service.LocalIssueStore;
+import com.spectra.intellij.ai.service.RequestTracker;
+import com.spectra.intellij.ai.service.TaskScope;
 import com.spectra.intellij.ai.settings.JiraSettings;
 import com.spectra.intellij.ai.toolwindow.components.*;
 import com.spectra.intellij.ai.toolwindow.handlers.*;
@@ -29,12 +36,22 @@ import java.io.*;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class JiraToolWindowContent implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(JiraToolWindowContent.class);
+    // Sprint selected last in this project, selected again when the tool window opens
+    private static final String LAST_SPRINT_PROPERTY = "spectra.jira.lastSprintId";
+    private static final java.time.format.DateTimeFormatter READ_TIME_FORMAT =
+        java.time.format.DateTimeFormatter.ofPattern("MM-dd HH:mm");
 
-public class JiraToolWindowContent {
-    
     private final Project project;
     private JPanel contentPanel;
     private JLabel statusLabel;
+    private JLabel pendingWritesLabel;
     
     // Components
     private SprintListPanel sprintListPanel;
@@ -62,6 +79,28 @@ public class JiraToolWindowContent {
     private String currentSprintId;
     private JiraIssue currentEditingIssue;
     private JsonObject currentUser;
+    private boolean firstSprintLoadLogged;
+    private boolean restoreSprintSelection = true;
+    // Set while the filter options are rebuilt, which must not re-filter the table on every restored selection
+    private boolean updatingFilterOptions;
+    // Issues of the loaded sprint, kept in step with inline edits, and when they were read from Jira
+    private java.util.List<JiraIssue> sprintIssues = java.util.Collections.emptyList();
+    private long sprintIssuesReadAt;
+
+    // In-flight reads, cancelled when the tool window content is disposed; each slot keeps only the latest request
+    private final RequestTracker requests = new RequestTracker();
+    private final RequestTracker.Slot sprintsRequest = requests.newSlot();
+    private final RequestTracker.Slot sprintIssuesRequest = requests.newSlot();
+    private final RequestTracker.Slot issueRequest = requests.newSlot();
+
+    // Refreshes the pending-edit count whenever the write queue's state changes, and reconciles an issue once all of
+    // its edits are written (or given up)
+    private final Consumer<String> writeQueueListener = issueKey -> SwingUtilities.invokeLater(() -> {
+        updatePendingWrites();
+        if (!getConfiguredJiraService().getWriteQueue().hasPendingWrites(issueKey)) {
+            reconcileIssue(issueKey);
+        }
+    });
     
     public JiraToolWindowContent(Project project) {
         this.project = project;
@@ -70,6 +109,7 @@ public class JiraToolWindowContent {
         this.geminiMcpConnectionHandler = new GeminiMcpConnectionHandler(project);
         initializeComponents();
         setupEventHandlers();
+        getConfiguredJiraService().getWriteQueue().addListener(writeQueueListener);
         refreshStatus();
         loadSprints();
     }
@@ -94,7 +134,13 @@ public class JiraToolWindowContent {
         // Bottom status panel
         statusLabel = new JLabel("Ready");
         statusLabel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
-        contentPanel.add(statusLabel, BorderLayout.SOUTH);
+        pendingWritesLabel = new JLabel();
+        pendingWritesLabel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        pendingWritesLabel.setVisible(false);
+        JPanel statusPanel = new JPanel(new BorderLayout());
+        statusPanel.add(statusLabel, BorderLayout.CENTER);
+        statusPanel.add(pendingWritesLabel, BorderLayout.EAST);
+        contentPanel.add(statusPanel, BorderLayout.SOUTH);
     }
     
     private void setupMainLayout() {
@@ -113,6 +159,9 @@ public class JiraToolWindowContent {
         
         // Issue Statistics Tab
         tabbedPane.addTab("이슈 통계", issueStatisticsPanel);
+
+        // Diagnostics Tab
+        tabbedPane.addTab("진단", new DiagnosticsPanel());
         
         // Center panel with tabs
         JPanel issuePanel = new JPanel(new BorderLayout());
@@ -204,6 +253,7 @@ public class JiraToolWindowContent {
         // Summary handler
         summaryHandler = new SummaryInlineEditHandler(project, issueDetailPanel.getIssueSummaryField(), jiraService);
         summaryHandler.setOnStatusUpdate(this::updateStatus);
+        summaryHandler.setOnIssueChanged(this::onIssueEdited);
         
         // Description handler
         descriptionHandler = new DescriptionInlineEditHandler(
@@ -216,14 +266,17 @@ public class JiraToolWindowContent {
             jiraService
         );
         descriptionHandler.setOnStatusUpdate(this::updateStatus);
+        descriptionHandler.setOnIssueChanged(this::onIssueEdited);
         
         // Story points handler
         storyPointsHandler = new StoryPointsInlineEditHandler(project, issueDetailPanel.getStoryPointsField(), jiraService);
         storyPointsHandler.setOnStatusUpdate(this::updateStatus);
+        storyPointsHandler.setOnIssueChanged(this::onIssueEdited);
         
         // Status handler
         statusHandler = new StatusInlineEditHandler(project, issueDetailPanel.getIssueStatusComboBox(), jiraService);
         statusHandler.setOnStatusUpdate(this::updateStatus);
+        statusHandler.setOnIssueChanged(this::onIssueEdited);
     }
     
     private void setupSelectionHandlers() {
@@ -245,7 +298,11 @@ public class JiraToolWindowContent {
         sprintListPanel.setOnRefreshClick(v -> loadSprints());
         
         // Filter events
-        filterPanel.setOnFilterChanged(v -> applyFilters());
+        filterPanel.setOnFilterChanged(v -> {
+            if (!updatingFilterOptions) {
+                applyFilters();
+            }
+        });
         filterPanel.setOnRefresh(v -> {
             refreshStatus();
             // Refresh current sprint issues instead of reloading all sprints
@@ -268,6 +325,10 @@ public class JiraToolWindowContent {
     
     private void onSprintSelected(JiraSprint sprint) {
         if (sprint != null) {
+            // The board's Epics back Epic colors, summaries and the Epic picker without further requests
+            getConfiguredJiraService().getBoardEpics().select(sprint.getBoardId());
+            epicHandler.setCurrentBoardId(sprint.getBoardId());
+            PropertiesComponent.getInstance(project).setValue(LAST_SPRINT_PROPERTY, sprint.getId());
             loadSprintIssues(sprint.getId());
         }
     }
@@ -276,6 +337,7 @@ public class JiraToolWindowContent {
         if (issueKey != null) {
             loadIssueForEditing(issueKey);
         } else {
+            issueRequest.cancel();
             clearIssueDetail();
         }
     }
@@ -381,10 +443,135 @@ public class JiraToolWindowContent {
             });
     }
     
+    /**
+     * Shows an inline edit, or its rollback, in the issue's table row and in the statistics without reloading the
+     * sprint.
+     */
+    private void onIssueEdited(JiraIssue edited) {
+        JiraIssue listed = findSprintIssue(edited.getKey());
+        if (listed == null) {
+            return;
+        }
+        if (listed != edited) {
+            copyEditableFields(edited, listed);
+        }
+        issueTableManager.updateIssue(listed);
+        issueStatisticsPanel.updateStatistics(sprintIssues);
+    }
+
+    /**
+     * Reads an issue back once its edits are written, so that the row and the form show what Jira stored: a value
+     * Jira normalised, a status no transition led to, or the old values after edits that were given up.
+     */
+    private void reconcileIssue(String issueKey) {
+        if (findSprintIssue(issueKey) == null) {
+            return;
+        }
+        JiraService jiraService = getConfiguredJiraService();
+        jiraService.getIssueAsync(issueKey)
+            .thenAccept(stored -> SwingUtilities.invokeLater(() -> {
+                JiraIssue listed = findSprintIssue(issueKey);
+                if (listed == null || jiraService.getWriteQueue().hasPendingWrites(issueKey)) {
+                    // Gone from the list, or a newer edit is on its way and will be reconciled itself
+                    return;
+                }
+                if (copyEditableFields(stored, listed)) {
+                    issueTableManager.updateIssue(listed);
+                    issueStatisticsPanel.updateStatistics(sprintIssues);
+                }
+                JiraIssue shown = currentEditingIssue;
+                if (shown != null && shown != listed && issueKey.equals(shown.getKey())) {
+                    reconcileForm(stored, shown);
+                }
+            }))
+            .exceptionally(throwable -> {
+                // The row keeps the edited values until the next sprint load
+                System.err.println("Failed to reconcile " + issueKey + ": " + throwable.getMessage());
+                return null;
+            });
+    }
+
+    /**
+     * Updates the fields of the open form that differ from Jira, leaving a field alone while it is being edited.
+     */
+    private void reconcileForm(JiraIssue stored, JiraIssue shown) {
+        if (!summaryHandler.isEditing() && !java.util.Objects.equals(stored.getSummary(), shown.getSummary())) {
+            shown.setSummary(stored.getSummary());
+            summaryHandler.setCurrentIssue(shown);
+        }
+        if (!descriptionHandler.isEditing() && !java.util.Objects.equals(stored.getDescription(), shown.getDescription())) {
+            shown.setDescription(stored.getDescription());
+            descriptionHandler.setCurrentIssue(shown);
+        }
+        if (!storyPointsHandler.isEditing() && !java.util.Objects.equals(stored.getStoryPoints(), shown.getStoryPoints())) {
+            shown.setStoryPoints(stored.getStoryPoints());
+            storyPointsHandler.setCurrentIssue(shown);
+        }
+        if (!java.util.Objects.equals(stored.getStatus(), shown.getStatus())) {
+            shown.setStatus(stored.getStatus());
+            statusHandler.setCurrentIssue(shown);
+        }
+    }
+
+    private JiraIssue findSprintIssue(String issueKey) {
+        for (JiraIssue issue : sprintIssues) {
+            if (issueKey.equals(issue.getKey())) {
+                return issue;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the inline-editable fields; returns whether any of them changed.
+     */
+    private static boolean copyEditableFields(JiraIssue from, JiraIssue to) {
+        boolean changed = !java.util.Objects.equals(from.getSummary(), to.getSummary())
+            || !java.util.Objects.equals(from.getDescription(), to.getDescription())
+            || !java.util.Objects.equals(from.getStatus(), to.getStatus())
+            || !java.util.Objects.equals(from.getStoryPoints(), to.getStoryPoints());
+        to.setSummary(from.getSummary());
+        to.setDescription(from.getDescription());
+        to.setStatus(from.getStatus());
+        to.setStoryPoints(from.getStoryPoints());
+        return changed;
+    }
+
+    /**
+     * Brings the current sprint up to date with a delta read (only issues changed since the last load) and patches
+     * the rows in place, so the selected issue stays selected.
+     */
     private void refreshCurrentSprintIssues() {
-        if (currentSprintId != null) {
-            loadSprintIssues(currentSprintId);
+        if (currentSprintId == null) {
+            return;
         }
+        String sprintId = currentSprintId;
+        String selectedIssueKey = currentEditingIssue != null ? currentEditingIssue.getKey() : null;
+        long readAt = System.currentTimeMillis();
+        updateStatus("Refreshing issues of sprint: " + sprintId + "...");
+
+        CompletableFuture<java.util.List<JiraIssue>> request =
+            sprintIssuesRequest.replace(getConfiguredJiraService().refreshSprintIssuesAsync(sprintId));
+        request
+            .thenAccept(issues -> SwingUtilities.invokeLater(() -> {
+                if (sprintIssuesRequest.isCurrent(request)) {
+                    patchSprintIssues(issues, readAt);
+                }
+            }))
+            .exceptionally(throwable -> {
+                SwingUtilities.invokeLater(() -> {
+                    if (!sprintIssuesRequest.isCurrent(request)) {
+                        return;
+                    }
+                    if (sprintIssues.isEmpty()) {
+                        showSprintIssuesError(throwable, selectedIssueKey);
+                    } else {
+                        // Offline: the issues read last stay browsable
+                        updateStatus(offlineStatus("issues", sprintIssuesReadAt, throwable));
+                    }
+                });
+                return null;
+            });
     }
     
     private void refreshStatus() {
@@ -406,6 +593,12 @@ public class JiraToolWindowContent {
     private void updateStatus(String status) {
         statusLabel.setText(status);
     }
+
+    private void updatePendingWrites() {
+        int pending = getConfiguredJiraService().getWriteQueue().getPendingIssueCount();
+        pendingWritesLabel.setText("저장 대기 중: " + pending + "개 이슈");
+        pendingWritesLabel.setVisible(pending > 0);
+    }
     
     private boolean isConfigured() {
         JiraSettings settings = JiraSettings.getInstance();
@@ -424,13 +617,7 @@ public class JiraToolWindowContent {
     }
     
     private JiraService getConfiguredJiraService() {
-        JiraSettings settings = JiraSettings.getInstance();
-        JiraService jiraService = new JiraService();
-        jiraService.configure(settings.getJiraUrl(), settings.getUsername(), settings.getApiToken());
-        if (settings.getDefaultProjectKey() != null && !settings.getDefaultProjectKey().trim().isEmpty()) {
-            jiraService.setProjectKey(settings.getDefaultProjectKey());
-        }
-        return jiraService;
+        return JiraClientService.getInstance().getJiraService();
     }
     
     private void loadSprints() {
@@ -441,83 +628,203 @@ public class JiraToolWindowContent {
         
         updateStatus("Loading sprints from project boards...");
         
+        long loadStart = System.nanoTime();
         JiraService jiraService = getConfiguredJiraService();
-        jiraService.getSprintsAsync()
+        CompletableFuture<java.util.List<JiraSprint>> request = sprintsRequest.replace(jiraService.getSprintsAsync());
+        // The sprints stored at the last load are shown until Jira answers, and stay when it cannot be reached
+        CompletableFuture<LocalIssueStore.Stored<java.util.List<JiraSprint>>> stored =
+            jiraService.getStoredSprintsAsync().exceptionally(throwable -> null);
+        stored.thenAccept(storedSprints -> SwingUtilities.invokeLater(() -> {
+            if (storedSprints != null && sprintsRequest.isCurrent(request) && !request.isDone()) {
+                showSprints(storedSprints.getValue(), loadStart);
+                updateStatus("Loaded " + storedSprints.getValue().size() + " stored sprints, updating from Jira...");
+            }
+        }));
+        request
             .thenAccept(sprints -> {
                 SwingUtilities.invokeLater(() -> {
-                    sprintListPanel.updateSprints(sprints);
+                    if (!sprintsRequest.isCurrent(request)) {
+                        return;
+                    }
+                    showSprints(sprints, loadStart);
                     updateStatus("Loaded " + sprints.size() + " sprints");
                 });
             })
             .exceptionally(throwable -> {
-                SwingUtilities.invokeLater(() -> {
-                    sprintListPanel.clearSprints();
-                    updateStatus("Error loading sprints: " + throwable.getMessage());
-                });
+                stored.thenAccept(storedSprints -> SwingUtilities.invokeLater(() -> {
+                    if (!sprintsRequest.isCurrent(request)) {
+                        return;
+                    }
+                    if (storedSprints == null) {
+                        sprintListPanel.clearSprints();
+                        updateStatus("Error loading sprints: " + throwable.getMessage());
+                        return;
+                    }
+                    showSprints(storedSprints.getValue(), loadStart);
+                    updateStatus(offlineStatus("sprints", storedSprints.getReadAt(), throwable));
+                }));
                 return null;
             });
     }
-    
-    private void loadSprintIssues(String sprintId) {
-        loadSprintIssues(sprintId, null);
+
+    /**
+     * Shows the sprint list, selecting the sprint that was open last time on the first list that has it.
+     */
+    private void showSprints(java.util.List<JiraSprint> sprints, long loadStart) {
+        sprintListPanel.updateSprints(sprints);
+        if (!firstSprintLoadLogged) {
+            firstSprintLoadLogged = true;
+            long paintMs = java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStart);
+            long savedMs = JiraClientService.getInstance().getWarmUpSavingMillis(JiraSettings.getInstance().getJiraUrl());
+            LOG.info("First sprint list painted in " + paintMs + " ms" + (savedMs < 0
+                ? " on a cold connection"
+                : ", pre-warmed connection saved about " + savedMs + " ms of DNS/TCP/TLS setup"));
+        }
+        if (restoreSprintSelection && sprintListPanel.getSelectedSprint() == null) {
+            String lastSprintId = PropertiesComponent.getInstance(project).getValue(LAST_SPRINT_PROPERTY);
+            if (lastSprintId == null || sprintListPanel.selectSprint(lastSprintId)) {
+                restoreSprintSelection = false;
+            }
+        } else {
+            restoreSprintSelection = false;
+        }
+    }
+
+    private static String offlineStatus(String what, long readAt, Throwable throwable) {
+        String readTime = java.time.Instant.ofEpochMilli(readAt).atZone(java.time.ZoneId.systemDefault()).format(READ_TIME_FORMAT);
+        return "Offline - showing " + what + " as of " + readTime + " (" + throwable.getMessage() + ")";
     }
     
-    private void loadSprintIssues(String sprintId, String preserveSelectedIssueKey) {
+    /**
+     * Shows the sprint's issues as read last time (in this session or before a restart) right away and brings them up
+     * to date with a delta read. A sprint that was never read is read in full, showing pages as they arrive.
+     */
+    private void loadSprintIssues(String sprintId) {
         this.currentSprintId = sprintId; // Track current sprint
         updateStatus("Loading issues from sprint: " + sprintId + "...");
-        
-        JiraService jiraService = getConfiguredJiraService();
-        jiraService.getSprintIssuesAsync(sprintId)
-            .thenAccept(issues -> {
-                SwingUtilities.invokeLater(() -> {
-                    issueTableManager.updateIssues(issues);
-                    issueStatisticsPanel.updateStatistics(issues);
 
-                    // Only clear issue detail if we're not preserving selection
-                    if (preserveSelectedIssueKey == null) {
-                        clearIssueDetail();
-                    }
-
-                    // Save current filter selections before clearing
-                    String selectedIssueType = filterPanel.getSelectedIssueType();
-                    String selectedAssignee = filterPanel.getSelectedAssignee();
-                    String selectedStatus = filterPanel.getSelectedStatus();
-
-                    // Clear and populate filter options
-                    filterPanel.clearFilterOptions();
-                    for (JiraIssue issue : issues) {
-                        String issueType = issue.getIssueType() != null ? issue.getIssueType() : "";
-                        String assignee = issue.getAssignee() != null ? issue.getAssignee() : "";
-                        String status = issue.getStatus() != null ? issue.getStatus() : "";
-                        filterPanel.addToFilterOptions(issueType, assignee, status);
-                    }
-
-                    // Restore previous filter selections
-                    filterPanel.restoreFilterSelections(selectedIssueType, selectedAssignee, selectedStatus);
-
-                    // Apply the restored filters to the table
-                    applyFilters();
-
-                    // Restore selection if requested
-                    if (preserveSelectedIssueKey != null) {
-                        issueTableManager.selectIssueByKey(preserveSelectedIssueKey);
-                    }
+        // Switching sprints cancels the previous sprint's request
+        CompletableFuture<LocalIssueStore.Stored<java.util.List<JiraIssue>>> stored =
+            sprintIssuesRequest.replace(getConfiguredJiraService().getStoredSprintIssuesAsync(sprintId));
+        stored.whenComplete((storedIssues, failure) -> SwingUtilities.invokeLater(() -> {
+            if (!sprintIssuesRequest.isCurrent(stored)) {
+                return;
+            }
+            if (storedIssues == null) {
+                loadAllSprintIssues(sprintId);
+                return;
+            }
+            showSprintIssues(storedIssues.getValue(), storedIssues.getReadAt());
+            refreshCurrentSprintIssues();
+        }));
+    }
 
-                    updateStatus("Loaded " + issues.size() + " issues from sprint");
-                });
-            })
+    private void loadAllSprintIssues(String sprintId) {
+        JiraService jiraService = getConfiguredJiraService();
+        long readAt = System.currentTimeMillis();
+        AtomicReference<CompletableFuture<java.util.List<JiraIssue>>> current = new AtomicReference<>();
+        int[] shownIssues = {0};
+        Consumer<java.util.List<JiraIssue>> onPage = page ->
+            SwingUtilities.invokeLater(() -> {
+                if (!sprintIssuesRequest.isCurrent(current.get())) {
+                    return;
+                }
+                if (shownIssues[0] == 0) {
+                    clearIssueDetail();
+                    issueTableManager.updateIssues(page);
+                } else {
+                    issueTableManager.appendIssues(page);
+                }
+                shownIssues[0] += page.size();
+                applyFilters();
+                updateStatus("Loading issues from sprint: " + sprintId + "... (" + shownIssues[0] + ")");
+            });
+        CompletableFuture<java.util.List<JiraIssue>> request = sprintIssuesRequest.replace(jiraService.getSprintIssuesAsync(sprintId, onPage));
+        current.set(request);
+        request
+            .thenAccept(issues -> SwingUtilities.invokeLater(() -> {
+                if (sprintIssuesRequest.isCurrent(request)) {
+                    showSprintIssues(issues, readAt);
+                }
+            }))
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
-                    issueTableManager.clearIssues();
-                    issueStatisticsPanel.clearStatistics();
-                    if (preserveSelectedIssueKey == null) {
-                        clearIssueDetail();
+                    if (sprintIssuesRequest.isCurrent(request)) {
+                        showSprintIssuesError(throwable, null);
                     }
-                    updateStatus("Error loading sprint issues: " + throwable.getMessage());
                 });
                 return null;
             });
     }
+
+    /**
+     * Shows the complete issue list of the sprint: table, statistics and filter options.
+     */
+    private void showSprintIssues(java.util.List<JiraIssue> issues, long readAt) {
+        sprintIssues = issues;
+        sprintIssuesReadAt = readAt;
+        issueTableManager.updateIssues(issues);
+        issueStatisticsPanel.updateStatistics(issues);
+        clearIssueDetail();
+        updateFilterOptions(issues);
+
+        // Apply the restored filters to the table
+        applyFilters();
+
+        updateStatus("Loaded " + issues.size() + " issues from sprint");
+    }
+
+    /**
+     * Applies a newer issue list of the shown sprint to the rows in place; the selection, the filters and the open
+     * form stay as they are.
+     */
+    private void patchSprintIssues(java.util.List<JiraIssue> issues, long readAt) {
+        sprintIssues = issues;
+        sprintIssuesReadAt = readAt;
+        updateFilterOptions(issues);
+        issueTableManager.patchIssues(issues, filterPanel.getSelectedIssueType(), filterPanel.getSelectedAssignee(),
+            filterPanel.getSelectedStatus());
+        issueStatisticsPanel.updateStatistics(issues);
+        updateStatus("Loaded " + issues.size() + " issues from sprint");
+    }
+
+    /**
+     * Rebuilds the filter options from the issues, keeping the selected values that are still offered. The table is
+     * not filtered again.
+     */
+    private void updateFilterOptions(java.util.List<JiraIssue> issues) {
+        // Save current filter selections before clearing
+        String selectedIssueType = filterPanel.getSelectedIssueType();
+        String selectedAssignee = filterPanel.getSelectedAssignee();
+        String selectedStatus = filterPanel.getSelectedStatus();
+
+        updatingFilterOptions = true;
+        try {
+            // Clear and populate filter options
+            filterPanel.clearFilterOptions();
+            for (JiraIssue issue : issues) {
+                String issueType = issue.getIssueType() != null ? issue.getIssueType() : "";
+                String assignee = issue.getAssignee() != null ? issue.getAssignee() : "";
+                String status = issue.getStatus() != null ? issue.getStatus() : "";
+                filterPanel.addToFilterOptions(issueType, assignee, status);
+            }
+
+            // Restore previous filter selections
+            filterPanel.restoreFilterSelections(selectedIssueType, selectedAssignee, selectedStatus);
+        } finally {
+            updatingFilterOptions = false;
+        }
+    }
+
+    private void showSprintIssuesError(Throwable throwable, String preserveSelectedIssueKey) {
+        sprintIssues = java.util.Collections.emptyList();
+        issueTableManager.clearIssues();
+        issueStatisticsPanel.clearStatistics();
+        if (preserveSelectedIssueKey == null) {
+            clearIssueDetail();
+        }
+        updateStatus("Error loading sprint issues: " + throwable.getMessage());
+    }
     
     private void loadIssueForEditing(String issueKey) {
         if (!isConfigured()) {
@@ -528,68 +835,98 @@ public class JiraToolWindowContent {
         updateStatus("Loading issue details: " + issueKey + "...");
         
         JiraService jiraService = getConfiguredJiraService();
-        
-        // First load current user info if not already loaded
-        if (currentUser == null) {
-            jiraService.getCurrentUserAsync()
-                .thenAccept(user -> {
-                    SwingUtilities.invokeLater(() -> {
-                        currentUser = user;
-                        assigneeHandler.setCurrentUser(currentUser);
-                        loadIssueForEditingAfterUserLoaded(issueKey, jiraService);
-                    });
-                })
-                .exceptionally(throwable -> {
-                    SwingUtilities.invokeLater(() -> {
-                        System.err.println("Failed to load current user: " + throwable.getMessage());
-                        loadIssueForEditingAfterUserLoaded(issueKey, jiraService);
-                    });
-                    return null;
-                });
-        } else {
-            loadIssueForEditingAfterUserLoaded(issueKey, jiraService);
-        }
+
+        // Current user (first time only) and the issue detail are independent - load them concurrently. The detail
+        // (issue, available statuses and known parent Epic) is a single request.
+        TaskScope scope = new TaskScope(JiraClientService.getInstance().getTaskExecutor());
+        TaskScope.Subtask<JsonObject> userTask = currentUser == null ? scope.fork(jiraService::getCurrentUserAsync) : null;
+        TaskScope.Subtask<JiraIssueDetail> detailTask = scope.fork(() -> jiraService.getIssueDetailAsync(issueKey));
+
+        // A newer selection cancels this scope, and with it the calls of both subtasks
+        CompletableFuture<Void> joined = issueRequest.replace(scope.join());
+        joined.thenRun(() -> SwingUtilities.invokeLater(() -> {
+            if (!issueRequest.isCurrent(joined)) {
+                // Superseded while the results were on their way to the EDT
+                return;
+            }
+            if (userTask != null) {
+                if (userTask.state() == TaskScope.State.SUCCESS) {
+                    currentUser = userTask.get();
+                    assigneeHandler.setCurrentUser(currentUser);
+                } else {
+                    System.err.println("Failed to load current user: " + userTask.exception().getMessage());
+                }
+            }
+
+            if (detailTask.state() != TaskScope.State.SUCCESS) {
+                JiraIssue listed = findSprintIssue(issueKey);
+                if (listed == null) {
+                    updateStatus("Error loading issue: " + detailTask.exception().getMessage());
+                    clearIssueDetail();
+                    return;
+                }
+                // Offline: the list read has every field of the form; edits are queued until Jira is reachable
+                showIssueForm(listed);
+                statusHandler.addFallbackStatusOptions();
+                updateStatus(offlineStatus(issueKey, sprintIssuesReadAt, detailTask.exception()));
+                return;
+            }
+
+            JiraIssueDetail detail = detailTask.get();
+            JiraIssue issue = detail.getIssue();
+            showIssueForm(issue);
+
+            // Available statuses
+            if (!detail.getAvailableStatuses().isEmpty()) {
+                statusHandler.updateStatusOptions(detail.getAvailableStatuses());
+                updateStatus("Issue details loaded: " + issueKey);
+            } else {
+                statusHandler.addFallbackStatusOptions();
+                updateStatus("Issue details loaded (status list unavailable): " + issueKey);
+            }
+
+            if (detail.isParentEpicPending()) {
+                loadParentEpic(issue, joined);
+            }
+        }));
     }
-    
-    private void loadIssueForEditingAfterUserLoaded(String issueKey, JiraService jiraService) {
-        jiraService.getIssueAsync(issueKey)
-            .thenAccept(issue -> {
-                SwingUtilities.invokeLater(() -> {
-                    currentEditingIssue = issue;
-                    
-                    // Update all handlers with the current issue
-                    summaryHandler.setCurrentIssue(issue);
-                    descriptionHandler.setCurrentIssue(issue);
-                    storyPointsHandler.setCurrentIssue(issue);
-                    statusHandler.setCurrentIssue(issue);
-                    assigneeHandler.setCurrentIssue(issue);
-                    epicHandler.setCurrentIssue(issue);
-                    
-                    // Populate the form
-                    issueDetailPanel.populateIssueForm(issue);
-                    
-                    // Load available statuses
-                    jiraService.getIssueStatusesAsync(issueKey)
-                        .thenAccept(statuses -> {
-                            SwingUtilities.invokeLater(() -> {
-                                statusHandler.updateStatusOptions(statuses);
-                                updateStatus("Issue details loaded: " + issueKey);
-                            });
-                        })
-                        .exceptionally(throwable -> {
-                            SwingUtilities.invokeLater(() -> {
-                                statusHandler.addFallbackStatusOptions();
-                                updateStatus("Issue details loaded (status list unavailable): " + issueKey);
-                            });
-                            return null;
-                        });
-                });
-            })
+
+    private void showIssueForm(JiraIssue issue) {
+        currentEditingIssue = issue;
+
+        // Update all handlers with the current issue
+        summaryHandler.setCurrentIssue(issue);
+        descriptionHandler.setCurrentIssue(issue);
+        storyPointsHandler.setCurrentIssue(issue);
+        statusHandler.setCurrentIssue(issue);
+        assigneeHandler.setCurrentIssue(issue);
+        epicHandler.setCurrentIssue(issue);
+
+        // Populate the form
+        issueDetailPanel.populateIssueForm(issue);
+    }
+
+    /**
+     * Fills in the color (and, for Epic Links, the summary) of a parent Epic that was not known when the detail was
+     * read. The form is already shown; only the Epic label is updated.
+     */
+    private void loadParentEpic(JiraIssue issue, CompletableFuture<Void> request) {
+        getConfiguredJiraService().getEpicAsync(issue.getParentKey())
+            .thenAccept(epic -> SwingUtilities.invokeLater(() -> {
+                if (!issueRequest.isCurrent(request) || currentEditingIssue != issue) {
+                    return;
+                }
+                if (issue.getParentSummary() == null) {
+                    issue.setParentSummary(epic.getSummary());
+                }
+                if (epic.getColor() != null) {
+                    issue.setEpicColor(epic.getColor());
+                }
+                epicHandler.setCurrentIssue(issue);
+            }))
             .exceptionally(throwable -> {
-                SwingUtilities.invokeLater(() -> {
-                    updateStatus("Error loading issue: " + throwable.getMessage());
-                    clearIssueDetail();
-                });
+                // The Epic label keeps showing the key
+                System.err.println("Failed to fetch Epic details for " + issue.getParentKey() + ": " + throwable.getMessage());
                 return null;
             });
     }
@@ -645,10 +982,7 @@ public class JiraToolWindowContent {
         }
 
         // Show progress and validate token in background thread
-        JiraService jiraService = new JiraService();
-        jiraService.configure(jiraUrl, username, apiToken);
-
-        jiraService.getCurrentUserAsync()
+        JiraClientService.getInstance().validateCredentialsAsync(jiraUrl, username, apiToken)
             .thenAccept(userJson -> {
                 SwingUtilities.invokeLater(() -> {
                     String displayName = userJson.has("displayName") ? 
@@ -984,6 +1318,76 @@ public class JiraToolWindowContent {
         gbc.fill = GridBagConstraints.NONE;
         panel.add(mcpButtonContainer, gbc);
 
+        // Separator line
+        gbc.gridx = 0; gbc.gridy = 11; gbc.gridwidth = 2;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.insets = JBUI.insets(15, 5, 15, 5);
+        panel.add(new JSeparator(JSeparator.HORIZONTAL), gbc);
+
+        // AI 서버 설정 Section Header
+        gbc.gridx = 0; gbc.gridy = 12; gbc.gridwidth = 2;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.insets = JBUI.insets(5, 5, 10, 5);
+        JLabel aiSettingsHeaderLabel = new JLabel("AI 서버 설정");
+        aiSettingsHeaderLabel.setFont(aiSettingsHeaderLabel.getFont().deriveFont(Font.BOLD, 14f));
+        panel.add(aiSettingsHeaderLabel, gbc);
+
+        // Reset insets and gridwidth for fields
+        gbc.gridwidth = 1;
+        gbc.insets = JBUI.insets(5);
+
+        // AI connect timeout
+        gbc.gridx = 0; gbc.gridy = 13;
+        gbc.fill = GridBagConstraints.NONE;
+        panel.add(new JLabel("연결 타임아웃(초):"), gbc);
+
+        JSpinner aiConnectTimeoutSpinner = new JSpinner(new SpinnerNumberModel(settings.getAiConnectTimeoutSeconds(), 1, 30, 1));
+        gbc.gridx = 1; gbc.gridy = 13;
+        panel.add(aiConnectTimeoutSpinner, gbc);
+
+        // AI response timeout
+        gbc.gridx = 0; gbc.gridy = 14;
+        panel.add(new JLabel("응답 타임아웃(초):"), gbc);
+
+        JSpinner aiResponseTimeoutSpinner = new JSpinner(new SpinnerNumberModel(settings.getAiResponseTimeoutSeconds(), 5, 300, 5));
+        gbc.gridx = 1; gbc.gridy = 14;
+        panel.add(aiResponseTimeoutSpinner, gbc);
+
+        // Separator line
+        gbc.gridx = 0; gbc.gridy = 15; gbc.gridwidth = 2;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.insets = JBUI.insets(15, 5, 15, 5);
+        panel.add(new JSeparator(JSeparator.HORIZONTAL), gbc);
+
+        // Jira 조회 설정 Section Header
+        gbc.gridx = 0; gbc.gridy = 16; gbc.gridwidth = 2;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.insets = JBUI.insets(5, 5, 10, 5);
+        JLabel fetchSettingsHeaderLabel = new JLabel("Jira 조회 설정");
+        fetchSettingsHeaderLabel.setFont(fetchSettingsHeaderLabel.getFont().deriveFont(Font.BOLD, 14f));
+        panel.add(fetchSettingsHeaderLabel, gbc);
+
+        // Reset insets and gridwidth for fields
+        gbc.gridwidth = 1;
+        gbc.insets = JBUI.insets(5);
+
+        // Concurrent page requests
+        gbc.gridx = 0; gbc.gridy = 17;
+        gbc.fill = GridBagConstraints.NONE;
+        panel.add(new JLabel("목록 동시 요청 수:"), gbc);
+
+        JSpinner pageFetchParallelismSpinner = new JSpinner(new SpinnerNumberModel(settings.getPageFetchParallelism(), 1, 8, 1));
+        gbc.gridx = 1; gbc.gridy = 17;
+        panel.add(pageFetchParallelismSpinner, gbc);
+
+        // Memory budget of the in-memory caches
+        gbc.gridx = 0; gbc.gridy = 18;
+        panel.add(new JLabel("캐시 메모리(MB):"), gbc);
+
+        JSpinner cacheMemoryBudgetSpinner = new JSpinner(new SpinnerNumberModel(settings.getCacheMemoryBudgetMb(), 4, 512, 4));
+        gbc.gridx = 1; gbc.gridy = 18;
+        panel.add(cacheMemoryBudgetSpinner, gbc);
+
         // Show dialog
         int result = JOptionPane.showConfirmDialog(
             contentPanel,
@@ -1002,6 +1406,10 @@ public class JiraToolWindowContent {
             settings.setClaudeCommand(claudeCommandField.getText().trim());
             settings.setCodexCommand(codexCommandField.getText().trim());
             settings.setGeminiCommand(geminiCommandField.getText().trim());
+            settings.setAiConnectTimeoutSeconds((Integer) aiConnectTimeoutSpinner.getValue());
+            settings.setAiResponseTimeoutSeconds((Integer) aiResponseTimeoutSpinner.getValue());
+            settings.setPageFetchParallelism((Integer) pageFetchParallelismSpinner.getValue());
+            settings.setCacheMemoryBudgetMb((Integer) cacheMemoryBudgetSpinner.getValue());
             
             // Refresh status after saving
             refreshStatus();
@@ -1009,13 +1417,7 @@ public class JiraToolWindowContent {
 
             // Send access log for settings confirmation
             try {
-                JiraService jiraService = new JiraService();
-                jiraService.configure(settings.getJiraUrl(), settings.getUsername(), settings.getApiToken());
-                AccessLogService accessLogService = new AccessLogService(
-                    new okhttp3.OkHttpClient(),
-                    new Gson(),
-                    jiraService
-                );
+                AccessLogService accessLogService = JiraClientService.getInstance().getAccessLogService();
                 String settingsInfo = String.format("URL: %s, Username: %s, Project: %s",
                     settings.getJiraUrl(), settings.getUsername(), settings.getDefaultProjectKey());
                 accessLogService.sendAccessLog("Jira Settings 설정", settingsInfo);
@@ -1084,4 +1486,11 @@ public class JiraToolWindowContent {
     public JComponent getContent() {
         return contentPanel;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void dispose() {
+        // Closing the tool window or the project aborts outstanding reads; queued edits are still written
+        requests.dispose();
+        getConfiguredJiraService().getWriteQueue().removeListener(writeQueueListener);
+    }
+}
@@ -5,15 +5,21 @@ import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowFactory;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.content.ContentFactory;
+import com.spectra.intellij.ai.service.JiraClientService;
 import org.jetbrains.annotations.NotNull;
 
 public class JiraToolWindowFactory implements ToolWindowFactory {
     
     @Override
     public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        // Start DNS/TLS/HTTP2 setup before the content issues its first sprint request
+        JiraClientService.getInstance().warmUpConnections();
+
         JiraToolWindowContent toolWindowContent = new JiraToolWindowContent(project);
         Content content = ContentFactory.getInstance().createContent(
             toolWindowContent.getContent(), "", false);
+        // Disposed with the content (tool window or project closed); cancels the content's in-flight requests
+        content.setDisposer(toolWindowContent);
         toolWindow.getContentManager().addContent(content);
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.spectra.intellij.ai.toolwindow.components;
+
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import com.spectra.intellij.ai.service.BoundedCache;
+import com.spectra.intellij.ai.service.CacheRegistry;
+import com.spectra.intellij.ai.service.CircuitBreaker;
+import com.spectra.intellij.ai.service.JiraClientService;
+import com.spectra.intellij.ai.service.SingleFlight;
+import com.spectra.intellij.ai.service.SprintSnapshotStore;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Live view of the network layer: AI server circuit breakers, their recent transitions, request counters, the
+ * cache of recently viewed sprints and the in-memory caches. Refreshes once a second while it is on screen.
+ */
+public class DiagnosticsPanel extends JPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    private final DefaultTableModel breakerModel = readOnlyModel("Host", "상태", "연속 실패", "다음 시도");
+    private final DefaultTableModel transitionModel = readOnlyModel("시간", "Host", "전환", "사유");
+    private final DefaultTableModel sprintCacheModel = readOnlyModel("프로젝트", "스프린트", "이슈", "경과");
+    private final DefaultTableModel cacheModel = readOnlyModel("캐시", "항목", "사용량", "적중률", "제거 (거부)", "갱신");
+    private final JLabel requestStatsLabel = new JLabel();
+    private final JLabel sprintCacheStatsLabel = new JLabel();
+    private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+    public DiagnosticsPanel() {
+        super(new BorderLayout());
+        setBorder(JBUI.Borders.empty(5));
+
+        requestStatsLabel.setBorder(JBUI.Borders.empty(5));
+        sprintCacheStatsLabel.setBorder(JBUI.Borders.empty(0, 5, 5, 5));
+        JPanel statsPanel = new JPanel(new BorderLayout());
+        statsPanel.add(requestStatsLabel, BorderLayout.NORTH);
+        statsPanel.add(sprintCacheStatsLabel, BorderLayout.SOUTH);
+        add(statsPanel, BorderLayout.NORTH);
+
+        JBTable breakerTable = new JBTable(breakerModel);
+        JScrollPane breakerScrollPane = new JScrollPane(breakerTable);
+        breakerScrollPane.setBorder(BorderFactory.createTitledBorder("AI 서버 Circuit Breaker"));
+        breakerScrollPane.setPreferredSize(new Dimension(0, 90));
+
+        JBTable transitionTable = new JBTable(transitionModel);
+        transitionTable.getColumnModel().getColumn(3).setPreferredWidth(300);
+        JScrollPane transitionScrollPane = new JScrollPane(transitionTable);
+        transitionScrollPane.setBorder(BorderFactory.createTitledBorder("상태 전환 기록"));
+
+        JBTable sprintCacheTable = new JBTable(sprintCacheModel);
+        JScrollPane sprintCacheScrollPane = new JScrollPane(sprintCacheTable);
+        sprintCacheScrollPane.setBorder(BorderFactory.createTitledBorder("스프린트 캐시 (최근 조회 순)"));
+        sprintCacheScrollPane.setPreferredSize(new Dimension(0, 120));
+
+        JBTable cacheTable = new JBTable(cacheModel);
+        JScrollPane cacheScrollPane = new JScrollPane(cacheTable);
+        cacheScrollPane.setBorder(BorderFactory.createTitledBorder("메모리 캐시"));
+        cacheScrollPane.setPreferredSize(new Dimension(0, 120));
+
+        JPanel cachesPanel = new JPanel(new GridLayout(2, 1, 0, 5));
+        cachesPanel.add(sprintCacheScrollPane);
+        cachesPanel.add(cacheScrollPane);
+
+        JPanel tablesPanel = new JPanel(new BorderLayout(0, 5));
+        tablesPanel.add(breakerScrollPane, BorderLayout.NORTH);
+        tablesPanel.add(transitionScrollPane, BorderLayout.CENTER);
+        tablesPanel.add(cachesPanel, BorderLayout.SOUTH);
+        add(tablesPanel, BorderLayout.CENTER);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refresh();
+        refreshTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        refreshTimer.stop();
+        super.removeNotify();
+    }
+
+    private void refresh() {
+        JiraClientService clientService = JiraClientService.getInstance();
+        SingleFlight.Stats coalescing = clientService.getJiraService().getRequestCoalescingStats();
+        requestStatsLabel.setText(String.format(
+            "<html>요청 %d (중복 제거 %d, 진행 중 %d) · 재시도 %d · 429 응답 %d · 속도 제한 대기 %d</html>",
+            coalescing.getRequests(), coalescing.getDeduplicated(), coalescing.getInFlight(),
+            clientService.getRetryCount(), clientService.getThrottledResponseCount(),
+            clientService.getRateLimitedRequestCount()));
+
+        SprintSnapshotStore.Stats sprintCache = clientService.getJiraService().getSprintCacheStats();
+        sprintCacheStatsLabel.setText(String.format(
+            "<html>스프린트 캐시: 적중 %d (디스크 %d) · 미스 %d · 재검증 %d (변경 %d) · 평균 경과 %d초</html>",
+            sprintCache.getHits(), sprintCache.getStoredHits(), sprintCache.getMisses(),
+            sprintCache.getRevalidations(), sprintCache.getChangedRevalidations(),
+            sprintCache.getAverageServedAgeMillis() / 1000));
+        long now = System.currentTimeMillis();
+        sprintCacheModel.setRowCount(0);
+        for (SprintSnapshotStore.Snapshot snapshot : sprintCache.getSprints()) {
+            sprintCacheModel.addRow(new Object[]{
+                snapshot.getProjectKey(),
+                snapshot.getSprintId(),
+                snapshot.getIssueCount(),
+                Math.max(0, now - snapshot.getReadStartedAt()) / 1000 + "초"
+            });
+        }
+
+        CacheRegistry caches = clientService.getCaches();
+        cacheModel.setRowCount(0);
+        for (BoundedCache.Stats cache : caches.getStats()) {
+            cacheModel.addRow(new Object[]{
+                cache.getName(),
+                cache.getSize(),
+                formatKb(cache.getWeight()) + " / " + formatKb(cache.getMaximumWeight()),
+                String.format("%.0f%% (%d/%d)", cache.getHitRate() * 100, cache.getHits(), cache.getHits() + cache.getMisses()),
+                cache.getEvictions() + " (" + cache.getRejections() + ")",
+                cache.getRefreshes()
+            });
+        }
+
+        List<CircuitBreaker> breakers = clientService.getCircuitBreakers().getAll();
+        breakerModel.setRowCount(0);
+        List<Object[]> transitions = new ArrayList<>();
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        for (CircuitBreaker breaker : breakers) {
+            long remaining = breaker.getRemainingOpenMillis();
+            breakerModel.addRow(new Object[]{
+                breaker.getHost(),
+                breaker.getState(),
+                breaker.getConsecutiveFailures(),
+                remaining > 0 ? (remaining / 1000 + 1) + "초 후" : "-"
+            });
+            for (CircuitBreaker.Transition transition : breaker.getTransitions()) {
+                transitions.add(new Object[]{
+                    transition.getTimestamp(),
+                    breaker.getHost(),
+                    transition.getFrom() + " → " + transition.getTo(),
+                    transition.getReason()
+                });
+            }
+        }
+
+        // Newest first across all hosts
+        transitions.sort(Comparator.comparingLong((Object[] row) -> (Long) row[0]).reversed());
+        transitionModel.setRowCount(0);
+        for (Object[] row : transitions) {
+            row[0] = timeFormat.format(new Date((Long) row[0]));
+            transitionModel.addRow(row);
+        }
+    }
+
+    private static String formatKb(long bytes) {
+        return (bytes + 1023) / 1024 + " KB";
+    }
+
+    private static DefaultTableModel readOnlyModel(String... columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+}
@@ -7,6 +7,8 @@ import com.spectra.intellij.ai.actions.FixIssueByCodexAction;
 import com.spectra.intellij.ai.actions.FixIssueByGeminiAction;
 import com.spectra.intellij.ai.actions.FixIssueByChatGPTAction;
 import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.service.BoundedCache;
+import com.spectra.intellij.ai.service.JiraClientService;
 import com.spectra.intellij.ai.settings.JiraSettings;
 import com.spectra.intellij.ai.toolwindow.handlers.ClaudeMcpConnectionHandler;
 import com.spectra.intellij.ai.toolwindow.handlers.CodexMcpConnectionHandler;
@@ -21,22 +23,34 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public class IssueTableManager {
 
+    private static final double PRIORITY_ICONS_BUDGET_SHARE = 0.01;
+
     private final Project project;
     private final JBTable issueTable;
     private final DefaultTableModel issueTableModel;
     private final DefaultTableModel originalIssueTableModel; // Store unfiltered data
     private final Map<Integer, String> priorityIconUrlMap = new HashMap<>();
+    // Priority icons rendered at 16x16, by icon URL
+    private final BoundedCache<String, ImageIcon> priorityIcons = JiraClientService.getInstance().getCaches()
+        .create("Priority icons", PRIORITY_ICONS_BUDGET_SHARE, 0, 0, icon -> 4L * icon.getIconWidth() * icon.getIconHeight(), null);
     private final TableRowSorter<DefaultTableModel> tableSorter;
 
     private Consumer<String> onIssueSelected;
+    // Set while rows are patched in place; the selection is restored afterwards instead of being reported
+    private boolean patching;
 
     // MCP connection handlers
     private final ClaudeMcpConnectionHandler claudeMcpConnectionHandler;
@@ -147,24 +161,24 @@ public class IssueTableManager {
     
     private void setupSelectionListener() {
         issueTable.getSelectionModel().addListSelectionListener(e -> {
-            if (!e.getValueIsAdjusting()) {
-                int selectedRow = issueTable.getSelectedRow();
-                if (selectedRow >= 0) {
-                    // Convert view row index to model row index to handle sorting
-                    int modelRow = issueTable.convertRowIndexToModel(selectedRow);
-                    String issueKey = (String) issueTableModel.getValueAt(modelRow, 0);
-                    if (onIssueSelected != null) {
-                        onIssueSelected.accept(issueKey);
-                    }
-                } else {
-                    if (onIssueSelected != null) {
-                        onIssueSelected.accept(null);
-                    }
+            if (!e.getValueIsAdjusting() && !patching) {
+                if (onIssueSelected != null) {
+                    onIssueSelected.accept(getSelectedIssueKey());
                 }
             }
         });
     }
 
+    private String getSelectedIssueKey() {
+        int selectedRow = issueTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return null;
+        }
+        // Convert view row index to model row index to handle sorting
+        int modelRow = issueTable.convertRowIndexToModel(selectedRow);
+        return (String) issueTableModel.getValueAt(modelRow, 0);
+    }
+
     private void setupContextMenu() {
         issueTable.addMouseListener(new MouseAdapter() {
             @Override
@@ -325,10 +339,18 @@ public class IssueTableManager {
         issueTableModel.setRowCount(0);
         originalIssueTableModel.setRowCount(0);
         priorityIconUrlMap.clear();
-        
+        ((IssueTableCellRenderer) issueTable.getColumnModel().getColumn(0).getCellRenderer()).retainRows(0);
+
+        appendIssues(issues);
+    }
+
+    /**
+     * Adds issues below the current rows, e.g. the next page of a sprint that is still loading.
+     */
+    public void appendIssues(List<JiraIssue> issues) {
         IssueTableCellRenderer renderer = (IssueTableCellRenderer) issueTable.getColumnModel().getColumn(0).getCellRenderer();
         
-        int row = 0;
+        int row = issueTableModel.getRowCount();
         for (JiraIssue issue : issues) {
             String storyPointsStr = "";
             if (issue.getStoryPoints() != null) {
@@ -387,22 +409,7 @@ public class IssueTableManager {
             String assignee = (String) originalIssueTableModel.getValueAt(i, 5);  // Assignee column
             String status = (String) originalIssueTableModel.getValueAt(i, 2);    // Status column
 
-            // Apply filters with null checks
-            boolean passesFilter = true;
-
-            if (selectedIssueType != null && !"All".equals(selectedIssueType) && !selectedIssueType.equals(issueType)) {
-                passesFilter = false;
-            }
-
-            if (selectedAssignee != null && !"All".equals(selectedAssignee) && !selectedAssignee.equals(assignee)) {
-                passesFilter = false;
-            }
-
-            if (selectedStatus != null && !"All".equals(selectedStatus) && !selectedStatus.equals(status)) {
-                passesFilter = false;
-            }
-
-            if (passesFilter) {
+            if (passesFilter(issueType, assignee, status, selectedIssueType, selectedAssignee, selectedStatus)) {
                 // Set issue type for renderer
                 renderer.setIssueTypeForRow(displayRow, issueType);
 
@@ -418,6 +425,130 @@ public class IssueTableManager {
                 displayRow++;
             }
         }
+        renderer.retainRows(displayRow);
+    }
+    
+    private static boolean passesFilter(String issueType, String assignee, String status,
+                                        String selectedIssueType, String selectedAssignee, String selectedStatus) {
+        // Apply filters with null checks
+        if (selectedIssueType != null && !"All".equals(selectedIssueType) && !selectedIssueType.equals(issueType)) {
+            return false;
+        }
+        if (selectedAssignee != null && !"All".equals(selectedAssignee) && !selectedAssignee.equals(assignee)) {
+            return false;
+        }
+        return selectedStatus == null || "All".equals(selectedStatus) || selectedStatus.equals(status);
+    }
+
+    /**
+     * Brings the rows in line with {@code issues} without rebuilding the table: changed cells are rewritten, new
+     * issues inserted and issues no longer listed removed. The selected issue stays selected and the view does not
+     * jump; the selection listener only hears of it when the selected issue is gone.
+     */
+    public void patchIssues(List<JiraIssue> issues, String selectedIssueType, String selectedAssignee, String selectedStatus) {
+        IssueTableCellRenderer renderer = (IssueTableCellRenderer) issueTable.getColumnModel().getColumn(0).getCellRenderer();
+        String selectedKey = getSelectedIssueKey();
+
+        List<Object[]> allRows = new ArrayList<>();
+        List<Object[]> shownRows = new ArrayList<>();
+        List<String> shownIssueTypes = new ArrayList<>();
+        priorityIconUrlMap.clear();
+        for (JiraIssue issue : issues) {
+            String storyPointsStr = issue.getStoryPoints() != null ? issue.getStoryPoints().toString() : "";
+            String issueType = issue.getIssueType() != null ? issue.getIssueType() : "";
+            String assignee = issue.getAssignee() != null ? issue.getAssignee() : "";
+            String status = issue.getStatus() != null ? issue.getStatus() : "";
+            String summary = issue.getSummary() != null ? issue.getSummary() : "";
+            String priority = issue.getPriority() != null ? issue.getPriority() : "";
+            if (issue.getPriorityIconUrl() != null) {
+                priorityIconUrlMap.put(allRows.size(), issue.getPriorityIconUrl());
+            }
+            Object[] row = {issue.getKey(), summary, status, storyPointsStr, priority, assignee, issueType};
+            allRows.add(row);
+            if (passesFilter(issueType, assignee, status, selectedIssueType, selectedAssignee, selectedStatus)) {
+                shownRows.add(Arrays.copyOf(row, 6));
+                shownIssueTypes.add(issueType);
+            }
+        }
+
+        boolean selectionKept = true;
+        patching = true;
+        try {
+            patchRows(originalIssueTableModel, allRows);
+            patchRows(issueTableModel, shownRows);
+            for (int row = 0; row < shownIssueTypes.size(); row++) {
+                renderer.setIssueTypeForRow(row, shownIssueTypes.get(row));
+            }
+            renderer.retainRows(shownIssueTypes.size());
+            if (selectedKey != null && !selectedKey.equals(getSelectedIssueKey())) {
+                issueTable.clearSelection();
+                selectIssueByKey(selectedKey);
+                selectionKept = selectedKey.equals(getSelectedIssueKey());
+            }
+        } finally {
+            patching = false;
+        }
+        if (!selectionKept && onIssueSelected != null) {
+            onIssueSelected.accept(null);
+        }
+    }
+
+    /**
+     * Makes the model's rows equal to {@code rows}, matching rows by issue key (column 0).
+     */
+    private static void patchRows(DefaultTableModel model, List<Object[]> rows) {
+        Set<Object> keys = new HashSet<>();
+        for (Object[] row : rows) {
+            keys.add(row[0]);
+        }
+        for (int i = model.getRowCount() - 1; i >= 0; i--) {
+            if (!keys.contains(model.getValueAt(i, 0))) {
+                model.removeRow(i);
+            }
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            int current = -1;
+            for (int j = i; j < model.getRowCount(); j++) {
+                if (row[0].equals(model.getValueAt(j, 0))) {
+                    current = j;
+                    break;
+                }
+            }
+            if (current < 0) {
+                model.insertRow(i, row);
+                continue;
+            }
+            if (current != i) {
+                model.moveRow(current, current, i);
+            }
+            for (int column = 1; column < row.length; column++) {
+                if (!Objects.equals(model.getValueAt(i, column), row[column])) {
+                    model.setValueAt(row[column], i, column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrites the row of an issue that is already listed, in place: the filter and the selection are kept.
+     */
+    public void updateIssue(JiraIssue issue) {
+        String storyPointsStr = issue.getStoryPoints() != null ? issue.getStoryPoints().toString() : "";
+        String summary = issue.getSummary() != null ? issue.getSummary() : "";
+        String status = issue.getStatus() != null ? issue.getStatus() : "";
+        String assignee = issue.getAssignee() != null ? issue.getAssignee() : "";
+        for (DefaultTableModel model : new DefaultTableModel[]{originalIssueTableModel, issueTableModel}) {
+            for (int i = 0; i < model.getRowCount(); i++) {
+                if (issue.getKey().equals(model.getValueAt(i, 0))) {
+                    model.setValueAt(summary, i, 1);
+                    model.setValueAt(status, i, 2);
+                    model.setValueAt(storyPointsStr, i, 3);
+                    model.setValueAt(assignee, i, 5);
+                    break;
+                }
+            }
+        }
     }
     
     public void clearIssues() {
@@ -456,7 +587,6 @@ public class IssueTableManager {
     
     // Custom renderer for Priority column to show priority icons
     private class PriorityTableCellRenderer extends DefaultTableCellRenderer {
-        private final Map<String, ImageIcon> iconCache = new HashMap<>();
         
         @Override
         public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
@@ -505,8 +635,9 @@ public class IssueTableManager {
         
         private ImageIcon loadPriorityIcon(String iconUrl) {
             // Check cache first
-            if (iconCache.containsKey(iconUrl)) {
-                return iconCache.get(iconUrl);
+            ImageIcon cached = priorityIcons.getIfPresent(iconUrl);
+            if (cached != null) {
+                return cached;
             }
             
             try {
@@ -531,7 +662,7 @@ public class IssueTableManager {
                         g2d.dispose();
                         
                         ImageIcon scaledIcon = new ImageIcon(bufferedImage);
-                        iconCache.put(iconUrl, scaledIcon);
+                        priorityIcons.put(iconUrl, scaledIcon);
                         return scaledIcon;
                     }
                 } catch (Exception iconLoadException) {
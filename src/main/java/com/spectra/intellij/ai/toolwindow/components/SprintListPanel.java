@@ -31,6 +31,8 @@ public class SprintListPanel extends JPanel {
     private Consumer<JiraSprint> onSprintSelected;
     private Consumer<Void> onSettingsClick;
     private Consumer<Void> onRefreshClick;
+    // Set while the list is replaced, so that keeping the selection does not count as selecting the sprint again
+    private boolean updatingSprints;
     
     public SprintListPanel(Project project) {
         this.project = project;
@@ -123,7 +125,7 @@ public class SprintListPanel extends JPanel {
         });
         
         sprintList.addListSelectionListener(e -> {
-            if (!e.getValueIsAdjusting()) {
+            if (!e.getValueIsAdjusting() && !updatingSprints) {
                 JiraSprint selectedSprint = sprintList.getSelectedValue();
                 if (selectedSprint != null && onSprintSelected != null) {
                     onSprintSelected.accept(selectedSprint);
@@ -136,11 +138,47 @@ public class SprintListPanel extends JPanel {
         add(sprintScrollPane, BorderLayout.CENTER);
     }
     
+    /**
+     * Replaces the sprints. The selected sprint stays selected if it is still in the list, without notifying the
+     * selection listener.
+     */
     public void updateSprints(List<JiraSprint> sprints) {
-        sprintListModel.clear();
-        for (JiraSprint sprint : sprints) {
-            sprintListModel.addElement(sprint);
+        JiraSprint selected = sprintList.getSelectedValue();
+        updatingSprints = true;
+        try {
+            sprintListModel.clear();
+            for (JiraSprint sprint : sprints) {
+                sprintListModel.addElement(sprint);
+            }
+            int index = selected != null ? indexOf(selected.getId()) : -1;
+            if (index >= 0) {
+                sprintList.setSelectedIndex(index);
+            }
+        } finally {
+            updatingSprints = false;
+        }
+    }
+
+    /**
+     * Selects the sprint with this id, as if the user had clicked it; returns false when it is not in the list.
+     */
+    public boolean selectSprint(String sprintId) {
+        int index = indexOf(sprintId);
+        if (index < 0) {
+            return false;
+        }
+        sprintList.setSelectedIndex(index);
+        sprintList.ensureIndexIsVisible(index);
+        return true;
+    }
+
+    private int indexOf(String sprintId) {
+        for (int i = 0; i < sprintListModel.size(); i++) {
+            if (sprintListModel.get(i).getId().equals(sprintId)) {
+                return i;
+            }
         }
+        return -1;
     }
     
     public void clearSprints() {
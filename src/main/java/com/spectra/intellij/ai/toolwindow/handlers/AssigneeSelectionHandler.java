@@ -403,14 +403,12 @@ public class AssigneeSelectionHandler {
     private void findAccountIdAndUpdateAssignee(String displayName) {
         updateStatus("Finding user account...");
         
-        jiraService.searchUsersAsync(displayName)
-            .thenAccept(users -> SwingUtilities.invokeLater(() -> {
-                for (com.google.gson.JsonObject user : users) {
-                    if (user.has("displayName") && displayName.equals(user.get("displayName").getAsString())) {
-                        String accountId = user.get("accountId").getAsString();
-                        updateAssignee(accountId, displayName);
-                        return;
-                    }
+        // The picker loaded the user directory, so this is normally answered from memory
+        jiraService.findAccountIdAsync(displayName)
+            .thenAccept(accountId -> SwingUtilities.invokeLater(() -> {
+                if (accountId != null) {
+                    updateAssignee(accountId, displayName);
+                    return;
                 }
                 updateStatus("User not found: " + displayName);
             }))
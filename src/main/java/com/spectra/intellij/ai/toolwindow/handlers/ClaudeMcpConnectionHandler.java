@@ -5,7 +5,7 @@ import com.google.gson.JsonObject;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.service.AccessLogService;
-import com.spectra.intellij.ai.service.JiraService;
+import com.spectra.intellij.ai.service.JiraClientService;
 
 import javax.swing.*;
 import java.io.File;
@@ -141,13 +141,7 @@ public class ClaudeMcpConnectionHandler {
         try {
             // Send access log for Claude MCP connection
             try {
-                JiraService jiraService = new JiraService();
-                jiraService.configure(jiraUrl, username, apiToken);
-                AccessLogService accessLogService = new AccessLogService(
-                    new okhttp3.OkHttpClient(),
-                    new Gson(),
-                    jiraService
-                );
+                AccessLogService accessLogService = JiraClientService.getInstance().getAccessLogService();
                 String connectionInfo = String.format("URL: %s, Username: %s", jiraUrl, username);
                 accessLogService.sendAccessLog("Claude MCP Connection", connectionInfo);
             } catch (Exception e) {
@@ -1,7 +1,6 @@
 package com.spectra.intellij.ai.toolwindow.handlers;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.model.JiraIssue;
 import com.spectra.intellij.ai.service.JiraService;
 
@@ -23,6 +22,7 @@ public class DescriptionInlineEditHandler implements InlineEditHandler {
     private boolean isEditing = false;
     private String originalValue = "";
     private Consumer<String> onStatusUpdate;
+    private Consumer<JiraIssue> onIssueChanged;
     
     public DescriptionInlineEditHandler(Project project, JTextArea descriptionField, 
                                      JScrollPane descriptionScrollPane, JPanel descriptionButtonPanel,
@@ -208,6 +208,11 @@ public class DescriptionInlineEditHandler implements InlineEditHandler {
         }
     }
     
+    @Override
+    public boolean isEditing() {
+        return isEditing;
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         descriptionField.setEnabled(enabled);
@@ -223,10 +228,9 @@ public class DescriptionInlineEditHandler implements InlineEditHandler {
         if (!newDescription.equals(originalValue)) {
             // Save the changes immediately
             saveDescriptionChange(newDescription);
-        } else {
-            // No changes, just exit edit mode
-            setDisplayMode();
         }
+        // The new text stays shown while it is written
+        setDisplayMode();
     }
     
     private void cancelDescriptionEditing() {
@@ -246,32 +250,32 @@ public class DescriptionInlineEditHandler implements InlineEditHandler {
     private void saveDescriptionChange(String newDescription) {
         if (currentIssue == null) return;
         
-        String oldDescription = currentIssue.getDescription();
-        currentIssue.setDescription(newDescription);
+        // Shown right away; the write queue sends it in the background
+        JiraIssue issue = currentIssue;
+        String oldDescription = issue.getDescription();
+        issue.setDescription(newDescription);
+        notifyIssueChanged(issue);
         
         updateStatus("Saving description change...");
         
-        jiraService.updateIssueDescriptionAsync(currentIssue.getKey(), newDescription)
+        jiraService.queueDescriptionUpdate(issue.getKey(), newDescription)
             .thenRun(() -> {
                 SwingUtilities.invokeLater(() -> {
-                    // Exit edit mode
-                    setDisplayMode();
-                    updateStatus("Description updated successfully for " + currentIssue.getKey());
+                    updateStatus("Description updated successfully for " + issue.getKey());
                 });
             })
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
-                    // Restore old value on error
-                    currentIssue.setDescription(oldDescription);
-                    if (oldDescription == null || oldDescription.trim().isEmpty()) {
-                        descriptionField.setText("설명 편집");
-                        descriptionField.setForeground(Color.GRAY);
-                    } else {
-                        descriptionField.setText(oldDescription);
-                        descriptionField.setForeground(UIManager.getColor("TextField.foreground"));
+                    // Roll back unless a later edit replaced this one
+                    if (newDescription.equals(issue.getDescription())) {
+                        issue.setDescription(oldDescription);
+                        if (issue == currentIssue && !isEditing) {
+                            setCurrentIssue(issue);
+                        }
+                        notifyIssueChanged(issue);
                     }
                     updateStatus("Error updating description: " + throwable.getMessage());
-                    Messages.showErrorDialog(project, "Failed to update description: " + throwable.getMessage(), "Update Error");
+                    InlineEditNotifications.notifyRolledBack(project, issue.getKey(), "설명", throwable);
                 });
                 return null;
             });
@@ -286,4 +290,17 @@ public class DescriptionInlineEditHandler implements InlineEditHandler {
     public void setOnStatusUpdate(Consumer<String> onStatusUpdate) {
         this.onStatusUpdate = onStatusUpdate;
     }
+
+    /**
+     * Called on the EDT with the edited issue right after an edit is applied locally, and again if it is rolled back.
+     */
+    public void setOnIssueChanged(Consumer<JiraIssue> onIssueChanged) {
+        this.onIssueChanged = onIssueChanged;
+    }
+
+    private void notifyIssueChanged(JiraIssue issue) {
+        if (onIssueChanged != null) {
+            onIssueChanged.accept(issue);
+        }
+    }
 }
\ No newline at end of file
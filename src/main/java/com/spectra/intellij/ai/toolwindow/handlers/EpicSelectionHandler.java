@@ -4,6 +4,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.model.JiraEpic;
 import com.spectra.intellij.ai.model.JiraIssue;
+import com.spectra.intellij.ai.service.BoardEpicRegistry;
 import com.spectra.intellij.ai.service.JiraService;
 import com.spectra.intellij.ai.settings.JiraSettings;
 
@@ -93,6 +94,14 @@ public class EpicSelectionHandler {
     }
     
     private void showEpicSelectionPopup() {
+        BoardEpicRegistry boardEpics = jiraService.getBoardEpics();
+        String boardId = getCurrentBoardId();
+        if (boardId != null && boardId.equals(boardEpics.getLoadedBoardId()) && !boardEpics.getEpics().isEmpty()) {
+            // The selected board's Epics are already in memory
+            showEpicSearchPopup(boardEpics.getEpics());
+            return;
+        }
+
         updateStatus("Loading epics...");
         
         jiraService.getEpicListAsync()
@@ -404,11 +413,11 @@ public class EpicSelectionHandler {
                 currentIssue.setParentKey(parentKey);
                 
                 if (parentKey != null && !parentKey.isEmpty()) {
-                    // Fetch the new epic details to get summary and color
-                    jiraService.getIssueAsync(parentKey)
-                        .thenAccept(parentIssue -> SwingUtilities.invokeLater(() -> {
-                            currentIssue.setParentSummary(parentIssue.getSummary());
-                            currentIssue.setEpicColor(parentIssue.getEpicColor());
+                    // Look up the new epic's summary and color (usually already known from the epic list)
+                    jiraService.getEpicAsync(parentKey)
+                        .thenAccept(epic -> SwingUtilities.invokeLater(() -> {
+                            currentIssue.setParentSummary(epic.getSummary());
+                            currentIssue.setEpicColor(epic.getColor());
                             updateEpicLabelDisplay();
                             updateStatus("Parent updated successfully for " + currentIssue.getKey());
                         }))
@@ -8,4 +8,5 @@ public interface InlineEditHandler {
     void setDisplayMode();
     void setCurrentIssue(JiraIssue issue);
     void setEnabled(boolean enabled);
+    boolean isEditing();
 }
\ No newline at end of file
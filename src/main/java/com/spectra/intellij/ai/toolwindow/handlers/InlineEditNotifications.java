@@ -0,0 +1,36 @@
+package com.spectra.intellij.ai.toolwindow.handlers;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.project.Project;
+
+/**
+ * Balloon notifications for inline edits that Jira did not accept. The edit is already shown when it fails, so
+ * the user is told that it was rolled back rather than interrupted with a modal dialog.
+ */
+final class InlineEditNotifications {
+
+    // Registered in plugin.xml
+    private static final String GROUP_ID = "Spectra Jira";
+
+    private InlineEditNotifications() {
+    }
+
+    static void notifyRolledBack(Project project, String issueKey, String fieldName, Throwable failure) {
+        NotificationGroupManager.getInstance()
+            .getNotificationGroup(GROUP_ID)
+            .createNotification(
+                issueKey + " " + fieldName + " 변경 실패",
+                "변경 사항이 저장되지 않아 이전 값으로 되돌렸습니다: " + rootMessage(failure),
+                NotificationType.ERROR)
+            .notify(project);
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
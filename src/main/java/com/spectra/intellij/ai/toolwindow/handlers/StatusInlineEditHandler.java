@@ -1,7 +1,6 @@
 package com.spectra.intellij.ai.toolwindow.handlers;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.model.JiraIssue;
 import com.spectra.intellij.ai.service.JiraService;
 
@@ -19,6 +18,7 @@ public class StatusInlineEditHandler implements InlineEditHandler {
     private boolean isEditing = false;
     private String originalValue = "";
     private Consumer<String> onStatusUpdate;
+    private Consumer<JiraIssue> onIssueChanged;
     
     public StatusInlineEditHandler(Project project, JComboBox<String> statusComboBox, JiraService jiraService) {
         this.project = project;
@@ -66,6 +66,12 @@ public class StatusInlineEditHandler implements InlineEditHandler {
         }
     }
     
+    @Override
+    public boolean isEditing() {
+        // Status changes are saved on selection; there is no edit mode to interrupt
+        return false;
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         statusComboBox.setEnabled(enabled);
@@ -96,28 +102,44 @@ public class StatusInlineEditHandler implements InlineEditHandler {
     private void saveStatusChange(String newStatus) {
         if (currentIssue == null) return;
         
-        isEditing = true; // Prevent recursive calls
-        String oldStatus = currentIssue.getStatus();
-        currentIssue.setStatus(newStatus);
+        // Shown right away; the write queue sends the transition in the background
+        JiraIssue issue = currentIssue;
+        String oldStatus = issue.getStatus();
+        issue.setStatus(newStatus);
+        originalValue = newStatus;
+        notifyIssueChanged(issue);
         
         updateStatus("Saving status change...");
         
-        jiraService.updateIssueStatusAsync(currentIssue.getKey(), newStatus)
-            .thenRun(() -> {
+        String issueKey = issue.getKey();
+        jiraService.queueStatusUpdate(issueKey, newStatus)
+            // The options now start from the new status; the workflow's transitions are usually cached already
+            .thenCompose(ignored -> jiraService.getIssueStatusesAsync(issueKey).exceptionally(throwable -> null))
+            .thenAccept(statuses -> {
                 SwingUtilities.invokeLater(() -> {
-                    isEditing = false;
-                    originalValue = newStatus; // Update original value
-                    updateStatus("Status updated successfully for " + currentIssue.getKey());
+                    if (statuses != null && issue == currentIssue && newStatus.equals(issue.getStatus())) {
+                        isEditing = true; // Rebuilding the options must not be taken for a selection
+                        updateStatusOptions(statuses);
+                        isEditing = false;
+                    }
+                    updateStatus("Status updated successfully for " + issueKey);
                 });
             })
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
-                    isEditing = false;
-                    // Restore old value on error
-                    currentIssue.setStatus(oldStatus);
-                    statusComboBox.setSelectedItem(oldStatus);
+                    // Roll back unless a later change replaced this one
+                    if (newStatus.equals(issue.getStatus())) {
+                        issue.setStatus(oldStatus);
+                        if (issue == currentIssue) {
+                            originalValue = oldStatus;
+                            isEditing = true;
+                            statusComboBox.setSelectedItem(oldStatus);
+                            isEditing = false;
+                        }
+                        notifyIssueChanged(issue);
+                    }
                     updateStatus("Error updating status: " + throwable.getMessage());
-                    Messages.showErrorDialog(project, "Failed to update status: " + throwable.getMessage(), "Update Error");
+                    InlineEditNotifications.notifyRolledBack(project, issueKey, "상태", throwable);
                 });
                 return null;
             });
@@ -132,4 +154,17 @@ public class StatusInlineEditHandler implements InlineEditHandler {
     public void setOnStatusUpdate(Consumer<String> onStatusUpdate) {
         this.onStatusUpdate = onStatusUpdate;
     }
+
+    /**
+     * Called on the EDT with the edited issue right after an edit is applied locally, and again if it is rolled back.
+     */
+    public void setOnIssueChanged(Consumer<JiraIssue> onIssueChanged) {
+        this.onIssueChanged = onIssueChanged;
+    }
+
+    private void notifyIssueChanged(JiraIssue issue) {
+        if (onIssueChanged != null) {
+            onIssueChanged.accept(issue);
+        }
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.spectra.intellij.ai.service.JiraService;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 public class StoryPointsInlineEditHandler implements InlineEditHandler {
@@ -19,6 +20,7 @@ public class StoryPointsInlineEditHandler implements InlineEditHandler {
     private boolean isEditing = false;
     private String originalValue = "";
     private Consumer<String> onStatusUpdate;
+    private Consumer<JiraIssue> onIssueChanged;
     
     public StoryPointsInlineEditHandler(Project project, JTextField storyPointsField, JiraService jiraService) {
         this.project = project;
@@ -153,6 +155,11 @@ public class StoryPointsInlineEditHandler implements InlineEditHandler {
         }
     }
     
+    @Override
+    public boolean isEditing() {
+        return isEditing;
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         storyPointsField.setEnabled(enabled);
@@ -164,25 +171,33 @@ public class StoryPointsInlineEditHandler implements InlineEditHandler {
     private void saveStoryPointsChange(String newStoryPoints) {
         if (currentIssue == null) return;
         
-        Double oldStoryPoints = currentIssue.getStoryPoints();
+        // Shown right away; the write queue sends it in the background
+        JiraIssue issue = currentIssue;
+        Double oldStoryPoints = issue.getStoryPoints();
         Double newStoryPointsValue = newStoryPoints.isEmpty() ? null : Double.parseDouble(newStoryPoints);
-        currentIssue.setStoryPoints(newStoryPointsValue);
+        issue.setStoryPoints(newStoryPointsValue);
+        notifyIssueChanged(issue);
         
         updateStatus("Saving story points change...");
         
-        jiraService.updateIssueStoryPointsAsync(currentIssue.getKey(), newStoryPointsValue)
+        jiraService.queueStoryPointsUpdate(issue.getKey(), newStoryPointsValue)
             .thenRun(() -> {
                 SwingUtilities.invokeLater(() -> {
-                    updateStatus("Story points updated successfully for " + currentIssue.getKey());
+                    updateStatus("Story points updated successfully for " + issue.getKey());
                 });
             })
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
-                    // Restore old value on error
-                    currentIssue.setStoryPoints(oldStoryPoints);
-                    storyPointsField.setText(oldStoryPoints != null ? oldStoryPoints.toString() : "");
+                    // Roll back unless a later edit replaced this one
+                    if (Objects.equals(newStoryPointsValue, issue.getStoryPoints())) {
+                        issue.setStoryPoints(oldStoryPoints);
+                        if (issue == currentIssue && !isEditing) {
+                            storyPointsField.setText(oldStoryPoints != null ? oldStoryPoints.toString() : "");
+                        }
+                        notifyIssueChanged(issue);
+                    }
                     updateStatus("Error updating story points: " + throwable.getMessage());
-                    Messages.showErrorDialog(project, "Failed to update story points: " + throwable.getMessage(), "Update Error");
+                    InlineEditNotifications.notifyRolledBack(project, issue.getKey(), "스토리 포인트", throwable);
                 });
                 return null;
             });
@@ -197,4 +212,17 @@ public class StoryPointsInlineEditHandler implements InlineEditHandler {
     public void setOnStatusUpdate(Consumer<String> onStatusUpdate) {
         this.onStatusUpdate = onStatusUpdate;
     }
+
+    /**
+     * Called on the EDT with the edited issue right after an edit is applied locally, and again if it is rolled back.
+     */
+    public void setOnIssueChanged(Consumer<JiraIssue> onIssueChanged) {
+        this.onIssueChanged = onIssueChanged;
+    }
+
+    private void notifyIssueChanged(JiraIssue issue) {
+        if (onIssueChanged != null) {
+            onIssueChanged.accept(issue);
+        }
+    }
 }
\ No newline at end of file
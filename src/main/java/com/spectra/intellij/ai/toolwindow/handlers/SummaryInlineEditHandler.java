@@ -1,7 +1,6 @@
 package com.spectra.intellij.ai.toolwindow.handlers;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.ui.Messages;
 import com.spectra.intellij.ai.model.JiraIssue;
 import com.spectra.intellij.ai.service.JiraService;
 
@@ -19,6 +18,7 @@ public class SummaryInlineEditHandler implements InlineEditHandler {
     private boolean isEditing = false;
     private String originalValue = "";
     private Consumer<String> onStatusUpdate;
+    private Consumer<JiraIssue> onIssueChanged;
     
     public SummaryInlineEditHandler(Project project, JTextField summaryField, JiraService jiraService) {
         this.project = project;
@@ -146,6 +146,11 @@ public class SummaryInlineEditHandler implements InlineEditHandler {
         }
     }
     
+    @Override
+    public boolean isEditing() {
+        return isEditing;
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         summaryField.setEnabled(enabled);
@@ -157,24 +162,32 @@ public class SummaryInlineEditHandler implements InlineEditHandler {
     private void saveSummaryChange(String newSummary) {
         if (currentIssue == null) return;
         
-        String oldSummary = currentIssue.getSummary();
-        currentIssue.setSummary(newSummary);
+        // Shown right away; the write queue sends it in the background
+        JiraIssue issue = currentIssue;
+        String oldSummary = issue.getSummary();
+        issue.setSummary(newSummary);
+        notifyIssueChanged(issue);
         
         updateStatus("Saving summary change...");
         
-        jiraService.updateIssueSummaryAsync(currentIssue.getKey(), newSummary)
+        jiraService.queueSummaryUpdate(issue.getKey(), newSummary)
             .thenRun(() -> {
                 SwingUtilities.invokeLater(() -> {
-                    updateStatus("Summary updated successfully for " + currentIssue.getKey());
+                    updateStatus("Summary updated successfully for " + issue.getKey());
                 });
             })
             .exceptionally(throwable -> {
                 SwingUtilities.invokeLater(() -> {
-                    // Restore old value on error
-                    currentIssue.setSummary(oldSummary);
-                    summaryField.setText(oldSummary);
+                    // Roll back unless a later edit replaced this one
+                    if (newSummary.equals(issue.getSummary())) {
+                        issue.setSummary(oldSummary);
+                        if (issue == currentIssue && !isEditing) {
+                            summaryField.setText(oldSummary);
+                        }
+                        notifyIssueChanged(issue);
+                    }
                     updateStatus("Error updating summary: " + throwable.getMessage());
-                    Messages.showErrorDialog(project, "Failed to update summary: " + throwable.getMessage(), "Update Error");
+                    InlineEditNotifications.notifyRolledBack(project, issue.getKey(), "요약", throwable);
                 });
                 return null;
             });
@@ -189,4 +202,17 @@ public class SummaryInlineEditHandler implements InlineEditHandler {
     public void setOnStatusUpdate(Consumer<String> onStatusUpdate) {
         this.onStatusUpdate = onStatusUpdate;
     }
+
+    /**
+     * Called on the EDT with the edited issue right after an edit is applied locally, and again if it is rolled back.
+     */
+    public void setOnIssueChanged(Consumer<JiraIssue> onIssueChanged) {
+        this.onIssueChanged = onIssueChanged;
+    }
+
+    private void notifyIssueChanged(JiraIssue issue) {
+        if (onIssueChanged != null) {
+            onIssueChanged.accept(issue);
+        }
+    }
 }
\ No newline at end of file
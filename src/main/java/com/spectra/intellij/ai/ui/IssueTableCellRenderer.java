@@ -15,6 +15,13 @@ public class IssueTableCellRenderer extends DefaultTableCellRenderer {
         rowIssueTypes.put(row, issueType);
     }
     
+    /**
+     * Forgets the issue types of rows at or beyond {@code rowCount}, e.g. after the table was filtered or cleared.
+     */
+    public void retainRows(int rowCount) {
+        rowIssueTypes.keySet().removeIf(row -> row >= rowCount);
+    }
+    
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, 
                                                    boolean hasFocus, int row, int column) {
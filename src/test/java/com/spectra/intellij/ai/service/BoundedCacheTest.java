@@ -0,0 +1,76 @@
+package com.spectra.intellij.ai.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Callers joining one load of a key each get their own future, so one caller giving up does not fail the others; the
+ * load itself is cancelled once all of them have given up.
+ */
+class BoundedCacheTest {
+
+    @Test
+    void cancellingOneCallerLeavesTheSharedLoadRunning() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<String, String> cache = new CacheRegistry(16).create("Test", 1.0, 0, 0, String::length, key -> {
+            loads.incrementAndGet();
+            return response;
+        });
+
+        CompletableFuture<String> first = cache.get("KEY-1");
+        CompletableFuture<String> second = cache.get("KEY-1");
+        CompletableFuture<String> third = cache.get("KEY-1");
+        first.cancel(true);
+        second.cancel(true);
+        response.complete("value");
+
+        assertEquals(1, loads.get());
+        assertTrue(first.isCancelled());
+        assertEquals("value", third.get());
+        // The load was stored, so the next caller is answered from memory
+        assertEquals("value", cache.get("KEY-1").get());
+        assertEquals(1, loads.get());
+        assertFalse(response.isCancelled());
+    }
+
+    @Test
+    void cancellingEveryCallerCancelsTheLoad() throws Exception {
+        CompletableFuture<String> abandoned = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<String, String> cache = new CacheRegistry(16).create("Test", 1.0, 0, 0, String::length, key ->
+            loads.incrementAndGet() == 1 ? abandoned : CompletableFuture.completedFuture("reloaded"));
+
+        CompletableFuture<String> first = cache.get("KEY-1");
+        CompletableFuture<String> second = cache.get("KEY-1");
+        first.cancel(true);
+        assertFalse(abandoned.isCancelled());
+        second.cancel(true);
+
+        // As when the dialog that asked closes: the request is cancelled and nothing is stored
+        assertTrue(abandoned.isCancelled());
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(0, cache.getStats().getLoadFailures());
+        // The next caller starts a fresh load
+        assertEquals("reloaded", cache.get("KEY-1").get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void backgroundRefreshSurvivesCancelledCallers() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        BoundedCache<String, String> cache = new CacheRegistry(16).create("Test", 1.0, 0, 0, String::length, key -> pending);
+        cache.refresh("KEY-1");
+        // A miss joining the refresh and then giving up leaves it running
+        cache.get("KEY-1").cancel(true);
+        assertFalse(pending.isCancelled());
+        pending.complete("fresh");
+        assertEquals("fresh", cache.get("KEY-1").get());
+    }
+}
@@ -0,0 +1,79 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Repeated tool-window actions must reuse the pooled connection of the shared client instead of opening new ones.
+ */
+class JiraClientServiceTest {
+
+    private MockWebServer server;
+    private JiraClientService clientService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        clientService = new JiraClientService();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        clientService.dispose();
+        server.shutdown();
+    }
+
+    @Test
+    void repeatedCallsShareOneConnection() throws Exception {
+        OkHttpClient client = clientService.getHttpClient();
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setBody("{}"));
+            Request request = new Request.Builder().url(server.url("/rest/api/3/serverInfo")).build();
+            try (Response response = client.newCall(request).execute()) {
+                assertEquals(200, response.code());
+            }
+        }
+
+        // The sequence number is the request's index on its connection: 0, 1, 2 means one connection
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, server.takeRequest(1, TimeUnit.SECONDS).getSequenceNumber());
+        }
+    }
+
+    @Test
+    void jiraServicesOnTheSharedClientShareOneConnection() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            AsyncCallExecutor calls = new AsyncCallExecutor(clientService.getHttpClient(), Executors.newCachedThreadPool(),
+                new RateLimiter(scheduler), scheduler, new CircuitBreakerRegistry());
+            // As when the tool window and the create-issue dialog each run an action
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setBody("{\"displayName\":\"User " + i + "\"}"));
+                JiraService jiraService = new JiraService(calls, new Gson(), Executors.newCachedThreadPool());
+                jiraService.configure(server.url("/").toString(), "user", "token");
+                assertEquals("User " + i, jiraService.getCurrentUserAsync().get(5, TimeUnit.SECONDS)
+                    .get("displayName").getAsString());
+            }
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i, server.takeRequest(1, TimeUnit.SECONDS).getSequenceNumber());
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.spectra.intellij.ai.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.spectra.intellij.ai.model.JiraIssue;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JiraService#searchIssues(String)} follows {@code nextPageToken} page by page and stops requesting pages once
+ * the results are closed.
+ */
+class JqlResultsTest {
+
+    private MockWebServer server;
+    private ScheduledExecutorService scheduler;
+    private JiraService jiraService;
+    // Page token sent by each request, in arrival order; null for the first page
+    private final List<String> requestedTokens = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                JsonObject body = new Gson().fromJson(request.getBody().readUtf8(), JsonObject.class);
+                String token = body.has("nextPageToken") ? body.get("nextPageToken").getAsString() : null;
+                synchronized (requestedTokens) {
+                    requestedTokens.add(token);
+                }
+                if (token == null) {
+                    return page("\"nextPageToken\":\"page-2\",\"isLast\":false", "KEY-1", "KEY-2", "KEY-3");
+                } else if ("page-2".equals(token)) {
+                    return page("\"nextPageToken\":\"page-3\",\"isLast\":false", "KEY-4", "KEY-5", "KEY-6");
+                }
+                return page("\"isLast\":true", "KEY-7");
+            }
+        });
+        server.start();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        AsyncCallExecutor calls = new AsyncCallExecutor(new okhttp3.OkHttpClient(), Executors.newCachedThreadPool(),
+            new RateLimiter(scheduler), scheduler, new CircuitBreakerRegistry());
+        jiraService = new JiraService(calls, new Gson(), Executors.newCachedThreadPool());
+        jiraService.configure(server.url("/").toString(), "user", "token");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        scheduler.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    void followsNextPageTokenUntilTheLastPage() {
+        List<String> keys;
+        try (Stream<JiraIssue> issues = jiraService.searchIssues("project = KEY").stream()) {
+            keys = issues.map(JiraIssue::getKey).collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList("KEY-1", "KEY-2", "KEY-3", "KEY-4", "KEY-5", "KEY-6", "KEY-7"), keys);
+        assertEquals(Arrays.asList(null, "page-2", "page-3"), requestedTokens);
+    }
+
+    @Test
+    void stopsPagingWhenClosedEarly() throws Exception {
+        JqlResults<JiraIssue> results = jiraService.searchIssues("project = KEY");
+        List<String> keys;
+        try (Stream<JiraIssue> issues = results.stream()) {
+            keys = issues.limit(2).map(JiraIssue::getKey).collect(Collectors.toList());
+        }
+        assertEquals(Arrays.asList("KEY-1", "KEY-2"), keys);
+        assertFalse(results.hasNext());
+
+        // Only the first page and the prefetch of the second were requested, and closing cancelled that prefetch
+        // (possibly before it was sent); the third page is never asked for
+        Thread.sleep(200);
+        assertEquals(2, results.getPagesRequested());
+        assertTrue(server.getRequestCount() <= 2);
+        assertNull(requestedTokens.get(0));
+        assertFalse(requestedTokens.contains("page-3"));
+    }
+
+    private static MockResponse page(String paging, String... keys) {
+        String issues = Arrays.stream(keys)
+            .map(key -> "{\"id\":\"" + key.substring(4) + "\",\"key\":\"" + key + "\",\"fields\":{\"summary\":\"" + key + "\"}}")
+            .collect(Collectors.joining(","));
+        return new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"issues\":[" + issues + "]," + paging + "}");
+    }
+}
@@ -0,0 +1,167 @@
+package com.spectra.intellij.ai.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A scheduler whose time only moves when the test calls {@link #advance(long)}; delayed tasks run on the test thread
+ * once their time has come. It is also the clock ({@link #now()}, epoch-like milliseconds) of the code under test.
+ */
+final class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService, LongSupplier {
+
+    private final List<Task> tasks = new ArrayList<>();
+    private long now = 1_000_000;
+
+    long now() {
+        return now;
+    }
+
+    @Override
+    public long getAsLong() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward, running the tasks that fall due in time order.
+     */
+    void advance(long millis) {
+        long until = now + millis;
+        while (true) {
+            Task next = tasks.stream()
+                .filter(task -> !task.cancelled && task.dueAt <= until)
+                .min(Comparator.comparingLong(task -> task.dueAt))
+                .orElse(null);
+            if (next == null) {
+                break;
+            }
+            tasks.remove(next);
+            now = Math.max(now, next.dueAt);
+            next.run();
+        }
+        now = until;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Task task = new Task(command, now + unit.toMillis(delay));
+        tasks.add(task);
+        return task;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        command.run();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        // The result is not kept; the tasks under test complete futures of their own
+        return (ScheduledFuture<V>) schedule(() -> {
+            try {
+                callable.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return true;
+    }
+
+    private final class Task implements ScheduledFuture<Object> {
+        private final Runnable command;
+        private final long dueAt;
+        private boolean cancelled;
+        private boolean done;
+
+        Task(Runnable command, long dueAt) {
+            this.command = command;
+            this.dueAt = dueAt;
+        }
+
+        void run() {
+            done = true;
+            command.run();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - now, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false;
+            }
+            cancelled = true;
+            tasks.remove(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.spectra.intellij.ai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A caller that gives up while waiting for a permit must not hold up the callers behind it. Time is advanced by hand,
+ * so the refill interval (100 ms at 10 permits per second) is exact.
+ */
+class RateLimiterTest {
+
+    private static final String HOST = "example.atlassian.net";
+
+    private ManualScheduler scheduler;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ManualScheduler();
+        rateLimiter = new RateLimiter(scheduler, scheduler);
+    }
+
+    @Test
+    void cancelledWaiterReturnsItsToken() {
+        drainBurst();
+        // Next in line: one refill interval away
+        CompletableFuture<Void> abandoned = rateLimiter.acquire(HOST);
+        abandoned.cancel(true);
+
+        // Takes the abandoned slot instead of queueing behind it for 200 ms
+        CompletableFuture<Void> next = rateLimiter.acquire(HOST);
+        scheduler.advance(99);
+        assertFalse(next.isDone());
+        scheduler.advance(1);
+        assertTrue(next.isDone());
+        assertTrue(abandoned.isCancelled());
+    }
+
+    @Test
+    void waiterStillQueuesBehindLiveWaiters() {
+        drainBurst();
+        CompletableFuture<Void> first = rateLimiter.acquire(HOST);
+        CompletableFuture<Void> second = rateLimiter.acquire(HOST);
+        scheduler.advance(100);
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        scheduler.advance(100);
+        assertTrue(second.isDone());
+    }
+
+    private void drainBurst() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(rateLimiter.acquire(HOST).isDone());
+        }
+    }
+}